@@ -22,6 +22,7 @@ import static com.chutneytesting.action.spi.validation.Validator.getErrorsFrom;
 
 import com.chutneytesting.action.assertion.placeholder.PlaceholderAsserter;
 import com.chutneytesting.action.assertion.placeholder.PlaceholderAsserterUtils;
+import com.chutneytesting.action.common.JsonDocumentCache;
 import com.chutneytesting.action.spi.Action;
 import com.chutneytesting.action.spi.ActionExecutionResult;
 import com.chutneytesting.action.spi.injectable.Input;
@@ -39,6 +40,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 public class JsonAssertAction implements Action {
 
+    private static final JsonDocumentCache cache = JsonDocumentCache.shared();
+
     private final Logger logger;
     private final String document;
     private final Map<String, Object> mapExpectedResults;
@@ -62,13 +65,13 @@ public class JsonAssertAction implements Action {
     @Override
     public ActionExecutionResult execute() {
         try {
-            ReadContext json = JsonPath.parse(document, Configuration.defaultConfiguration().addOptions(Option.SUPPRESS_EXCEPTIONS));
+            ReadContext json = JsonPath.parse(cache.parse(document), Configuration.defaultConfiguration().addOptions(Option.SUPPRESS_EXCEPTIONS));
 
             AtomicBoolean matchesOk = new AtomicBoolean(true);
             mapExpectedResults.entrySet().stream().forEach(entry -> {
                     String path = entry.getKey();
                     Object expected = entry.getValue();
-                    Object actualValue = json.read(path);
+                    Object actualValue = json.read(cache.compile(path));
 
                     boolean result;
 
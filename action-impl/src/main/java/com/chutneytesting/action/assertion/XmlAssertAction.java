@@ -22,6 +22,7 @@ import static com.chutneytesting.action.spi.validation.Validator.getErrorsFrom;
 
 import com.chutneytesting.action.assertion.placeholder.PlaceholderAsserter;
 import com.chutneytesting.action.assertion.placeholder.PlaceholderAsserterUtils;
+import com.chutneytesting.action.common.XmlDocumentCache;
 import com.chutneytesting.action.common.XmlUtils;
 import com.chutneytesting.action.jakarta.domain.XmlContent;
 import com.chutneytesting.action.spi.Action;
@@ -39,11 +40,11 @@ import org.jdom2.Element;
 import org.jdom2.Text;
 import org.jdom2.filter.ContentFilter;
 import org.jdom2.filter.Filter;
-import org.jdom2.input.SAXBuilder;
-import org.jdom2.xpath.XPathExpression;
 
 public class XmlAssertAction implements Action {
 
+    private static final XmlDocumentCache cache = XmlDocumentCache.shared();
+
     private final Logger logger;
     private final String documentAsString;
     private final Map<String, Object> xpathsAndExpectedResults;
@@ -65,8 +66,7 @@ public class XmlAssertAction implements Action {
     @Override
     public ActionExecutionResult execute() {
         try {
-            SAXBuilder saxBuilder = XmlUtils.saxBuilder();
-            Document document = new XmlContent(saxBuilder, documentAsString).buildDocumentWithoutNamespaces();
+            Document document = cache.documentWithoutNamespaces(documentAsString);
             boolean assertTrue = true;
             for (Map.Entry<String, Object> xpathAndExpected : xpathsAndExpectedResults.entrySet()) {
                 String xpath = xpathAndExpected.getKey();
@@ -86,8 +86,7 @@ public class XmlAssertAction implements Action {
     }
 
     private boolean assertXpathMatchExpectation(Document document, String xpath, Object expectedResult) throws XmlUtils.InvalidXPathException {
-        XPathExpression<Object> xpathExpression = XmlUtils.compileXPath(xpath);
-        String actualResult = convertEvaluationResultToString(xpathExpression.evaluateFirst(document));
+        String actualResult = convertEvaluationResultToString(cache.evaluateFirst(xpath, Map.of(), document));
 
         Optional<PlaceholderAsserter> asserts = PlaceholderAsserterUtils.getAsserterMatching(expectedResult);
         if (asserts.isPresent()) {
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.action.assertion;
+
+import com.chutneytesting.action.common.ResourceResolver;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ExecutionException;
+import javax.xml.XMLConstants;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import org.springframework.core.io.Resource;
+import org.xml.sax.SAXException;
+
+/**
+ * Cache of compiled xsd schemas keyed by their resolved location and last modification time,
+ * so a schema is compiled again only when its main file changes.<br>
+ * Compiled schemas are thread safe, validators must be obtained from them for each validation.
+ */
+public class XsdSchemaCache {
+
+    static final int DEFAULT_MAX_SCHEMAS = 100;
+
+    private final Cache<SchemaKey, Schema> schemas;
+
+    public XsdSchemaCache() {
+        this(DEFAULT_MAX_SCHEMAS);
+    }
+
+    public XsdSchemaCache(int maxSchemas) {
+        this.schemas = CacheBuilder.newBuilder()
+            .maximumSize(maxSchemas)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * @param xsdPath  the xsd path as given to the action, from which imported xsd are resolved
+     * @param resource the resource loaded from this path
+     */
+    public Schema get(String xsdPath, Resource resource) throws SAXException, IOException {
+        SchemaKey key = new SchemaKey(xsdPath, location(resource), lastModified(resource));
+        try {
+            return schemas.get(key, () -> compile(xsdPath, resource));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwables.throwIfInstanceOf(e.getCause(), SAXException.class);
+            Throwables.throwIfInstanceOf(e.getCause(), IOException.class);
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public long size() {
+        schemas.cleanUp();
+        return schemas.size();
+    }
+
+    public CacheStats stats() {
+        return schemas.stats();
+    }
+
+    private static Schema compile(String xsdPath, Resource resource) throws SAXException, IOException {
+        SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+        factory.setResourceResolver(new ResourceResolver(xsdPath));
+        try (InputStream schemaStream = resource.getInputStream()) {
+            return factory.newSchema(new StreamSource(schemaStream));
+        }
+    }
+
+    private static String location(Resource resource) {
+        try {
+            return resource.getURL().toString();
+        } catch (IOException e) {
+            return resource.getDescription();
+        }
+    }
+
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private record SchemaKey(String xsdPath, String location, long lastModified) {
+    }
+}
@@ -20,7 +20,6 @@ import static com.chutneytesting.action.spi.validation.ActionValidatorsUtils.not
 import static com.chutneytesting.action.spi.validation.Validator.getErrorsFrom;
 import static com.chutneytesting.action.spi.validation.Validator.of;
 
-import com.chutneytesting.action.common.ResourceResolver;
 import com.chutneytesting.action.spi.Action;
 import com.chutneytesting.action.spi.ActionExecutionResult;
 import com.chutneytesting.action.spi.injectable.Input;
@@ -31,11 +30,7 @@ import java.io.StringReader;
 import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Objects;
-import javax.xml.XMLConstants;
-import javax.xml.transform.Source;
 import javax.xml.transform.stream.StreamSource;
-import javax.xml.validation.Schema;
-import javax.xml.validation.SchemaFactory;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
@@ -43,6 +38,8 @@ import org.xml.sax.SAXException;
 
 public class XsdValidationAction implements Action {
 
+    private static final XsdSchemaCache SCHEMAS = new XsdSchemaCache();
+
     private String xml;
     private String xsdPath;
     private Logger logger;
@@ -65,14 +62,8 @@ public class XsdValidationAction implements Action {
     @Override
     public ActionExecutionResult execute() {
         try {
-
-            SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-            factory.setResourceResolver(new ResourceResolver(xsdPath));
-
             Resource resource = resourceLoader.getResource(xsdPath);
-            Source schemaSource = new StreamSource(resource.getInputStream());
-            Schema schema = factory.newSchema(schemaSource);
-            javax.xml.validation.Validator validator = schema.newValidator();
+            javax.xml.validation.Validator validator = SCHEMAS.get(xsdPath, resource).newValidator();
             try (StringReader sr = new StringReader(xml)) {
                 StreamSource ss = new StreamSource(sr);
                 validator.validate(ss);
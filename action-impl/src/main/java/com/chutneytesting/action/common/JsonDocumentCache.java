@@ -0,0 +1,127 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.action.common;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.spi.json.JsonProvider;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Caches of parsed json documents and compiled json paths, shared by json actions and functions.<br>
+ * Documents are keyed by identity on the json string given as input, so a document read by several steps
+ * or SpEL functions of a step is only parsed once for as long as it is in use.<br>
+ * Parsed documents are shared and must not be modified, use {@link #copy(Object)} or {@link JsonPath#parse(String)} to get a mutable copy.
+ */
+public class JsonDocumentCache {
+
+    static final int DEFAULT_MAX_DOCUMENTS = 50;
+    static final Duration DEFAULT_DOCUMENT_EXPIRATION = Duration.ofMinutes(1);
+    static final int DEFAULT_MAX_PATHS = 1000;
+
+    private static final JsonDocumentCache SHARED = new JsonDocumentCache(DEFAULT_MAX_DOCUMENTS, DEFAULT_DOCUMENT_EXPIRATION, DEFAULT_MAX_PATHS);
+
+    private final Cache<String, Object> documents;
+    private final Cache<String, JsonPath> paths;
+
+    public JsonDocumentCache(int maxDocuments, Duration documentExpiration, int maxPaths) {
+        this.documents = CacheBuilder.newBuilder()
+            .weakKeys()
+            .maximumSize(maxDocuments)
+            .expireAfterAccess(documentExpiration)
+            .recordStats()
+            .build();
+        this.paths = CacheBuilder.newBuilder()
+            .maximumSize(maxPaths)
+            .recordStats()
+            .build();
+    }
+
+    public static JsonDocumentCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * @return the parsed json of given document, as given by the default json provider
+     */
+    public Object parse(String document) {
+        if (document == null) {
+            return JsonPath.parse(document).json();
+        }
+        return get(documents, document, () -> Configuration.defaultConfiguration().jsonProvider().parse(document));
+    }
+
+    /**
+     * @return the compiled json path
+     */
+    public JsonPath compile(String path) {
+        if (path == null) {
+            return JsonPath.compile(path);
+        }
+        return get(paths, path, () -> JsonPath.compile(path));
+    }
+
+    /**
+     * @return a deep copy of given parsed json value, of the same types as given by the default json provider
+     */
+    public Object copy(Object json) {
+        JsonProvider jsonProvider = Configuration.defaultConfiguration().jsonProvider();
+        if (jsonProvider.isMap(json)) {
+            Object copy = jsonProvider.createMap();
+            jsonProvider.getPropertyKeys(json).forEach(key -> jsonProvider.setProperty(copy, key, copy(jsonProvider.getMapValue(json, key))));
+            return copy;
+        }
+        if (jsonProvider.isArray(json)) {
+            Object copy = jsonProvider.createArray();
+            int index = 0;
+            for (Object item : jsonProvider.toIterable(json)) {
+                jsonProvider.setArrayIndex(copy, index++, copy(item));
+            }
+            return copy;
+        }
+        return json;
+    }
+
+    public long size() {
+        documents.cleanUp();
+        return documents.size();
+    }
+
+    public CacheStats documentStats() {
+        return documents.stats();
+    }
+
+    public CacheStats pathStats() {
+        return paths.stats();
+    }
+
+    private static <T> T get(Cache<String, T> cache, String key, Callable<T> loader) {
+        try {
+            return cache.get(key, loader);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.action.common;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalListener;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Cache of closeable resources shared by actions (connection pools, clients...), used through leases.<br>
+ * Resources are evicted when idle for too long, when the maximum number of resources is reached (least recently used first)
+ * or when {@link #closeAll()} is called, but an evicted resource is only closed once all its leases are released.
+ *
+ * @param <K> resource configuration
+ * @param <V> resource type
+ */
+public class LeaseCountedCache<K, V> {
+
+    private final Cache<K, Entry<V>> entries;
+
+    public LeaseCountedCache(int maxSize, Duration idleExpiration, Consumer<V> closer) {
+        this.entries = CacheBuilder.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterAccess(idleExpiration)
+            .removalListener((RemovalListener<K, Entry<V>>) notification -> notification.getValue().evict(closer))
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * @return a lease on the resource of given configuration, created if needed. It must be closed once the resource is not used anymore
+     */
+    public Lease<V> acquire(K key, Callable<V> factory) {
+        while (true) {
+            Entry<V> entry;
+            try {
+                entry = entries.get(key, () -> new Entry<>(factory.call()));
+            } catch (ExecutionException | UncheckedExecutionException e) {
+                Throwables.throwIfUnchecked(e.getCause());
+                throw new IllegalStateException(e.getCause());
+            }
+            if (entry.lease()) {
+                return new Lease<>(entry);
+            }
+            // Evicted between lookup and lease, look again
+            entries.asMap().remove(key, entry);
+        }
+    }
+
+    public long size() {
+        entries.cleanUp();
+        return entries.size();
+    }
+
+    public CacheStats stats() {
+        return entries.stats();
+    }
+
+    /**
+     * Evict all resources: unused ones are closed now, leased ones when released.
+     */
+    public void closeAll() {
+        entries.invalidateAll();
+        entries.cleanUp();
+    }
+
+    public static final class Lease<V> implements AutoCloseable {
+        private final Entry<V> entry;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Lease(Entry<V> entry) {
+            this.entry = entry;
+        }
+
+        public V value() {
+            return entry.value;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                entry.release();
+            }
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private int leases;
+        private boolean evicted;
+        private Consumer<V> closer;
+
+        private Entry(V value) {
+            this.value = value;
+        }
+
+        private synchronized boolean lease() {
+            if (evicted) {
+                return false;
+            }
+            leases++;
+            return true;
+        }
+
+        private void release() {
+            Consumer<V> closeWith;
+            synchronized (this) {
+                leases--;
+                closeWith = unusedCloser();
+            }
+            close(closeWith);
+        }
+
+        private void evict(Consumer<V> closer) {
+            Consumer<V> closeWith;
+            synchronized (this) {
+                evicted = true;
+                this.closer = closer;
+                closeWith = unusedCloser();
+            }
+            close(closeWith);
+        }
+
+        private Consumer<V> unusedCloser() {
+            if (evicted && leases == 0 && closer != null) {
+                Consumer<V> closeWith = closer;
+                closer = null;
+                return closeWith;
+            }
+            return null;
+        }
+
+        private void close(Consumer<V> closeWith) {
+            if (closeWith != null) {
+                closeWith.accept(value);
+            }
+        }
+    }
+}
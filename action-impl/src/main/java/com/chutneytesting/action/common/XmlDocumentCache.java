@@ -0,0 +1,186 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.action.common;
+
+import com.chutneytesting.action.common.XmlUtils.InvalidXPathException;
+import com.chutneytesting.action.common.XmlUtils.InvalidXmlDocumentException;
+import com.chutneytesting.action.jakarta.domain.XmlContent;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import org.jdom2.Document;
+import org.jdom2.input.SAXBuilder;
+import org.jdom2.xpath.XPathExpression;
+
+/**
+ * Caches of parsed xml documents and compiled xpaths, shared by xml actions and functions.<br>
+ * Documents are keyed by identity on the xml string given as input, so a document read by several steps
+ * or SpEL functions of a step is only parsed once for as long as it is in use.<br>
+ * Parsed documents are shared and must not be modified.
+ */
+public class XmlDocumentCache {
+
+    static final int DEFAULT_MAX_DOCUMENTS = 50;
+    static final Duration DEFAULT_DOCUMENT_EXPIRATION = Duration.ofMinutes(1);
+    static final int DEFAULT_MAX_XPATHS = 1000;
+
+    private static final XmlDocumentCache SHARED = new XmlDocumentCache(DEFAULT_MAX_DOCUMENTS, DEFAULT_DOCUMENT_EXPIRATION, DEFAULT_MAX_XPATHS);
+
+    private final Cache<String, Document> documents;
+    private final Cache<String, Document> documentsWithoutNamespaces;
+    private final Cache<XPathKey, XPathExpressions> xpaths;
+
+    public XmlDocumentCache(int maxDocuments, Duration documentExpiration, int maxXPaths) {
+        this.documents = documentCache(maxDocuments, documentExpiration);
+        this.documentsWithoutNamespaces = documentCache(maxDocuments, documentExpiration);
+        this.xpaths = CacheBuilder.newBuilder()
+            .maximumSize(maxXPaths)
+            .recordStats()
+            .build();
+    }
+
+    public static XmlDocumentCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * @see XmlUtils#toDocument(String)
+     */
+    public Document document(String documentAsString) throws InvalidXmlDocumentException {
+        try {
+            return get(documents, documentAsString, () -> XmlUtils.toDocument(documentAsString));
+        } catch (ExecutionException e) {
+            Throwables.throwIfInstanceOf(e.getCause(), InvalidXmlDocumentException.class);
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * @see XmlContent#buildDocumentWithoutNamespaces()
+     */
+    public Document documentWithoutNamespaces(String documentAsString) throws XmlContent.InvalidXmlDocumentException {
+        try {
+            return get(documentsWithoutNamespaces, documentAsString, () -> parseWithoutNamespaces(documentAsString));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static Document parseWithoutNamespaces(String documentAsString) throws XmlContent.InvalidXmlDocumentException {
+        SAXBuilder saxBuilder = XmlUtils.takeSaxBuilder();
+        try {
+            return new XmlContent(saxBuilder, documentAsString).buildDocumentWithoutNamespaces();
+        } finally {
+            XmlUtils.releaseSaxBuilder(saxBuilder);
+        }
+    }
+
+    /**
+     * Evaluate given xpath, compiled once for given namespaces, on given document.
+     *
+     * @return the first matching node or value, null when not found
+     */
+    public Object evaluateFirst(String xpath, Map<String, String> nsPrefixes, Document document) throws InvalidXPathException {
+        XPathKey key = new XPathKey(xpath, Map.copyOf(nsPrefixes));
+        XPathExpressions expressions;
+        try {
+            expressions = get(xpaths, key, () -> new XPathExpressions(key));
+        } catch (ExecutionException e) {
+            Throwables.throwIfInstanceOf(e.getCause(), InvalidXPathException.class);
+            throw new IllegalStateException(e.getCause());
+        }
+        XPathExpression<Object> expression = expressions.take();
+        try {
+            return expression.evaluateFirst(document);
+        } finally {
+            expressions.release(expression);
+        }
+    }
+
+    public long size() {
+        documents.cleanUp();
+        documentsWithoutNamespaces.cleanUp();
+        return documents.size() + documentsWithoutNamespaces.size();
+    }
+
+    public CacheStats documentStats() {
+        return documents.stats().plus(documentsWithoutNamespaces.stats());
+    }
+
+    public CacheStats xpathStats() {
+        return xpaths.stats();
+    }
+
+    private static Cache<String, Document> documentCache(int maxDocuments, Duration documentExpiration) {
+        return CacheBuilder.newBuilder()
+            .weakKeys()
+            .maximumSize(maxDocuments)
+            .expireAfterAccess(documentExpiration)
+            .recordStats()
+            .build();
+    }
+
+    private static <K, T> T get(Cache<K, T> cache, K key, Callable<T> loader) throws ExecutionException {
+        try {
+            return cache.get(key, loader);
+        } catch (UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private record XPathKey(String xpath, Map<String, String> nsPrefixes) {
+    }
+
+    /**
+     * Compiled expressions hold a navigation state and cannot be evaluated concurrently.<br>
+     * Each evaluation takes an idle expression of the pool, or compiles a new one when all are in use,
+     * so evaluations never wait for each other.
+     */
+    private static final class XPathExpressions {
+        private static final int MAX_IDLE_EXPRESSIONS = 8;
+
+        private final XPathKey key;
+        private final BlockingQueue<XPathExpression<Object>> idleExpressions = new ArrayBlockingQueue<>(MAX_IDLE_EXPRESSIONS);
+
+        private XPathExpressions(XPathKey key) throws InvalidXPathException {
+            this.key = key;
+            idleExpressions.offer(compile());
+        }
+
+        private XPathExpression<Object> take() throws InvalidXPathException {
+            XPathExpression<Object> expression = idleExpressions.poll();
+            return expression != null ? expression : compile();
+        }
+
+        private void release(XPathExpression<Object> expression) {
+            idleExpressions.offer(expression);
+        }
+
+        private XPathExpression<Object> compile() throws InvalidXPathException {
+            return XmlUtils.compileXPath(key.xpath(), key.nsPrefixes());
+        }
+    }
+}
@@ -22,6 +22,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import org.jdom2.Document;
 import org.jdom2.JDOMException;
 import org.jdom2.Namespace;
@@ -32,12 +34,18 @@ import org.jdom2.xpath.XPathFactory;
 
 public class XmlUtils {
     private static final String DISABLE_DOCTYPE_DECLARATION = "http://apache.org/xml/features/disallow-doctype-decl";
+    private static final int MAX_IDLE_SAX_BUILDERS = 8;
+    private static final BlockingQueue<SAXBuilder> IDLE_SAX_BUILDERS = new ArrayBlockingQueue<>(MAX_IDLE_SAX_BUILDERS);
+
     public static Document toDocument(String documentAsString) throws InvalidXmlDocumentException {
 
+        SAXBuilder saxBuilder = takeSaxBuilder();
         try {
-            return saxBuilder().build(new ByteArrayInputStream(documentAsString.getBytes()));
+            return saxBuilder.build(new ByteArrayInputStream(documentAsString.getBytes()));
         } catch (JDOMException | IOException e) {
             throw new InvalidXmlDocumentException(documentAsString);
+        } finally {
+            releaseSaxBuilder(saxBuilder);
         }
     }
 
@@ -77,4 +85,18 @@ public class XmlUtils {
         builder.setFeature(DISABLE_DOCTYPE_DECLARATION, true);
         return builder;
     }
+
+    /**
+     * Builders reuse their underlying parser between documents and cannot build concurrently.<br>
+     * Each parsing takes an idle builder of the pool, or creates a new one when all are in use,
+     * and must {@link #releaseSaxBuilder(SAXBuilder) release} it once done.
+     */
+    static SAXBuilder takeSaxBuilder() {
+        SAXBuilder builder = IDLE_SAX_BUILDERS.poll();
+        return builder != null ? builder : saxBuilder();
+    }
+
+    static void releaseSaxBuilder(SAXBuilder builder) {
+        IDLE_SAX_BUILDERS.offer(builder);
+    }
 }
@@ -18,6 +18,7 @@ package com.chutneytesting.action.function;
 
 import static java.util.Objects.requireNonNull;
 
+import com.chutneytesting.action.common.JsonDocumentCache;
 import com.chutneytesting.action.common.JsonUtils;
 import com.chutneytesting.action.spi.SpelFunction;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -30,6 +31,7 @@ import java.util.Map;
 public class JsonFunctions {
 
     private static final ObjectMapper om = new ObjectMapper();
+    private static final JsonDocumentCache cache = JsonDocumentCache.shared();
 
     @Deprecated
     @SpelFunction
@@ -37,9 +39,12 @@ public class JsonFunctions {
         return jsonPath(document, jsonPath);
     }
 
+    /**
+     * Objects and arrays read are copies, so they can be modified without altering the cached document.
+     */
     @SpelFunction
     public static Object jsonPath(Object document, String jsonPath) {
-        return JsonPath.parse(JsonUtils.jsonStringify(document)).read(jsonPath);
+        return cache.copy(JsonPath.parse(cache.parse(JsonUtils.jsonStringify(document))).read(cache.compile(jsonPath)));
     }
 
     @SpelFunction
@@ -50,25 +55,23 @@ public class JsonFunctions {
     @SpelFunction
     public static String jsonSet(Object document, String path, Object value) {
         return JsonPath.parse(JsonUtils.jsonStringify(document))
-            .set(path, value)
+            .set(cache.compile(path), value)
             .jsonString();
     }
 
     @SpelFunction
     public static String jsonSetMany(Object document, Map<String, Object> map) {
         DocumentContext jsonDocument = JsonPath.parse(JsonUtils.jsonStringify(document));
-        map.forEach(jsonDocument::set);
+        map.forEach((path, value) -> jsonDocument.set(cache.compile(path), value));
         return jsonDocument.jsonString();
     }
 
     @SpelFunction
     public static String jsonMerge(Object documentA, Object documentB) {
-        LinkedHashMap jsonDocA = JsonPath.parse(JsonUtils.jsonStringify(documentA)).json();
-        LinkedHashMap jsonDocB = JsonPath.parse(JsonUtils.jsonStringify(documentB)).json();
+        Map merged = new LinkedHashMap((Map) cache.parse(JsonUtils.jsonStringify(documentA)));
+        merged.putAll((Map) cache.parse(JsonUtils.jsonStringify(documentB)));
 
-        jsonDocA.putAll(jsonDocB);
-
-        return JsonPath.parse(JsonUtils.jsonStringify(jsonDocA)).jsonString();
+        return JsonPath.parse(merged).jsonString();
     }
 
 }
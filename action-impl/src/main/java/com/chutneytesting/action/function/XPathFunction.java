@@ -16,6 +16,7 @@
 
 package com.chutneytesting.action.function;
 
+import com.chutneytesting.action.common.XmlDocumentCache;
 import com.chutneytesting.action.common.XmlUtils;
 import com.chutneytesting.action.spi.SpelFunction;
 import java.util.HashMap;
@@ -28,20 +29,23 @@ import org.jdom2.Element;
 import org.jdom2.Text;
 import org.jdom2.filter.ContentFilter;
 import org.jdom2.filter.Filter;
-import org.jdom2.xpath.XPathExpression;
 
 public class XPathFunction {
 
+    private static final XmlDocumentCache cache = XmlDocumentCache.shared();
+
     @SpelFunction
     public static Object xpath(String documentAsString, String xpath) throws XmlUtils.InvalidXmlDocumentException, XmlUtils.InvalidXPathException {
         return xpathNs(documentAsString, xpath, new HashMap<>());
     }
 
+    /**
+     * Nodes found are returned as copies, so they can be modified without altering the cached document.
+     */
     @SpelFunction
     public static Object xpathNs(String documentAsString, String xpath, Map<String, String> nsPrefixes) throws XmlUtils.InvalidXmlDocumentException, XmlUtils.InvalidXPathException {
-        Document document = XmlUtils.toDocument(documentAsString);
-        XPathExpression<Object> xpathExpression = XmlUtils.compileXPath(xpath, nsPrefixes);
-        Object jDomObject = xpathExpression.evaluateFirst(document);
+        Document document = cache.document(documentAsString);
+        Object jDomObject = cache.evaluateFirst(xpath, nsPrefixes, document);
         return unwrapJdomSimpleObject(jDomObject);
     }
 
@@ -53,6 +57,10 @@ public class XPathFunction {
             result = attribute.getValue();
         } else if (jDomObject instanceof Element element) {
             result = unwrapJdomElement(element);
+        } else if (jDomObject instanceof Content content) {
+            result = content.clone();
+        } else if (jDomObject instanceof Document document) {
+            result = document.clone();
         } else {
             result = jDomObject;
         }
@@ -74,7 +82,7 @@ public class XPathFunction {
         } else if (contents.size() == 1) {
             result = unwrapJdomSimpleObject(contents.get(0));
         } else {
-            result = jDomObject;
+            result = jDomObject.clone();
         }
         return result;
     }
@@ -27,7 +27,6 @@ import com.chutneytesting.action.spi.injectable.Input;
 import com.chutneytesting.action.spi.injectable.Logger;
 import com.chutneytesting.action.spi.validation.Validator;
 import groovy.lang.Binding;
-import groovy.lang.GroovyShell;
 import groovy.lang.Script;
 import java.util.List;
 import java.util.Map;
@@ -37,6 +36,8 @@ import org.codehaus.groovy.control.CompilationFailedException;
 
 public class GroovyAction implements Action {
 
+    static final GroovyScriptCache SCRIPTS = new GroovyScriptCache();
+
     private final String scriptAsString;
     private final Map<String, Object> parameters;
     private final Logger logger;
@@ -60,8 +61,7 @@ public class GroovyAction implements Action {
     @Override
     public ActionExecutionResult execute() {
         try {
-            Script script = new GroovyShell().parse(scriptAsString);
-            script.setBinding(getBindingFromMap(parameters));
+            Script script = SCRIPTS.create(scriptAsString, getBindingFromMap(parameters));
 
             Map<String, Object> result = (Map<String, Object>) script.run();
 
@@ -14,19 +14,19 @@
  * limitations under the License.
  */
 
-package com.chutneytesting.execution.api.report.surefire;
 
-import java.util.Set;
+package com.chutneytesting.action.groovy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 
 /**
- * Represents data needed to create campaign-named folder in surefire reports ZIP.
+ * Publish size and hit rate of the compiled scripts cache shared by {@link GroovyAction}.
  */
-class CampaignReportFolder {
-    final String name;
-    final Set<Testsuite> scenariosReport;
+public class GroovyActionMeters implements MeterBinder {
 
-    CampaignReportFolder(String name, Set<Testsuite> scenariosReport) {
-        this.name = name;
-        this.scenariosReport = scenariosReport;
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        GroovyAction.SCRIPTS.bindTo(registry);
     }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.action.groovy;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalListener;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import groovy.lang.Binding;
+import groovy.lang.GroovyClassLoader;
+import groovy.lang.GroovyShell;
+import groovy.lang.Script;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import org.codehaus.groovy.runtime.InvokerHelper;
+
+/**
+ * Cache of compiled groovy script classes keyed by the hash of their content,
+ * so successive groovy steps with the same script are not compiled again.<br>
+ * Each script is compiled by its own class loader, closed when the script is evicted (least recently used first)
+ * so its class can be unloaded.
+ */
+public class GroovyScriptCache implements MeterBinder {
+
+    static final int DEFAULT_MAX_SCRIPTS = 500;
+
+    private final Cache<String, CompiledScript> scripts;
+
+    public GroovyScriptCache() {
+        this(DEFAULT_MAX_SCRIPTS);
+    }
+
+    public GroovyScriptCache(int maxScripts) {
+        this.scripts = CacheBuilder.newBuilder()
+            .maximumSize(maxScripts)
+            .removalListener((RemovalListener<String, CompiledScript>) notification -> notification.getValue().unload())
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * @return a new instance of the compiled script, running with given binding
+     */
+    public Script create(String scriptAsString, Binding binding) {
+        String key = Hashing.sha256().hashString(scriptAsString, UTF_8).toString();
+        try {
+            return InvokerHelper.createScript(scripts.get(key, () -> compile(scriptAsString)).scriptClass(), binding);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public long size() {
+        scripts.cleanUp();
+        return scripts.size();
+    }
+
+    public CacheStats stats() {
+        return scripts.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("groovy_script_cache_size", this, GroovyScriptCache::size).register(registry);
+        Gauge.builder("groovy_script_cache_hit_rate", this, cache -> cache.stats().hitRate()).register(registry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CompiledScript compile(String scriptAsString) {
+        GroovyClassLoader classLoader = new GroovyClassLoader(GroovyShell.class.getClassLoader());
+        return new CompiledScript(classLoader, (Class<? extends Script>) classLoader.parseClass(scriptAsString));
+    }
+
+    private record CompiledScript(GroovyClassLoader classLoader, Class<? extends Script> scriptClass) {
+
+        private void unload() {
+            InvokerHelper.removeClass(scriptClass);
+            classLoader.clearCache();
+            try {
+                classLoader.close();
+            } catch (IOException e) {
+                // Nothing more can be done to release the class
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.action.http.domain;
+
+import com.chutneytesting.action.common.LeaseCountedCache;
+import com.chutneytesting.action.common.LeaseCountedCache.Lease;
+import com.google.common.cache.CacheStats;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.core5.io.CloseMode;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Cache of {@link RestTemplate} keyed by their configuration (target url, security, proxy and timeout),
+ * so successive http steps on the same target reuse kept-alive connections instead of new TCP and TLS handshakes.<br>
+ * Clients are evicted when idle for too long, when the maximum number of clients is reached (least recently used first)
+ * or when {@link #closeAll()} is called. An evicted client is closed once no request leases it anymore.
+ */
+public class HttpClientCache {
+
+    static final int DEFAULT_MAX_CLIENTS = 20;
+    static final Duration DEFAULT_IDLE_EXPIRATION = Duration.ofMinutes(5);
+
+    private final LeaseCountedCache<Map<String, String>, PooledClient> clients;
+
+    public HttpClientCache() {
+        this(DEFAULT_MAX_CLIENTS, DEFAULT_IDLE_EXPIRATION);
+    }
+
+    public HttpClientCache(int maxClients, Duration idleExpiration) {
+        this.clients = new LeaseCountedCache<>(maxClients, idleExpiration, client -> client.httpClient().close(CloseMode.GRACEFUL));
+    }
+
+    /**
+     * @return a lease on the client of given configuration, to close once the request is done
+     */
+    public Lease<PooledClient> acquire(Map<String, String> configuration, Callable<PooledClient> clientFactory) {
+        return clients.acquire(Map.copyOf(configuration), clientFactory);
+    }
+
+    public long size() {
+        return clients.size();
+    }
+
+    public CacheStats stats() {
+        return clients.stats();
+    }
+
+    public void closeAll() {
+        clients.closeAll();
+    }
+
+    /**
+     * @param restTemplate used by http steps
+     * @param httpClient   holding the connection pool of the rest template, closed on removal from the cache
+     */
+    public record PooledClient(RestTemplate restTemplate, CloseableHttpClient httpClient) {
+    }
+}
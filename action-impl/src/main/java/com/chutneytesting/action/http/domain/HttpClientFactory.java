@@ -22,6 +22,7 @@ import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
 
+import com.chutneytesting.action.common.LeaseCountedCache.Lease;
 import com.chutneytesting.action.spi.injectable.Logger;
 import com.chutneytesting.action.spi.injectable.Target;
 import java.net.MalformedURLException;
@@ -29,11 +30,15 @@ import java.net.ProxySelector;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.net.ssl.SSLContext;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
@@ -45,6 +50,7 @@ import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.util.TimeValue;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.client.support.BasicAuthenticationInterceptor;
@@ -54,6 +60,20 @@ import org.springframework.web.client.RestTemplate;
 public class HttpClientFactory {
 
     private static final String PROXY_PROPERTY = "proxy";
+    private static final int MAX_CONNECTIONS_PER_TARGET = 20;
+    private static final TimeValue IDLE_CONNECTION_EVICTION = TimeValue.ofMinutes(1);
+    private static final HttpClientCache CLIENTS = new HttpClientCache();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(HttpClientFactory::closeAll, "http-clients-shutdown"));
+    }
+
+    /**
+     * Close all pooled clients, leased ones once their request is done.
+     */
+    public static void closeAll() {
+        CLIENTS.closeAll();
+    }
 
     /**
      * @return an {@link HttpClient} depending on given {@link Target} able to handle:
@@ -67,14 +87,35 @@ public class HttpClientFactory {
      * </ul>
      * </li>
      * </ul>
+     * Clients are shared by all steps with the same target configuration and timeout, and leased for the time of each request.<br>
+     * They do not keep cookies, so no step sees the ones received by another.
      */
     public HttpClient create(Logger logger, Target target, Class<String> responseType, int timeout) {
-        RestTemplate restTemplate = buildRestTemplate(logger, target, timeout);
+        final Optional<HttpRoutePlanner> httpRoutePlanner = getProxyConfiguration(logger, target);
+        final Map<String, String> clientConfiguration = clientConfiguration(target, timeout);
+
+        return (httpMethod, resource, input) -> {
+            try (Lease<HttpClientCache.PooledClient> client = CLIENTS.acquire(clientConfiguration, () -> buildClient(target, timeout, httpRoutePlanner))) {
+                return client.value().restTemplate().exchange(target.uri().toString() + resource, httpMethod, input, responseType);
+            }
+        };
+    }
 
-        return (httpMethod, resource, input) -> restTemplate.exchange(target.uri().toString() + resource, httpMethod, input, responseType);
+    private static Map<String, String> clientConfiguration(Target target, int timeout) {
+        Map<String, String> configuration = new HashMap<>();
+        configuration.put("url", target.uri().toString());
+        configuration.put("timeout", String.valueOf(timeout));
+        Stream.of("sslProtocol", "trustStore", "trustStorePassword", "keyStore", "keyStorePassword", "keyPassword", PROXY_PROPERTY)
+            .forEach(property -> target.property(property).ifPresent(value -> configuration.put(property, value)));
+        target.user().ifPresent(user -> configuration.put("user", user));
+        target.userPassword().ifPresent(password -> configuration.put("password", password));
+        if (isSystemProxySet()) {
+            configuration.put("systemProxy", Stream.of("http.proxyHost", "https.proxyHost").map(System::getProperty).map(String::valueOf).collect(Collectors.joining(",")));
+        }
+        return configuration;
     }
 
-    private static RestTemplate buildRestTemplate(Logger logger, Target target, int timeout) {
+    private static HttpClientCache.PooledClient buildClient(Target target, int timeout, Optional<HttpRoutePlanner> httpRoutePlanner) {
 
         SSLContext sslContext;
         try {
@@ -88,19 +129,26 @@ public class HttpClientFactory {
         final HttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
             .setSSLSocketFactory(socketFactory)
             .setDefaultSocketConfig(SocketConfig.custom().setSoTimeout(timeout, TimeUnit.MILLISECONDS).build())
+            .setMaxConnPerRoute(MAX_CONNECTIONS_PER_TARGET)
+            .setMaxConnTotal(MAX_CONNECTIONS_PER_TARGET)
             .build();
-        final HttpClientBuilder httpClient = HttpClients.custom().setConnectionManager(connectionManager);
+        final HttpClientBuilder httpClientBuilder = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .evictExpiredConnections()
+            .evictIdleConnections(IDLE_CONNECTION_EVICTION)
+            .disableCookieManagement();
 
-        final Optional<HttpRoutePlanner> httpRoutePlanner = getProxyConfiguration(logger, target);
-        httpRoutePlanner.ifPresent(httpClient::setRoutePlanner);
+        httpRoutePlanner.ifPresent(httpClientBuilder::setRoutePlanner);
 
-        final HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient.build());
+        final CloseableHttpClient httpClient = httpClientBuilder.build();
+        final HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
         requestFactory.setConnectTimeout(timeout);
+        requestFactory.setConnectionRequestTimeout(timeout);
 
         final RestTemplate restTemplate = new RestTemplate(requestFactory);
         configureBasicAuth(target, restTemplate);
         removeErrorHandler(restTemplate);
-        return restTemplate;
+        return new HttpClientCache.PooledClient(restTemplate, httpClient);
     }
 
     private static Optional<HttpRoutePlanner> getProxyConfiguration(Logger logger, Target target) {
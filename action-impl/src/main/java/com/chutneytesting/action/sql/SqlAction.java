@@ -73,11 +73,10 @@ public class SqlAction implements Action {
 
     @Override
     public ActionExecutionResult execute() {
-        SqlClient sqlClient = clientFactory.create(target);
-        try {
-            var records = new ArrayList<Records>();
-            Map<String, Object> outputs = new HashMap<>();
-            AtomicBoolean failure = new AtomicBoolean(false);
+        var records = new ArrayList<Records>();
+        Map<String, Object> outputs = new HashMap<>();
+        AtomicBoolean failure = new AtomicBoolean(false);
+        try (SqlClient sqlClient = clientFactory.create(target)) {
             statements.forEach(statement -> {
                 try {
                     Records result = sqlClient.execute(statement);
@@ -93,21 +92,17 @@ public class SqlAction implements Action {
                     failure.set(true);
                 }
             });
+        }
 
-            if (statements.size() == 1) {
-                outputs.put("affectedRows", records.get(0).affectedRows);
-                outputs.put("rows", records.get(0).rows()); // All rows result from the first statement only
-                outputs.put("firstRow", records.get(0).rows().get(0)); // First row of the first statement
-                outputs.put("recordResult", records); // List of all results from each statement // TODO - remove after user migration
-            } else {
-                outputs.put("recordResult", records); // List of all results from each statement
-            }
-
-            return failure.get() ? ActionExecutionResult.ko(outputs) : ActionExecutionResult.ok(outputs);
-        } finally {
-            if (sqlClient != null) {
-                sqlClient.closeDatasource();
-            }
+        if (statements.size() == 1) {
+            outputs.put("affectedRows", records.get(0).affectedRows);
+            outputs.put("rows", records.get(0).rows()); // All rows result from the first statement only
+            outputs.put("firstRow", records.get(0).rows().get(0)); // First row of the first statement
+            outputs.put("recordResult", records); // List of all results from each statement // TODO - remove after user migration
+        } else {
+            outputs.put("recordResult", records); // List of all results from each statement
         }
+
+        return failure.get() ? ActionExecutionResult.ko(outputs) : ActionExecutionResult.ok(outputs);
     }
 }
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.action.sql.core;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Column oriented storage of a query result.<br>
+ * Integer, long and double columns are held in primitive arrays, other columns in object arrays.
+ * {@link Row} and {@link Cell} are only created when accessed, through {@link #rows()}.
+ */
+class ColumnarTable {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final List<Column> columns;
+    private final ColumnValues[] values;
+    private int size = 0;
+
+    ColumnarTable(List<Column> columns) {
+        this.columns = columns;
+        this.values = new ColumnValues[columns.size()];
+        Arrays.setAll(values, i -> new PendingValues());
+    }
+
+    void add(Object[] row) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = values[i].set(size, row[i]);
+        }
+        size++;
+    }
+
+    Object get(int rowIndex, int columnIndex) {
+        if (rowIndex < 0 || rowIndex >= size) {
+            throw new IndexOutOfBoundsException("Row index " + rowIndex + " out of bounds for length " + size);
+        }
+        return values[columnIndex].get(rowIndex);
+    }
+
+    int size() {
+        return size;
+    }
+
+    List<Row> rows() {
+        return new RowsView();
+    }
+
+    private class RowsView extends AbstractList<Row> implements RandomAccess {
+        @Override
+        public Row get(int index) {
+            return new Row(new CellsView(index));
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private class CellsView extends AbstractList<Cell> implements RandomAccess {
+        private final int rowIndex;
+
+        private CellsView(int rowIndex) {
+            this.rowIndex = rowIndex;
+        }
+
+        @Override
+        public Cell get(int index) {
+            return new Cell(columns.get(index), ColumnarTable.this.get(rowIndex, index));
+        }
+
+        @Override
+        public int size() {
+            return columns.size();
+        }
+    }
+
+    private interface ColumnValues {
+        /**
+         * @return the storage holding the value, which may be a new one if value type does not fit this one
+         */
+        ColumnValues set(int index, Object value);
+
+        Object get(int index);
+    }
+
+    /**
+     * Storage of a column without any value yet, choosing the actual storage on first value.
+     */
+    private static class PendingValues implements ColumnValues {
+        @Override
+        public ColumnValues set(int index, Object value) {
+            ColumnValues storage;
+            if (value instanceof Integer) {
+                storage = new IntValues();
+            } else if (value instanceof Long) {
+                storage = new LongValues();
+            } else if (value instanceof Double) {
+                storage = new DoubleValues();
+            } else {
+                storage = new ObjectValues(INITIAL_CAPACITY);
+            }
+            return storage.set(index, value);
+        }
+
+        @Override
+        public Object get(int index) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    private static class ObjectValues implements ColumnValues {
+        private Object[] values;
+
+        private ObjectValues(int capacity) {
+            values = new Object[Math.max(capacity, INITIAL_CAPACITY)];
+        }
+
+        @Override
+        public ColumnValues set(int index, Object value) {
+            if (index >= values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            values[index] = value;
+            return this;
+        }
+
+        @Override
+        public Object get(int index) {
+            return values[index];
+        }
+    }
+
+    private abstract static class PrimitiveValues implements ColumnValues {
+        int size = 0;
+
+        @Override
+        public ColumnValues set(int index, Object value) {
+            if (!accept(value)) {
+                return toObjectValues().set(index, value);
+            }
+            ensureCapacity(index + 1);
+            store(index, value);
+            size = index + 1;
+            return this;
+        }
+
+        private ColumnValues toObjectValues() {
+            ObjectValues objectValues = new ObjectValues(size + 1);
+            for (int i = 0; i < size; i++) {
+                objectValues.set(i, get(i));
+            }
+            return objectValues;
+        }
+
+        abstract boolean accept(Object value);
+
+        abstract void ensureCapacity(int capacity);
+
+        abstract void store(int index, Object value);
+    }
+
+    private static class IntValues extends PrimitiveValues {
+        private int[] values = new int[INITIAL_CAPACITY];
+
+        @Override
+        boolean accept(Object value) {
+            return value instanceof Integer;
+        }
+
+        @Override
+        void ensureCapacity(int capacity) {
+            if (capacity > values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+        }
+
+        @Override
+        void store(int index, Object value) {
+            values[index] = (Integer) value;
+        }
+
+        @Override
+        public Object get(int index) {
+            return values[index];
+        }
+    }
+
+    private static class LongValues extends PrimitiveValues {
+        private long[] values = new long[INITIAL_CAPACITY];
+
+        @Override
+        boolean accept(Object value) {
+            return value instanceof Long;
+        }
+
+        @Override
+        void ensureCapacity(int capacity) {
+            if (capacity > values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+        }
+
+        @Override
+        void store(int index, Object value) {
+            values[index] = (Long) value;
+        }
+
+        @Override
+        public Object get(int index) {
+            return values[index];
+        }
+    }
+
+    private static class DoubleValues extends PrimitiveValues {
+        private double[] values = new double[INITIAL_CAPACITY];
+
+        @Override
+        boolean accept(Object value) {
+            return value instanceof Double;
+        }
+
+        @Override
+        void ensureCapacity(int capacity) {
+            if (capacity > values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+        }
+
+        @Override
+        void store(int index, Object value) {
+            values[index] = (Double) value;
+        }
+
+        @Override
+        public Object get(int index) {
+            return values[index];
+        }
+    }
+}
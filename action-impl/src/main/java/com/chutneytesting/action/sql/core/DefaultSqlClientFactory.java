@@ -17,13 +17,25 @@
 package com.chutneytesting.action.sql.core;
 
 import com.chutneytesting.action.spi.injectable.Target;
-import com.zaxxer.hikari.HikariConfig;
-import com.zaxxer.hikari.HikariDataSource;
 import java.util.Properties;
 
 public class DefaultSqlClientFactory implements SqlClientFactory {
 
+    private static final SqlDataSourceCache DATA_SOURCES = new SqlDataSourceCache();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DefaultSqlClientFactory::closeAll, "sql-datasources-shutdown"));
+    }
+
+    /**
+     * Close all pooled data sources, leased ones once released.
+     */
+    public static void closeAll() {
+        DATA_SOURCES.closeAll();
+    }
+
     private final int DEFAULT_MAX_FETCH_SIZE = 1000;
+    private final String DEFAULT_MINIMUM_IDLE = "1";
 
     @Override
     public SqlClient create(Target target) {
@@ -36,10 +48,12 @@ public class DefaultSqlClientFactory implements SqlClientFactory {
         target.user().ifPresent(user -> props.put("username", user));
         target.userPassword().ifPresent(password -> props.put("password", password));
 
-        props.putAll(target.prefixedProperties("dataSource."));
-        final HikariConfig config = new HikariConfig(props);
-        final HikariDataSource ds = new HikariDataSource(config);
+        props.put("minimumIdle", target.property("minimumIdle").orElse(DEFAULT_MINIMUM_IDLE)); // Cached pools should not keep a full set of idle connections
 
-        return new SqlClient(ds, target.numericProperty("maxFetchSize").map(Number::intValue).orElse(DEFAULT_MAX_FETCH_SIZE));
+        props.putAll(target.prefixedProperties("dataSource."));
+        return new SqlClient(DATA_SOURCES.acquire(props),
+            target.numericProperty("maxFetchSize").map(Number::intValue).orElse(DEFAULT_MAX_FETCH_SIZE),
+            target.numericProperty("maxRows").map(Number::intValue).orElse(SqlClient.DEFAULT_MAX_ROWS)
+        );
     }
 }
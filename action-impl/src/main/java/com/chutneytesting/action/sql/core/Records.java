@@ -18,6 +18,7 @@ package com.chutneytesting.action.sql.core;
 
 import static java.util.stream.Collectors.toList;
 
+import com.google.common.collect.Lists;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -39,7 +40,7 @@ public class Records {
         this.records = records;
 
         this.headers = this.columns.stream().map(Column::name).collect(toList());
-        this.rows = this.records.stream().map(r -> r.cells).map(l -> l.stream().map(c -> c.value).collect(toList())).collect(toList());
+        this.rows = Lists.transform(this.records, r -> Lists.transform(r.cells, c -> c.value)); // View, so rows are not held twice
     }
 
     List<String> getHeaders() {
@@ -21,8 +21,8 @@ import static com.chutneytesting.tools.ChutneyMemoryInfo.maxMemory;
 import static com.chutneytesting.tools.ChutneyMemoryInfo.usedMemory;
 import static org.apache.commons.lang3.ClassUtils.isPrimitiveOrWrapper;
 
+import com.chutneytesting.action.common.LeaseCountedCache.Lease;
 import com.chutneytesting.tools.NotEnoughMemoryException;
-import com.zaxxer.hikari.HikariDataSource;
 import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.Date;
@@ -38,16 +38,37 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import javax.sql.DataSource;
 
-public class SqlClient {
+public class SqlClient implements AutoCloseable {
 
-    private final HikariDataSource dataSource;
+    static final int DEFAULT_MAX_ROWS = 100000;
+
+    private final DataSource dataSource;
+    private final Lease<? extends DataSource> dataSourceLease;
     private final int maxFetchSize;
+    private final int maxRows;
+
+    public SqlClient(DataSource dataSource, int maxFetchSize) {
+        this(dataSource, maxFetchSize, DEFAULT_MAX_ROWS);
+    }
+
+    public SqlClient(DataSource dataSource, int maxFetchSize, int maxRows) {
+        this(dataSource, null, maxFetchSize, maxRows);
+    }
 
+    /**
+     * @param dataSourceLease lease on a shared data source, released when this client is closed
+     */
+    public SqlClient(Lease<? extends DataSource> dataSourceLease, int maxFetchSize, int maxRows) {
+        this(dataSourceLease.value(), dataSourceLease, maxFetchSize, maxRows);
+    }
 
-    public SqlClient(HikariDataSource dataSource, int maxFetchSize) {
+    private SqlClient(DataSource dataSource, Lease<? extends DataSource> dataSourceLease, int maxFetchSize, int maxRows) {
         this.dataSource = dataSource;
+        this.dataSourceLease = dataSourceLease;
         this.maxFetchSize = maxFetchSize;
+        this.maxRows = maxRows;
     }
 
     public Records execute(String query) throws SQLException {
@@ -58,7 +79,7 @@ public class SqlClient {
             try (final Statement statement = connection.createStatement()) {
                 statement.setFetchSize(maxFetchSize);
                 statement.execute(query);
-                records = StatementConverter.createRecords(statement);
+                records = StatementConverter.createRecords(statement, maxRows);
             }
         } finally {
             silentClose(connection);
@@ -67,8 +88,11 @@ public class SqlClient {
         return records;
     }
 
-    public void closeDatasource() {
-        this.dataSource.close();
+    @Override
+    public void close() {
+        if (dataSourceLease != null) {
+            dataSourceLease.close();
+        }
     }
 
     public Records emptyRecords() {
@@ -87,7 +111,7 @@ public class SqlClient {
 
     private static class StatementConverter {
 
-        private static Records createRecords(Statement statement) throws SQLException {
+        private static Records createRecords(Statement statement, int maxRows) throws SQLException {
             final int affectedRows = statement.getUpdateCount();
             List<Column> columns = Collections.emptyList();
             List<Row> rows = Collections.emptyList();
@@ -97,7 +121,7 @@ public class SqlClient {
                     final ResultSetMetaData md = rs.getMetaData();
 
                     columns = createHeaders(md, md.getColumnCount());
-                    rows = createRows(rs, columns, md.getColumnCount());
+                    rows = createRows(rs, columns, md.getColumnCount(), maxRows);
                 }
             }
 
@@ -117,26 +141,24 @@ public class SqlClient {
             return headers;
         }
 
-        private static List<Row> createRows(ResultSet rs, List<Column> columns, int columnCount) throws SQLException {
-            final var rows = new ArrayList<Row>();
-            int j = 0;
+        private static List<Row> createRows(ResultSet rs, List<Column> columns, int columnCount, int maxRows) throws SQLException {
+            final var table = new ColumnarTable(columns);
             while (rs.next()) {
-                if (j++ > 100000) {
+                if (table.size() > maxRows) {
                     throw new NonOptimizedQueryException();
                 }
 
                 if (!hasEnoughAvailableMemory()) {
-                    throw new NotEnoughMemoryException(usedMemory(), maxMemory(), "Query fetched " + rows.size() + " rows");
+                    throw new NotEnoughMemoryException(usedMemory(), maxMemory(), "Query fetched " + table.size() + " rows");
                 }
 
-                final List<Cell> cells = new ArrayList<>(columnCount);
-                int columnIndex = 0;
+                final Object[] values = new Object[columnCount];
                 for (int i = 1; i <= columnCount; i++) {
-                    cells.add(new Cell(columns.get(columnIndex++), boxed(rs, i)));
+                    values[i - 1] = boxed(rs, i);
                 }
-                rows.add(new Row(cells));
+                table.add(values);
             }
-            return rows;
+            return table.rows();
         }
 
         private static Object boxed(ResultSet rs, int i) throws SQLException {
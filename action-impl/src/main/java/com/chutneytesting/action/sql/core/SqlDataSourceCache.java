@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.action.sql.core;
+
+import static io.micrometer.core.instrument.Metrics.globalRegistry;
+
+import com.chutneytesting.action.common.LeaseCountedCache;
+import com.chutneytesting.action.common.LeaseCountedCache.Lease;
+import com.google.common.cache.CacheStats;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Meter;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cache of {@link HikariDataSource} keyed by their configuration (jdbc url, credentials and data source properties),
+ * so successive sql steps on the same database reuse warm connections.<br>
+ * Pools are evicted when idle for too long, when the maximum number of pools is reached (least recently used first)
+ * or when {@link #closeAll()} is called. An evicted pool is closed, and its meters removed, once no step leases it anymore.
+ */
+public class SqlDataSourceCache {
+
+    static final int DEFAULT_MAX_POOLS = 20;
+    static final Duration DEFAULT_IDLE_EXPIRATION = Duration.ofMinutes(5);
+    private static final String POOL_NAME_PREFIX = "chutney-sql-";
+    private static final String POOL_METER_TAG = "pool";
+
+    private final AtomicInteger poolCounter = new AtomicInteger();
+    private final LeaseCountedCache<Map<Object, Object>, HikariDataSource> dataSources;
+
+    public SqlDataSourceCache() {
+        this(DEFAULT_MAX_POOLS, DEFAULT_IDLE_EXPIRATION);
+    }
+
+    public SqlDataSourceCache(int maxPools, Duration idleExpiration) {
+        this.dataSources = new LeaseCountedCache<>(maxPools, idleExpiration, SqlDataSourceCache::close);
+    }
+
+    /**
+     * @return a lease on the pool of given configuration, to close once the step is done with it
+     */
+    public Lease<HikariDataSource> acquire(Properties configuration) {
+        return dataSources.acquire(Map.copyOf(configuration), () -> create(configuration));
+    }
+
+    public long size() {
+        return dataSources.size();
+    }
+
+    public CacheStats stats() {
+        return dataSources.stats();
+    }
+
+    public void closeAll() {
+        dataSources.closeAll();
+    }
+
+    private HikariDataSource create(Properties configuration) {
+        HikariConfig config = new HikariConfig(configuration);
+        config.setPoolName(POOL_NAME_PREFIX + poolCounter.incrementAndGet());
+        config.setMetricRegistry(globalRegistry);
+        return new HikariDataSource(config);
+    }
+
+    private static void close(HikariDataSource dataSource) {
+        dataSource.close();
+        List<Meter> poolMeters = globalRegistry.getMeters().stream()
+            .filter(meter -> dataSource.getPoolName().equals(meter.getId().getTag(POOL_METER_TAG)))
+            .toList();
+        poolMeters.forEach(globalRegistry::remove);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.action.assertion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import javax.xml.validation.Schema;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.ResourceLoader;
+import org.xml.sax.SAXException;
+
+public class XsdSchemaCacheTest {
+
+    private final XsdSchemaCache sut = new XsdSchemaCache(2);
+    private final ResourceLoader resourceLoader = new DefaultResourceLoader(XsdSchemaCacheTest.class.getClassLoader());
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void should_compile_same_schema_once() throws Exception {
+        String xsd = "/xsd_samples/employee.xsd";
+
+        Schema first = sut.get(xsd, resourceLoader.getResource(xsd));
+        Schema second = sut.get(xsd, resourceLoader.getResource(xsd));
+
+        assertThat(second).isSameAs(first);
+        assertThat(sut.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_compile_schema_again_when_modified() throws Exception {
+        Path xsdFile = tempDir.resolve("simple.xsd");
+        Files.writeString(xsdFile, """
+            <schema xmlns="http://www.w3.org/2001/XMLSchema">
+                <element name="simple" type="string"/>
+            </schema>""");
+        String xsd = "file:" + xsdFile;
+
+        Schema first = sut.get(xsd, resourceLoader.getResource(xsd));
+        Files.setLastModifiedTime(xsdFile, FileTime.from(Instant.now().plusSeconds(10)));
+        Schema second = sut.get(xsd, resourceLoader.getResource(xsd));
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(sut.stats().missCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_not_cache_invalid_schema() {
+        String xsd = "/xsd_samples/shipto.xml";
+
+        assertThatThrownBy(() -> sut.get(xsd, resourceLoader.getResource(xsd))).isInstanceOf(SAXException.class);
+
+        assertThat(sut.size()).isZero();
+    }
+}
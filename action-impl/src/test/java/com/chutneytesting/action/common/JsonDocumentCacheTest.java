@@ -0,0 +1,67 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.action.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.jayway.jsonpath.InvalidJsonException;
+import com.jayway.jsonpath.InvalidPathException;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+public class JsonDocumentCacheTest {
+
+    private final JsonDocumentCache sut = new JsonDocumentCache(2, Duration.ofMinutes(1), 2);
+
+    @Test
+    public void should_parse_same_document_instance_once() {
+        String document = "{\"key\": \"value\"}";
+
+        Object first = sut.parse(document);
+        Object second = sut.parse(document);
+
+        assertThat(second).isSameAs(first);
+        assertThat(sut.documentStats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_key_documents_on_identity() {
+        String document = "{\"key\": \"value\"}";
+        String equalDocument = new String(document);
+
+        Object first = sut.parse(document);
+        Object second = sut.parse(equalDocument);
+
+        assertThat(second).isNotSameAs(first).isEqualTo(first);
+        assertThat(sut.documentStats().missCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_compile_same_path_once() {
+        assertThat(sut.compile("$.key")).isSameAs(sut.compile("$.key"));
+        assertThat(sut.pathStats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_not_cache_invalid_json_nor_path() {
+        assertThatThrownBy(() -> sut.parse("{invalid")).isInstanceOf(InvalidJsonException.class);
+        assertThatThrownBy(() -> sut.compile("$.[")).isInstanceOf(InvalidPathException.class);
+
+        assertThat(sut.size()).isZero();
+    }
+}
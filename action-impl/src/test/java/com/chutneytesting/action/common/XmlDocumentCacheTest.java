@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.action.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.chutneytesting.action.common.XmlUtils.InvalidXPathException;
+import com.chutneytesting.action.common.XmlUtils.InvalidXmlDocumentException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.jdom2.Attribute;
+import org.jdom2.Document;
+import org.junit.jupiter.api.Test;
+
+public class XmlDocumentCacheTest {
+
+    private final XmlDocumentCache sut = new XmlDocumentCache(2, Duration.ofMinutes(1), 2);
+
+    @Test
+    public void should_parse_same_document_instance_once() throws Exception {
+        String document = "<root><ns:node xmlns:ns=\"urn:ns\" att=\"value\"/></root>";
+
+        Document first = sut.document(document);
+        Document second = sut.document(document);
+
+        assertThat(second).isSameAs(first);
+        assertThat(sut.document(new String(document))).isNotSameAs(first);
+        assertThat(sut.documentWithoutNamespaces(document)).isNotSameAs(first);
+        assertThat(sut.documentStats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_compile_xpath_once_per_namespaces() throws Exception {
+        Document document = sut.document("<root><ns:node xmlns:ns=\"urn:ns\" att=\"value\"/></root>");
+
+        Object found = sut.evaluateFirst("/root/ns:node/@att", Map.of("ns", "urn:ns"), document);
+        sut.evaluateFirst("/root/ns:node/@att", Map.of("ns", "urn:ns"), document);
+        Object notFound = sut.evaluateFirst("/root/ns:node/@att", Map.of("ns", "urn:other"), document);
+
+        assertThat(found).isInstanceOfSatisfying(Attribute.class, att -> assertThat(att.getValue()).isEqualTo("value"));
+        assertThat(notFound).isNull();
+        assertThat(sut.xpathStats().hitCount()).isEqualTo(1);
+        assertThat(sut.xpathStats().missCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_evaluate_same_xpath_concurrently() throws Exception {
+        Document document = sut.document("<root><node att=\"value\"/></root>");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Object>> evaluations = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                evaluations.add(executor.submit(() -> ((Attribute) sut.evaluateFirst("/root/node/@att", Map.of(), document)).getValue()));
+            }
+            for (Future<Object> evaluation : evaluations) {
+                assertThat(evaluation.get()).isEqualTo("value");
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(sut.xpathStats().loadSuccessCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_not_cache_invalid_document_nor_xpath() throws Exception {
+        assertThatThrownBy(() -> sut.document("<invalid")).isInstanceOf(InvalidXmlDocumentException.class);
+        Document document = sut.document("<root/>");
+        assertThatThrownBy(() -> sut.evaluateFirst("/root[", Map.of(), document)).isInstanceOf(InvalidXPathException.class);
+
+        assertThat(sut.size()).isEqualTo(1);
+        assertThat(sut.xpathStats().missCount()).isEqualTo(1);
+    }
+}
@@ -41,6 +41,18 @@ public class JsonFunctionsTest {
         assertThat(result).isInstanceOfSatisfying(Map.class, map -> assertThat(map).containsEntry("key1", 42));
     }
 
+    @Test
+    public void extracted_objects_can_be_modified_without_altering_the_document() {
+        String json = "{\"dev\":{\"name\":\"Bruce\", \"skills\":[\"money\"]}}";
+
+        Map<String, Object> dev = (Map<String, Object>) JsonFunctions.jsonPath(json, "$.dev");
+        dev.put("name", "Batman");
+        ((List<Object>) dev.get("skills")).add("gadgets");
+
+        assertThat(JsonFunctions.jsonPath(json, "$.dev.name")).isEqualTo("Bruce");
+        assertThat((List<Object>) JsonFunctions.jsonPath(json, "$.dev.skills")).containsExactly("money");
+    }
+
     @Test
     public void value_is_extracted_when_single_in_array() {
         String json =
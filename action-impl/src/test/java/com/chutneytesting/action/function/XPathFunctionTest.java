@@ -22,6 +22,7 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import com.chutneytesting.action.common.XmlUtils;
 import java.util.HashMap;
 import java.util.Map;
+import org.jdom2.Element;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -84,6 +85,15 @@ public class XPathFunctionTest {
         };
     }
 
+    @Test
+    public void node_found_can_be_modified_without_altering_the_document() throws XmlUtils.InvalidXPathException, XmlUtils.InvalidXmlDocumentException {
+        Element node1 = (Element) XPathFunction.xpath(STANDARD_XML, "/node1");
+        node1.getChild("node3").setText("modified");
+
+        assertThat(node1.getParent()).isNull();
+        assertThat(XPathFunction.xpath(STANDARD_XML, "/node1/node3")).isEqualTo("text12");
+    }
+
     @Test
     public void invalid_document_throws() {
         assertThatExceptionOfType(XmlUtils.InvalidXmlDocumentException.class).isThrownBy(
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.action.groovy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import groovy.lang.Binding;
+import groovy.lang.Script;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class GroovyScriptCacheTest {
+
+    private final GroovyScriptCache sut = new GroovyScriptCache(2);
+
+    @Test
+    public void should_compile_same_script_once_and_run_new_instances_with_their_own_binding() {
+        String scriptAsString = "value * 2";
+
+        Script first = sut.create(scriptAsString, new Binding(Map.of("value", 1)));
+        Script second = sut.create(scriptAsString, new Binding(Map.of("value", 2)));
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getClass()).isSameAs(first.getClass());
+        assertThat(first.run()).isEqualTo(2);
+        assertThat(second.run()).isEqualTo(4);
+        assertThat(sut.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_evict_least_recently_used_script_when_max_scripts_is_reached() {
+        Class<?> first = sut.create("1", new Binding()).getClass();
+        sut.create("2", new Binding());
+        sut.create("3", new Binding());
+
+        assertThat(sut.size()).isEqualTo(2);
+        assertThat(sut.create("1", new Binding()).getClass()).isNotSameAs(first);
+    }
+
+    @Test
+    public void should_publish_size_and_hit_rate_on_given_registry() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        sut.bindTo(registry);
+
+        sut.create("1", new Binding());
+        sut.create("1", new Binding());
+
+        assertThat(registry.get("groovy_script_cache_size").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("groovy_script_cache_hit_rate").gauge().value()).isEqualTo(0.5);
+    }
+}
@@ -21,6 +21,7 @@ import static com.github.tomakehurst.wiremock.client.WireMock.any;
 import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
 import static com.github.tomakehurst.wiremock.client.WireMock.configureFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.patch;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.put;
@@ -322,6 +323,28 @@ public class HttpActionTest {
         assertThat((Integer) executionResult.outputs.get("status")).isEqualTo(expectedStatus);
     }
 
+    @Test
+    public void should_not_send_cookies_received_by_previous_steps_on_same_target() {
+        String uri = "/some/thing";
+
+        stubFor(get(urlEqualTo(uri))
+            .willReturn(aResponse().withStatus(200)
+                .withHeader("Set-Cookie", "SESSION=previous-step-session; Path=/"))
+        );
+
+        Logger logger = mock(Logger.class);
+        Target targetMock = mockTarget("http://127.0.0.1:" + wireMockServer.port());
+
+        // when
+        ActionExecutionResult firstExecutionResult = new HttpGetAction(targetMock, logger, uri, null, "1000 ms").execute();
+        ActionExecutionResult secondExecutionResult = new HttpGetAction(targetMock, logger, uri, null, "1000 ms").execute();
+
+        // then
+        assertThat(firstExecutionResult.status).isEqualTo(ActionExecutionResult.Status.Success);
+        assertThat(secondExecutionResult.status).isEqualTo(ActionExecutionResult.Status.Success);
+        wireMockServer.verify(2, getRequestedFor(urlEqualTo(uri)).withoutHeader("Cookie"));
+    }
+
     private Target mockTarget(String targetUrl) {
         Target targetMock = mock(Target.class);
         when(targetMock.uri()).thenReturn(URI.create(targetUrl));
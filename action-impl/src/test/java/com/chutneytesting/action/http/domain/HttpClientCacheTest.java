@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.action.http.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.chutneytesting.action.common.LeaseCountedCache.Lease;
+import com.chutneytesting.action.http.domain.HttpClientCache.PooledClient;
+import java.time.Duration;
+import java.util.Map;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.core5.io.CloseMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+public class HttpClientCacheTest {
+
+    private final HttpClientCache sut = new HttpClientCache(2, Duration.ofMinutes(1));
+
+    @AfterEach
+    public void tearDown() {
+        sut.closeAll();
+    }
+
+    @Test
+    public void should_reuse_client_for_same_configuration() {
+        PooledClient first = client("http://target_one");
+        PooledClient second = client("http://target_one");
+        PooledClient other = client("http://target_two");
+
+        assertThat(second).isSameAs(first);
+        assertThat(other).isNotSameAs(first);
+        assertThat(sut.size()).isEqualTo(2);
+        assertThat(sut.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_close_least_recently_used_client_when_max_clients_is_reached() {
+        PooledClient first = pooledClient();
+        PooledClient second = pooledClient();
+        sut.acquire(configuration("http://target_one"), () -> first).close();
+        sut.acquire(configuration("http://target_two"), () -> second).close();
+        sut.acquire(configuration("http://target_three"), HttpClientCacheTest::pooledClient).close();
+
+        verify(first.httpClient()).close(CloseMode.GRACEFUL);
+        verify(second.httpClient(), never()).close(CloseMode.GRACEFUL);
+    }
+
+    @Test
+    public void should_close_evicted_client_only_once_released() {
+        PooledClient first = pooledClient();
+        Lease<PooledClient> lease = sut.acquire(configuration("http://target_one"), () -> first);
+        sut.acquire(configuration("http://target_two"), HttpClientCacheTest::pooledClient).close();
+        sut.acquire(configuration("http://target_three"), HttpClientCacheTest::pooledClient).close();
+
+        verify(first.httpClient(), never()).close(CloseMode.GRACEFUL);
+
+        lease.close();
+        verify(first.httpClient()).close(CloseMode.GRACEFUL);
+    }
+
+    @Test
+    public void should_close_all_clients() {
+        PooledClient client = pooledClient();
+        sut.acquire(configuration("http://target_one"), () -> client).close();
+
+        sut.closeAll();
+
+        verify(client.httpClient()).close(CloseMode.GRACEFUL);
+        assertThat(sut.size()).isZero();
+    }
+
+    private PooledClient client(String url) {
+        try (Lease<PooledClient> lease = sut.acquire(configuration(url), HttpClientCacheTest::pooledClient)) {
+            return lease.value();
+        }
+    }
+
+    private static Map<String, String> configuration(String url) {
+        return Map.of("url", url, "timeout", "2000");
+    }
+
+    private static PooledClient pooledClient() {
+        return new PooledClient(new RestTemplate(), mock(CloseableHttpClient.class));
+    }
+}
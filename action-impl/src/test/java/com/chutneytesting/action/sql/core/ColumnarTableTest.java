@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.action.sql.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class ColumnarTableTest {
+
+    private final Column id = new Column("ID", 0);
+    private final Column amount = new Column("AMOUNT", 1);
+    private final Column name = new Column("NAME", 2);
+
+    @Test
+    public void should_give_back_added_values_as_rows() {
+        ColumnarTable table = new ColumnarTable(List.of(id, amount, name));
+        for (int i = 0; i < 100; i++) {
+            table.add(new Object[]{i, i * 1.5d, "name " + i});
+        }
+
+        assertThat(table.size()).isEqualTo(100);
+        assertThat(table.rows()).hasSize(100);
+        assertThat(table.rows().get(42)).isEqualTo(new Row(List.of(new Cell(id, 42), new Cell(amount, 63d), new Cell(name, "name 42"))));
+        assertThat(table.get(99, 0)).isEqualTo(99);
+    }
+
+    @Test
+    public void should_keep_values_when_column_type_changes() {
+        ColumnarTable table = new ColumnarTable(List.of(id));
+        table.add(new Object[]{1L});
+        table.add(new Object[]{2L});
+        table.add(new Object[]{new BigDecimal("3")});
+
+        assertThat(table.rows()).extracting(row -> row.get(id)).containsExactly(1L, 2L, new BigDecimal("3"));
+    }
+
+    @Test
+    public void should_not_give_values_out_of_bounds() {
+        ColumnarTable table = new ColumnarTable(List.of(id));
+        table.add(new Object[]{1});
+
+        assertThatThrownBy(() -> table.get(1, 0)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
@@ -120,6 +120,37 @@ public class SqlClientTest {
         assertThat(firstRow.get("COL_INTERVAL_SECOND")).isInstanceOf(String.class);
     }
 
+    @Test
+    public void should_prevent_fetching_more_rows_than_target_max_rows() {
+        Target limitedTarget = TestTarget.TestTargetBuilder.builder()
+            .withTargetId("sql")
+            .withUrl("jdbc:h2:mem")
+            .withProperty("jdbcUrl", "jdbc:h2:mem:" + DB_NAME)
+            .withProperty("user", "sa")
+            .withProperty("maxRows", "1")
+            .build();
+
+        SqlClient sqlClient = new DefaultSqlClientFactory().create(limitedTarget);
+
+        assertThrows(NonOptimizedQueryException.class, () -> sqlClient.execute("select * from users"));
+    }
+
+    @Test
+    public void should_fetch_one_more_row_than_target_max_rows() throws SQLException {
+        Target limitedTarget = TestTarget.TestTargetBuilder.builder()
+            .withTargetId("sql")
+            .withUrl("jdbc:h2:mem")
+            .withProperty("jdbcUrl", "jdbc:h2:mem:" + DB_NAME)
+            .withProperty("user", "sa")
+            .withProperty("maxRows", "2")
+            .build();
+
+        SqlClient sqlClient = new DefaultSqlClientFactory().create(limitedTarget);
+        Records actual = sqlClient.execute("select * from users");
+
+        assertThat(actual.records).hasSize(3);
+    }
+
     @Test
     public void should_prevent_out_of_memory() {
         try (MockedStatic<ChutneyMemoryInfo> chutneyMemoryInfoMockedStatic = Mockito.mockStatic(ChutneyMemoryInfo.class)) {
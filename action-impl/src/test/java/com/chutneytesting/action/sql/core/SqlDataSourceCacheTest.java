@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.action.sql.core;
+
+import static io.micrometer.core.instrument.Metrics.globalRegistry;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chutneytesting.action.common.LeaseCountedCache.Lease;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Properties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class SqlDataSourceCacheTest {
+
+    private final SqlDataSourceCache sut = new SqlDataSourceCache(2, Duration.ofMinutes(1));
+
+    @AfterEach
+    public void tearDown() {
+        sut.closeAll();
+    }
+
+    @Test
+    public void should_reuse_pooled_datasource_for_same_configuration() {
+        try (Lease<HikariDataSource> first = sut.acquire(configuration("jdbc:h2:mem:cache_one"));
+             Lease<HikariDataSource> second = sut.acquire(configuration("jdbc:h2:mem:cache_one"));
+             Lease<HikariDataSource> other = sut.acquire(configuration("jdbc:h2:mem:cache_two"))) {
+
+            assertThat(second.value()).isSameAs(first.value());
+            assertThat(other.value()).isNotSameAs(first.value());
+            assertThat(sut.size()).isEqualTo(2);
+            assertThat(sut.stats().hitCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void should_close_least_recently_used_datasource_when_max_pools_is_reached() {
+        HikariDataSource first = released(sut.acquire(configuration("jdbc:h2:mem:cache_one")));
+        HikariDataSource second = released(sut.acquire(configuration("jdbc:h2:mem:cache_two")));
+        HikariDataSource third = released(sut.acquire(configuration("jdbc:h2:mem:cache_three")));
+
+        assertThat(first.isClosed()).isTrue();
+        assertThat(second.isClosed()).isFalse();
+        assertThat(third.isClosed()).isFalse();
+    }
+
+    @Test
+    public void should_close_evicted_datasource_only_once_released() {
+        Lease<HikariDataSource> lease = sut.acquire(configuration("jdbc:h2:mem:cache_one"));
+
+        sut.closeAll();
+
+        assertThat(lease.value().isClosed()).isFalse();
+        assertThat(sut.size()).isZero();
+
+        lease.close();
+
+        assertThat(lease.value().isClosed()).isTrue();
+    }
+
+    @Test
+    public void should_use_new_datasource_once_leased_one_is_evicted() {
+        try (Lease<HikariDataSource> evicted = sut.acquire(configuration("jdbc:h2:mem:cache_one"))) {
+            sut.closeAll();
+
+            try (Lease<HikariDataSource> lease = sut.acquire(configuration("jdbc:h2:mem:cache_one"))) {
+                assertThat(lease.value()).isNotSameAs(evicted.value());
+                assertThat(lease.value().isClosed()).isFalse();
+            }
+        }
+    }
+
+    @Test
+    public void should_close_all_datasources_and_remove_their_meters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        globalRegistry.add(registry);
+        try {
+            HikariDataSource dataSource = released(sut.acquire(configuration("jdbc:h2:mem:cache_one")));
+            assertThat(globalRegistry.find("hikaricp.connections").tag("pool", dataSource.getPoolName()).meters()).isNotEmpty();
+
+            sut.closeAll();
+
+            assertThat(dataSource.isClosed()).isTrue();
+            assertThat(sut.size()).isZero();
+            assertThat(globalRegistry.getMeters()).noneMatch(meter -> dataSource.getPoolName().equals(meter.getId().getTag("pool")));
+        } finally {
+            globalRegistry.remove(registry);
+        }
+    }
+
+    private HikariDataSource released(Lease<HikariDataSource> lease) {
+        lease.close();
+        return lease.value();
+    }
+
+    private Properties configuration(String jdbcUrl) {
+        Properties props = new Properties();
+        props.put("jdbcUrl", jdbcUrl);
+        props.put("username", "sa");
+        return props;
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.action.spi;
+
+/**
+ * Resources kept by actions between executions, such as connection pools or clients.<br>
+ * Implementations, with a public no-argument constructor, are declared in <b>META-INF/extension/chutney.resources</b>
+ * and closed when the execution engine is.
+ */
+public interface ActionResources extends AutoCloseable {
+
+    @Override
+    void close();
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.benchmarks;
+
+import com.chutneytesting.action.domain.ActionTemplate;
+import com.chutneytesting.action.domain.parameter.ParameterResolver;
+import com.chutneytesting.action.spi.Action;
+import com.chutneytesting.action.spi.injectable.Logger;
+import com.chutneytesting.engine.domain.execution.engine.parameterResolver.ContextParameterResolver;
+import com.chutneytesting.engine.domain.execution.engine.parameterResolver.DelegateLogger;
+import com.chutneytesting.engine.domain.execution.engine.parameterResolver.InputParameterResolver;
+import com.chutneytesting.engine.domain.execution.engine.parameterResolver.TypedValueParameterResolver;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Action instantiation from its template, with the parameter resolvers given by the step executor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ActionTemplateBenchmark {
+
+    private static final Map<String, Map<String, Object>> INPUTS = Map.of(
+        "success", Map.of(),
+        "debug", Map.of("filters", List.of("key")),
+        "context-put", Map.of("entries", Map.of("key", "value"))
+    );
+
+    @Param({"success", "debug", "context-put"})
+    private String action;
+
+    private BenchmarkEngine engine;
+    private ActionTemplate actionTemplate;
+    private List<ParameterResolver> parameterResolvers;
+
+    @Setup
+    public void setup() {
+        engine = new BenchmarkEngine();
+        actionTemplate = engine.actionTemplateRegistry().getByIdentifier(action).orElseThrow();
+        parameterResolvers = List.of(
+            new InputParameterResolver(INPUTS.get(action)),
+            new TypedValueParameterResolver<>(Logger.class, new DelegateLogger(info -> {}, error -> {})),
+            new ContextParameterResolver(Map.of("key", "value"))
+        );
+    }
+
+    @TearDown
+    public void tearDown() {
+        engine.close();
+    }
+
+    @Benchmark
+    public Action create() {
+        return actionTemplate.create(parameterResolvers);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.benchmarks;
+
+import static java.util.Collections.emptyMap;
+import static java.util.stream.Collectors.toList;
+
+import com.chutneytesting.EngineActionsConfiguration;
+import com.chutneytesting.ExecutionConfiguration;
+import com.chutneytesting.action.domain.ActionTemplateRegistry;
+import com.chutneytesting.engine.domain.execution.ScenarioExecution;
+import com.chutneytesting.engine.domain.execution.StepDefinition;
+import com.chutneytesting.engine.domain.execution.engine.Dataset;
+import com.chutneytesting.engine.domain.execution.engine.DefaultStepExecutor;
+import com.chutneytesting.engine.domain.execution.engine.StepExecutor;
+import com.chutneytesting.engine.domain.execution.engine.evaluation.StepDataEvaluator;
+import com.chutneytesting.engine.domain.execution.engine.scenario.ScenarioContextImpl;
+import com.chutneytesting.engine.domain.execution.engine.step.Step;
+import com.chutneytesting.engine.domain.execution.evaluation.SpelFunctionCallback;
+import com.chutneytesting.engine.domain.execution.evaluation.SpelFunctions;
+import com.chutneytesting.engine.domain.execution.report.StepExecutionReport;
+import com.chutneytesting.engine.domain.execution.strategies.StepExecutionStrategies;
+import com.chutneytesting.tools.loader.ExtensionLoaders;
+import java.util.concurrent.Executors;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Engine wired as in {@link ExecutionConfiguration}, with access to its internals for benchmarks.
+ */
+public final class BenchmarkEngine implements AutoCloseable {
+
+    private static final long REPORTER_TTL_SECONDS = 1;
+
+    private final ExecutionConfiguration configuration;
+    private final EngineActionsConfiguration actionsConfiguration = new EngineActionsConfiguration(emptyMap());
+    private final StepDataEvaluator dataEvaluator;
+    private final StepExecutor stepExecutor;
+    private final StepExecutionStrategies strategies;
+
+    public BenchmarkEngine() {
+        configuration = new ExecutionConfiguration(REPORTER_TTL_SECONDS, Executors.newSingleThreadExecutor(), emptyMap(), null, null);
+        dataEvaluator = new StepDataEvaluator(loadSpelFunctions());
+        stepExecutor = new DefaultStepExecutor(configuration.actionTemplateRegistry());
+        strategies = new StepExecutionStrategies(configuration.stepExecutionStrategies());
+    }
+
+    public ActionTemplateRegistry actionTemplateRegistry() {
+        return configuration.actionTemplateRegistry();
+    }
+
+    public StepExecutionStrategies strategies() {
+        return strategies;
+    }
+
+    public ScenarioExecution newScenarioExecution() {
+        return ScenarioExecution.createScenarioExecution(actionsConfiguration);
+    }
+
+    /**
+     * Execute the scenario with {@link com.chutneytesting.engine.domain.execution.engine.DefaultExecutionEngine} and wait for its last report.
+     */
+    public StepExecutionReport execute(StepDefinition scenario) {
+        Long executionId = configuration.executionEngine().execute(scenario, new Dataset(), newScenarioExecution());
+        return configuration.reporter().subscribeOnExecution(executionId).blockingLast();
+    }
+
+    public Step buildStep(StepDefinition definition) {
+        return new Step(dataEvaluator, definition, stepExecutor, definition.steps.stream().map(this::buildStep).collect(toList()));
+    }
+
+    /**
+     * Execute the step in the calling thread, without publishing any report.
+     */
+    public Step executeStep(ScenarioExecution scenarioExecution, StepDefinition definition) {
+        Step step = buildStep(definition);
+        strategies.buildStrategyFrom(step).execute(scenarioExecution, step, new ScenarioContextImpl(), strategies);
+        return step;
+    }
+
+    @Override
+    public void close() {
+        configuration.executionEngine().shutdown();
+    }
+
+    static SpelFunctions loadSpelFunctions() {
+        SpelFunctionCallback spelFunctionCallback = new SpelFunctionCallback();
+        ExtensionLoaders
+            .classpathToClass("META-INF/extension/chutney.functions")
+            .load().forEach(c -> ReflectionUtils.doWithMethods(c, spelFunctionCallback));
+        return spelFunctionCallback.getSpelFunctions();
+    }
+}
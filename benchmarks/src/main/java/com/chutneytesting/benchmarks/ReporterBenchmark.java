@@ -0,0 +1,97 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.benchmarks;
+
+import com.chutneytesting.engine.domain.execution.RxBus;
+import com.chutneytesting.engine.domain.execution.ScenarioExecution;
+import com.chutneytesting.engine.domain.execution.engine.step.Step;
+import com.chutneytesting.engine.domain.execution.event.EndScenarioExecutionEvent;
+import com.chutneytesting.engine.domain.execution.event.EndStepExecutionEvent;
+import com.chutneytesting.engine.domain.execution.report.StepExecutionReport;
+import com.chutneytesting.engine.domain.report.Reporter;
+import io.reactivex.rxjava3.core.Observable;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reports generation of an already executed scenario.<br>
+ * {@link #last_report()} fully generates the report, as done when the execution ends.<br>
+ * {@link #running_report()} generates the report published on each step event, as done while the execution is running.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReporterBenchmark {
+
+    @Param({"FLAT", "NESTED", "WIDE_LOOP"})
+    private Scenarios.Shape shape;
+
+    @Param({"10", "100"})
+    private int size;
+
+    private BenchmarkEngine engine;
+    private Reporter reporter;
+    private ScenarioExecution scenarioExecution;
+    private ScenarioExecution runningExecution;
+    private Step rootStep;
+    private Observable<StepExecutionReport> runningReports;
+
+    @Setup
+    public void setup() {
+        engine = new BenchmarkEngine();
+        reporter = new Reporter(0);
+        scenarioExecution = engine.newScenarioExecution();
+        rootStep = engine.executeStep(scenarioExecution, Scenarios.scenario(shape, size));
+
+        runningExecution = engine.newScenarioExecution();
+        reporter.createPublisher(runningExecution.executionId, rootStep);
+        runningReports = reporter.subscribeOnExecution(runningExecution.executionId);
+    }
+
+    @TearDown
+    public void tearDown() {
+        engine.close();
+    }
+
+    @Benchmark
+    public StepExecutionReport last_report() {
+        reporter.createPublisher(scenarioExecution.executionId, rootStep);
+        Observable<StepExecutionReport> reports = reporter.subscribeOnExecution(scenarioExecution.executionId);
+        RxBus.getInstance().post(new EndScenarioExecutionEvent(scenarioExecution, rootStep));
+        return reports.blockingLast();
+    }
+
+    @Benchmark
+    public StepExecutionReport running_report() {
+        RxBus.getInstance().post(new EndStepExecutionEvent(runningExecution, rootStep));
+        return runningReports.blockingFirst();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.benchmarks;
+
+import static java.util.Collections.emptyMap;
+
+import com.chutneytesting.engine.domain.execution.StepDefinition;
+import com.chutneytesting.engine.domain.execution.strategies.StepStrategyDefinition;
+import com.chutneytesting.engine.domain.execution.strategies.StrategyProperties;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Scenarios only made of local actions (success, debug and context-put), so that benchmarks measure the engine itself.
+ */
+public final class Scenarios {
+
+    public static final String ENVIRONMENT = "BENCHMARKS";
+
+    private Scenarios() {
+    }
+
+    public enum Shape {
+        /**
+         * Root step with <i>size</i> leaf steps.
+         */
+        FLAT,
+        /**
+         * Chain of <i>size</i> parent steps, each one with a leaf step and the next parent step.
+         */
+        NESTED,
+        /**
+         * Parent step iterated <i>size</i> times with the <i>for</i> strategy.
+         */
+        WIDE_LOOP
+    }
+
+    public static StepDefinition scenario(Shape shape, int size) {
+        return switch (shape) {
+            case FLAT -> flat(size);
+            case NESTED -> nested(size);
+            case WIDE_LOOP -> wideLoop(size);
+        };
+    }
+
+    public static StepDefinition flat(int size) {
+        List<StepDefinition> steps = IntStream.range(0, size)
+            .mapToObj(Scenarios::localStep)
+            .toList();
+        return parentStep("flat scenario", null, steps);
+    }
+
+    public static StepDefinition nested(int depth) {
+        StepDefinition nested = localStep(depth);
+        for (int i = depth - 1; i >= 0; i--) {
+            nested = parentStep("nested step " + i, null, List.of(localStep(i), nested));
+        }
+        return parentStep("nested scenario", null, List.of(nested));
+    }
+
+    public static StepDefinition wideLoop(int iterations) {
+        List<Map<String, Object>> dataset = new ArrayList<>(iterations);
+        IntStream.range(0, iterations).forEach(i -> dataset.add(Map.of("value", "value " + i)));
+        StrategyProperties strategyProperties = new StrategyProperties(Map.of("dataset", dataset, "index", "i"));
+
+        StepDefinition loop = parentStep("loop step <i>", new StepStrategyDefinition("for", strategyProperties), List.of(
+            step("put value <i>", "context-put", Map.of("entries", Map.of("key_<i>", "${#value}"))),
+            step("success <i>", "success", emptyMap())
+        ));
+        return parentStep("wide loop scenario", null, List.of(loop));
+    }
+
+    private static StepDefinition localStep(int index) {
+        return switch (index % 3) {
+            case 0 -> step("success " + index, "success", emptyMap());
+            case 1 -> step("put value " + index, "context-put", Map.of("entries", Map.of("key_" + index, "value " + index)));
+            default -> step("debug " + index, "debug", Map.of("filters", List.of("key_" + (index - 1))));
+        };
+    }
+
+    private static StepDefinition step(String name, String type, Map<String, Object> inputs) {
+        return new StepDefinition(name, null, type, null, inputs, null, null, null, ENVIRONMENT);
+    }
+
+    private static StepDefinition parentStep(String name, StepStrategyDefinition strategy, List<StepDefinition> steps) {
+        return new StepDefinition(name, null, "", strategy, null, steps, null, null, ENVIRONMENT);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.benchmarks;
+
+import com.chutneytesting.engine.domain.execution.engine.evaluation.StepDataEvaluator;
+import com.chutneytesting.engine.domain.execution.evaluation.SpelFunctions;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+/**
+ * Evaluation of step inputs, as done for each step execution.<br>
+ * {@link #parse_on_each_evaluation()} reproduces the evaluation without expressions cache nor shared functions registry, as a reference.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StepDataEvaluatorBenchmark {
+
+    private static final Map<String, String> EXPRESSIONS = Map.of(
+        "variable", "#host",
+        "method", "#host.toUpperCase()",
+        "map", "#headers['Content-Type']",
+        "function", "#str_replace(#body, 'o', '0')",
+        "json", "#json(#body, '$.hello')"
+    );
+
+    private SpelFunctions spelFunctions;
+    private StepDataEvaluator evaluator;
+    private Map<String, Object> contextVariables;
+    private Map<String, Object> inputs;
+
+    @Setup
+    public void setup() {
+        spelFunctions = BenchmarkEngine.loadSpelFunctions();
+        evaluator = new StepDataEvaluator(spelFunctions);
+
+        contextVariables = new LinkedHashMap<>();
+        contextVariables.put("host", "localhost");
+        contextVariables.put("port", 8080);
+        contextVariables.put("headers", Map.of("Content-Type", "application/json"));
+        contextVariables.put("body", "{\"hello\": \"world\"}");
+
+        inputs = new LinkedHashMap<>();
+        EXPRESSIONS.forEach((name, expression) -> inputs.put(name, "${" + expression + "}"));
+        inputs.put("template", "http://${#host}:${#port}/api/${#host.length()}");
+    }
+
+    @Benchmark
+    public Map<String, Object> evaluate_step_inputs() {
+        return evaluator.evaluateNamedDataWithContextVariables(inputs, contextVariables);
+    }
+
+    @Benchmark
+    public Map<String, Object> parse_on_each_evaluation() {
+        ExpressionParser parser = new SpelExpressionParser();
+        StandardEvaluationContext evaluationContext = new StandardEvaluationContext();
+        evaluationContext.registerMethodFilter(Runtime.class, methods -> Collections.emptyList());
+        evaluationContext.registerMethodFilter(ProcessBuilder.class, methods -> Collections.emptyList());
+        spelFunctions.stream().forEach(f -> evaluationContext.registerFunction(f.getName(), f.getMethod()));
+        evaluationContext.setVariables(contextVariables);
+
+        Map<String, Object> evaluated = new LinkedHashMap<>();
+        EXPRESSIONS.forEach((name, expression) -> evaluated.put(name, parser.parseExpression(expression).getValue(evaluationContext)));
+        evaluated.put("template", "http://" + parser.parseExpression("#host").getValue(evaluationContext)
+            + ":" + parser.parseExpression("#port").getValue(evaluationContext)
+            + "/api/" + parser.parseExpression("#host.length()").getValue(evaluationContext));
+        return evaluated;
+    }
+}
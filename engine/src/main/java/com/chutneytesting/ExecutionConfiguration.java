@@ -27,6 +27,7 @@ import com.chutneytesting.action.domain.ActionTemplateRegistry;
 import com.chutneytesting.action.domain.DefaultActionTemplateRegistry;
 import com.chutneytesting.action.infra.DefaultActionTemplateLoader;
 import com.chutneytesting.action.spi.Action;
+import com.chutneytesting.action.spi.ActionResources;
 import com.chutneytesting.action.spi.injectable.ActionsConfiguration;
 import com.chutneytesting.engine.api.execution.EmbeddedTestEngine;
 import com.chutneytesting.engine.api.execution.TestEngine;
@@ -35,6 +36,7 @@ import com.chutneytesting.engine.domain.execution.ExecutionEngine;
 import com.chutneytesting.engine.domain.execution.ExecutionManager;
 import com.chutneytesting.engine.domain.execution.engine.DefaultExecutionEngine;
 import com.chutneytesting.engine.domain.execution.engine.DefaultStepExecutor;
+import com.chutneytesting.engine.domain.execution.engine.TargetConcurrencyLimits;
 import com.chutneytesting.engine.domain.execution.engine.evaluation.StepDataEvaluator;
 import com.chutneytesting.engine.domain.execution.evaluation.SpelFunctionCallback;
 import com.chutneytesting.engine.domain.execution.evaluation.SpelFunctions;
@@ -45,6 +47,7 @@ import com.chutneytesting.engine.infrastructure.delegation.HttpClient;
 import com.chutneytesting.tools.ThrowingFunction;
 import com.chutneytesting.tools.loader.ExtensionLoaders;
 import java.lang.reflect.InvocationTargetException;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
@@ -65,6 +68,7 @@ public class ExecutionConfiguration {
 
     private final SpelFunctions spelFunctions;
     private final Set<StepExecutionStrategy> stepExecutionStrategies;
+    private final List<ActionResources> actionResources;
 
     private final Long reporterTTL;
 
@@ -73,15 +77,24 @@ public class ExecutionConfiguration {
     }
 
     public ExecutionConfiguration(Long reporterTTL, ExecutorService actionExecutor, Map<String, String> actionsConfiguration, String user, String password) {
+        this(reporterTTL, actionExecutor, actionsConfiguration, user, password, 0);
+    }
+
+    /**
+     * @param maxConcurrentActionsPerTarget default limit of actions executed at the same time against a target, lower than 1 for no limit
+     * @see TargetConcurrencyLimits
+     */
+    public ExecutionConfiguration(Long reporterTTL, ExecutorService actionExecutor, Map<String, String> actionsConfiguration, String user, String password, int maxConcurrentActionsPerTarget) {
         this.reporterTTL = reporterTTL;
 
         ActionTemplateLoader actionTemplateLoaderV2 = createActionTemplateLoaderV2();
         spelFunctions = createSpelFunctions();
         stepExecutionStrategies = createStepExecutionStrategies();
+        actionResources = createActionResources();
 
         actionTemplateRegistry = new DefaultActionTemplateRegistry(new ActionTemplateLoaders(singletonList(actionTemplateLoaderV2)));
         reporter = createReporter();
-        executionEngine = createExecutionEngine(actionExecutor, user, password);
+        executionEngine = createExecutionEngine(actionExecutor, user, password, new TargetConcurrencyLimits(maxConcurrentActionsPerTarget));
         embeddedTestEngine = createEmbeddedTestEngine(new EngineActionsConfiguration(actionsConfiguration));
     }
 
@@ -105,6 +118,19 @@ public class ExecutionConfiguration {
         return executionEngine;
     }
 
+    /**
+     * Release resources kept by actions between executions.
+     */
+    private void closeActionResources() {
+        actionResources.forEach(resources -> {
+            try {
+                resources.close();
+            } catch (RuntimeException e) {
+                LOGGER.warn("Unable to close action resources " + resources.getClass().getSimpleName(), e);
+            }
+        });
+    }
+
     private ActionTemplateLoader createActionTemplateLoaderV2() {
         return new DefaultActionTemplateLoader<>(
             "chutney.actions",
@@ -131,21 +157,30 @@ public class ExecutionConfiguration {
             .collect(Collectors.toSet());
     }
 
+    private List<ActionResources> createActionResources() {
+        return ExtensionLoaders
+            .classpathToClass("META-INF/extension/chutney.resources")
+            .load()
+            .stream()
+            .map(ThrowingFunction.toUnchecked(ExecutionConfiguration::<ActionResources>instantiate))
+            .toList();
+    }
+
     private Reporter createReporter() {
         return new Reporter(reporterTTL);
     }
 
-    private ExecutionEngine createExecutionEngine(ExecutorService actionExecutor, String user, String password) {
+    private ExecutionEngine createExecutionEngine(ExecutorService actionExecutor, String user, String password, TargetConcurrencyLimits targetConcurrencyLimits) {
         return new DefaultExecutionEngine(
             new StepDataEvaluator(spelFunctions),
-            new StepExecutionStrategies(stepExecutionStrategies),
-            new DelegationService(new DefaultStepExecutor(actionTemplateRegistry), new HttpClient(user, password)),
+            new StepExecutionStrategies(stepExecutionStrategies, actionExecutor),
+            new DelegationService(new DefaultStepExecutor(actionTemplateRegistry, targetConcurrencyLimits), new HttpClient(user, password)),
             reporter,
             actionExecutor);
     }
 
     private TestEngine createEmbeddedTestEngine(ActionsConfiguration actionsConfiguration) {
-        return new EmbeddedTestEngine(executionEngine, reporter, new ExecutionManager(), actionsConfiguration);
+        return new EmbeddedTestEngine(executionEngine, reporter, new ExecutionManager(), actionsConfiguration, this::closeActionResources);
     }
 
     @SuppressWarnings("unchecked")
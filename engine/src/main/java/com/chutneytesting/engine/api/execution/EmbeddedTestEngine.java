@@ -22,7 +22,9 @@ import com.chutneytesting.engine.domain.execution.ExecutionManager;
 import com.chutneytesting.engine.domain.execution.ScenarioExecution;
 import com.chutneytesting.engine.domain.execution.StepDefinition;
 import com.chutneytesting.engine.domain.execution.engine.Dataset;
+import com.chutneytesting.engine.domain.execution.report.StepExecutionReport;
 import com.chutneytesting.engine.domain.report.Reporter;
+import com.chutneytesting.tools.IncrementalTreeMapper;
 import io.reactivex.rxjava3.core.Observable;
 import java.util.Optional;
 
@@ -32,12 +34,21 @@ public final class EmbeddedTestEngine implements TestEngine {
     private final Reporter reporter;
     private final ExecutionManager executionManager;
     private final ActionsConfiguration actionsConfiguration;
+    private final Runnable onClose;
 
     public EmbeddedTestEngine(ExecutionEngine engine, Reporter reporter, ExecutionManager executionManager, ActionsConfiguration actionsConfiguration) {
+        this(engine, reporter, executionManager, actionsConfiguration, () -> {});
+    }
+
+    /**
+     * @param onClose run when this engine is closed, after its executor is shut down
+     */
+    public EmbeddedTestEngine(ExecutionEngine engine, Reporter reporter, ExecutionManager executionManager, ActionsConfiguration actionsConfiguration, Runnable onClose) {
         this.engine = engine;
         this.reporter = reporter;
         this.executionManager = executionManager;
         this.actionsConfiguration = actionsConfiguration;
+        this.onClose = onClose;
     }
 
     @Override
@@ -57,8 +68,10 @@ public final class EmbeddedTestEngine implements TestEngine {
 
     @Override
     public Observable<StepExecutionReportDto> receiveNotification(Long executionId) {
-        return reporter.subscribeOnExecution(executionId)
-            .map(StepExecutionReportMapper::toDto);
+        return Observable.defer(() -> {
+            IncrementalTreeMapper<StepExecutionReport, StepExecutionReportDto> mapper = StepExecutionReportMapper.incrementalMapper();
+            return reporter.subscribeOnExecution(executionId).map(mapper::map);
+        });
     }
 
     @Override
@@ -79,5 +92,6 @@ public final class EmbeddedTestEngine implements TestEngine {
     @Override
     public void close() {
         engine.shutdown();
+        onClose.run();
     }
 }
@@ -20,7 +20,9 @@ import static java.util.Collections.EMPTY_MAP;
 
 import com.chutneytesting.engine.domain.execution.report.Status;
 import com.chutneytesting.engine.domain.execution.report.StepExecutionReport;
+import com.chutneytesting.tools.IncrementalTreeMapper;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 class StepExecutionReportMapper {
@@ -29,6 +31,17 @@ class StepExecutionReportMapper {
     }
 
     static StepExecutionReportDto toDto(StepExecutionReport report) {
+        return toDto(report, StepExecutionReportMapper::toDto);
+    }
+
+    /**
+     * Mapper for successive reports of one execution, reusing dtos of unchanged sub reports.
+     */
+    static IncrementalTreeMapper<StepExecutionReport, StepExecutionReportDto> incrementalMapper() {
+        return new IncrementalTreeMapper<>(StepExecutionReportMapper::toDto, report -> report.steps, dto -> dto.steps);
+    }
+
+    private static StepExecutionReportDto toDto(StepExecutionReport report, Function<StepExecutionReport, StepExecutionReportDto> subReportMapper) {
         return new StepExecutionReportDto(
             report.name,
             report.environment,
@@ -37,7 +50,7 @@ class StepExecutionReportMapper {
             StatusMapper.toDto(report.status),
             report.information,
             report.errors,
-            report.steps.stream().map(StepExecutionReportMapper::toDto).collect(Collectors.toList()),
+            report.steps.stream().map(subReportMapper).collect(Collectors.toList()),
             StepContextMapper.toDto(report.scenarioContext, report.evaluatedInputs, report.stepResults),
             report.type,
             report.targetName,
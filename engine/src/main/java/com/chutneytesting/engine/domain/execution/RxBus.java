@@ -16,44 +16,88 @@
 
 package com.chutneytesting.engine.domain.execution;
 
-
 import com.chutneytesting.engine.domain.execution.event.Event;
-import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.disposables.Disposable;
 import io.reactivex.rxjava3.functions.Consumer;
-import io.reactivex.rxjava3.subjects.PublishSubject;
-import io.reactivex.rxjava3.subjects.Subject;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * Events dispatcher, with one channel per execution.<br>
+ * Handlers are registered for an execution id and an event type, so an event only reaches the handlers of its own execution
+ * and dispatch cost does not depend on the number of running executions.<br>
+ * Handlers are called in the posting thread. Events of an execution without any handler are dropped.<br>
+ * An execution channel is removed along with its last handler.
+ */
 public class RxBus {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(RxBus.class);
     private static final RxBus INSTANCE = new RxBus();
 
     public static RxBus getInstance() {
         return INSTANCE;
     }
 
-    private final Subject<Object> bus = PublishSubject.create().toSerialized();
+    private final Map<Long, ExecutionChannel> channels = new ConcurrentHashMap<>();
 
-    public void post(Object event) {
-        bus.onNext(event);
+    public void post(Event event) {
+        ExecutionChannel channel = channels.get(event.executionId());
+        if (channel != null) {
+            channel.dispatch(event);
+        }
     }
 
-    public <T> Disposable register(final Class<T> eventClass, Consumer<T> onNext) {
-        return bus
-            .filter(event -> event.getClass().equals(eventClass))
-            .map(obj -> (T) obj)
-            .subscribe(onNext);
+    public <T extends Event> Disposable registerOnExecutionId(final Class<T> eventClass, long executionId, Consumer<? super T> onNext) {
+        final Consumer<Event> handler = event -> onNext.accept(eventClass.cast(event));
+        channels.compute(executionId, (id, channel) -> {
+            ExecutionChannel executionChannel = channel != null ? channel : new ExecutionChannel();
+            executionChannel.add(eventClass, handler);
+            return executionChannel;
+        });
+        return Disposable.fromAction(() ->
+            channels.computeIfPresent(executionId, (id, channel) -> channel.remove(eventClass, handler) ? null : channel)
+        );
     }
 
-    public <T extends Event> Disposable registerOnExecutionId(final Class<T> eventClass, long executionId, Consumer<? super Event> onNext) {
-        return bus
-            .filter(event -> event.getClass().equals(eventClass))
-            .map(obj -> (T) obj)
-            .filter(e -> e.executionId() == executionId)
-            .subscribe(onNext);
+    int channelsCount() {
+        return channels.size();
     }
 
-    public Observable<Object> toObservable() {
-        return bus;
+    private static class ExecutionChannel {
+
+        private final Map<Class<? extends Event>, List<Consumer<Event>>> handlers = new ConcurrentHashMap<>();
+
+        private void add(Class<? extends Event> eventClass, Consumer<Event> handler) {
+            handlers.computeIfAbsent(eventClass, c -> new CopyOnWriteArrayList<>()).add(handler);
+        }
+
+        /**
+         * @return true if the channel has no more handlers
+         */
+        private boolean remove(Class<? extends Event> eventClass, Consumer<Event> handler) {
+            handlers.computeIfPresent(eventClass, (c, eventHandlers) -> {
+                eventHandlers.remove(handler);
+                return eventHandlers.isEmpty() ? null : eventHandlers;
+            });
+            return handlers.isEmpty();
+        }
+
+        private void dispatch(Event event) {
+            List<Consumer<Event>> eventHandlers = handlers.get(event.getClass());
+            if (eventHandlers == null) {
+                return;
+            }
+            for (Consumer<Event> handler : eventHandlers) {
+                try {
+                    handler.accept(event);
+                } catch (Throwable t) {
+                    LOGGER.error("Cannot handle {} of execution {}", event.getClass().getSimpleName(), event.executionId(), t);
+                }
+            }
+        }
     }
 }
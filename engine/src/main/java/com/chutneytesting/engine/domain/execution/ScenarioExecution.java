@@ -23,14 +23,14 @@ import com.chutneytesting.engine.domain.execution.command.ResumeExecutionCommand
 import com.chutneytesting.engine.domain.execution.command.StopExecutionCommand;
 import com.chutneytesting.engine.domain.execution.event.EndScenarioExecutionEvent;
 import io.reactivex.rxjava3.disposables.Disposable;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 
 public class ScenarioExecution {
 
-    private final List<FinallyAction> finallyActions = new ArrayList<>();
+    private final List<FinallyAction> finallyActions = new CopyOnWriteArrayList<>(); // Registered by concurrently executed steps
     private final ActionsConfiguration actionConfiguration;
     public final long executionId;
 
@@ -44,9 +44,15 @@ public class DefaultStepExecutor implements StepExecutor {
     private static final org.slf4j.Logger LOGGER = LoggerFactory.getLogger(DefaultStepExecutor.class);
 
     private final ActionTemplateRegistry actionTemplateRegistry;
+    private final TargetConcurrencyLimits targetConcurrencyLimits;
 
     public DefaultStepExecutor(ActionTemplateRegistry actionTemplateRegistry) {
+        this(actionTemplateRegistry, TargetConcurrencyLimits.UNLIMITED);
+    }
+
+    public DefaultStepExecutor(ActionTemplateRegistry actionTemplateRegistry, TargetConcurrencyLimits targetConcurrencyLimits) {
         this.actionTemplateRegistry = actionTemplateRegistry;
+        this.targetConcurrencyLimits = targetConcurrencyLimits;
     }
 
     @Override
@@ -63,12 +69,15 @@ public class DefaultStepExecutor implements StepExecutor {
                 Action action = matchedAction.get().create(parameterResolvers);
                 List<String> errors = action.validateInputs();
                 if (errors.isEmpty()) {
-                    executionResult = action.execute();
+                    executionResult = targetConcurrencyLimits.execute(step.definition().environment, targetServer, action::execute);
                     step.updateContextFrom(executionResult);
                 } else {
                     step.failure(errors.toArray(new String[0]));
                 }
             } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
                 LOGGER.error("Cannot execute step: ", e);
                 step.failure("Action [" + type + "] failed: " + ofNullable(e.getMessage()).orElse(e.toString()));
             }
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.engine.domain.execution.engine;
+
+import com.chutneytesting.action.spi.injectable.Target;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Limits the number of actions executed at the same time against a target of an environment.<br>
+ * Limit is read from the target property {@value #MAX_CONCURRENT_ACTIONS_PROPERTY}, or is the default one.
+ * A limit lower than 1 means no limit, a malformed limit falls back to the default one.<br>
+ * Limit of a target is read on each action, a changed limit applies to the actions started after the change.
+ */
+public class TargetConcurrencyLimits {
+
+    public static final String MAX_CONCURRENT_ACTIONS_PROPERTY = "maxConcurrentActions";
+    public static final TargetConcurrencyLimits UNLIMITED = new TargetConcurrencyLimits(0);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TargetConcurrencyLimits.class);
+    private static final Semaphore NO_LIMIT = new Semaphore(0);
+
+    private final int defaultLimit;
+    private final Map<TargetKey, Limit> limits = new ConcurrentHashMap<>();
+
+    public TargetConcurrencyLimits(int defaultLimit) {
+        this.defaultLimit = defaultLimit;
+    }
+
+    public <T> T execute(String environment, Target target, Callable<T> action) throws Exception {
+        Semaphore semaphore = semaphoreOf(environment, target);
+        if (semaphore == NO_LIMIT) {
+            return action.call();
+        }
+
+        semaphore.acquire();
+        try {
+            return action.call();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    private Semaphore semaphoreOf(String environment, Target target) {
+        if (target == null || target.name() == null || target.name().isEmpty()) {
+            return NO_LIMIT;
+        }
+        TargetKey key = new TargetKey(environment, target.name());
+        int permits = target.property(MAX_CONCURRENT_ACTIONS_PROPERTY)
+            .map(limit -> parseLimit(target.name(), limit))
+            .orElse(defaultLimit);
+        if (permits < 1) {
+            limits.remove(key);
+            return NO_LIMIT;
+        }
+        // Actions running with a replaced semaphore release it as is, the new one only counts actions started after the change
+        return limits.compute(key, (k, limit) -> limit != null && limit.permits() == permits ? limit : new Limit(permits, new Semaphore(permits, true)))
+            .semaphore();
+    }
+
+    private int parseLimit(String targetName, String limit) {
+        try {
+            return Integer.parseInt(limit.trim());
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Malformed {} property [{}] of target {}, default limit {} is used", MAX_CONCURRENT_ACTIONS_PROPERTY, limit, targetName, defaultLimit);
+            return defaultLimit;
+        }
+    }
+
+    private record TargetKey(String environment, String targetName) {
+    }
+
+    private record Limit(int permits, Semaphore semaphore) {
+    }
+}
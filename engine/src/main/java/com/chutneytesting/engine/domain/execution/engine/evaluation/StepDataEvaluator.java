@@ -21,7 +21,10 @@ import static com.chutneytesting.engine.domain.execution.engine.evaluation.Strin
 import com.chutneytesting.action.spi.injectable.Target;
 import com.chutneytesting.engine.domain.environment.TargetImpl;
 import com.chutneytesting.engine.domain.execution.evaluation.SpelFunctions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -29,12 +32,15 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.regex.Pattern;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.ParseException;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.ReflectiveMethodResolver;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 
 public class StepDataEvaluator {
@@ -42,14 +48,23 @@ public class StepDataEvaluator {
     private static final String EVALUATION_STRING_PREFIX = "${";
     private static final String EVALUATION_STRING_SUFFIX = "}";
     private static final String EVALUATION_STRING_ESCAPE = "\\";
+    private static final long EXPRESSIONS_CACHE_MAXIMUM_SIZE = 10_000;
     private static final Pattern EVALUATION_OBJECT_PATTERN = Pattern.compile("^(?:" + escapeForRegex(EVALUATION_STRING_ESCAPE) + ")?" + escapeForRegex(EVALUATION_STRING_PREFIX) + "(?:(?!" + escapeForRegex(EVALUATION_STRING_PREFIX) + ").)*" + escapeForRegex(EVALUATION_STRING_SUFFIX) + "$", Pattern.DOTALL);
 
 
-    private final SpelFunctions spelFunctions;
     private final ExpressionParser parser = new SpelExpressionParser();
+    private final Cache<String, Expression> expressions = CacheBuilder.newBuilder()
+        .maximumSize(EXPRESSIONS_CACHE_MAXIMUM_SIZE)
+        .build();
+    private final Map<String, Method> functions;
+    private final ReflectiveMethodResolver methodResolver;
 
     public StepDataEvaluator(SpelFunctions spelFunctions) {
-        this.spelFunctions = spelFunctions;
+        this.functions = spelFunctions == null ? Map.of() : spelFunctions.stream()
+            .collect(Collectors.toUnmodifiableMap(SpelFunctions.NamedFunctionLink::getName, SpelFunctions.NamedFunctionLink::getMethod));
+        this.methodResolver = new ReflectiveMethodResolver();
+        this.methodResolver.registerMethodFilter(Runtime.class, methods -> Collections.emptyList());
+        this.methodResolver.registerMethodFilter(ProcessBuilder.class, methods -> Collections.emptyList());
     }
 
     public Map<String, Object> evaluateNamedDataWithContextVariables(final Map<String, Object> data, final Map<String, Object> contextVariables) throws EvaluationException {
@@ -88,14 +103,8 @@ public class StepDataEvaluator {
     }
 
     private StandardEvaluationContext buildEvaluationContext(Map<String, Object> contextVariables) {
-        StandardEvaluationContext evaluationContext = new StandardEvaluationContext();
-        evaluationContext.registerMethodFilter(Runtime.class, methods -> Collections.emptyList());
-        evaluationContext.registerMethodFilter(ProcessBuilder.class, methods -> Collections.emptyList());
-
-        if (spelFunctions != null) {
-            spelFunctions.stream().forEach(f -> evaluationContext.registerFunction(f.getName(), f.getMethod()));
-        }
-        evaluationContext.setVariables(contextVariables);
+        StandardEvaluationContext evaluationContext = new LayeredVariablesEvaluationContext(contextVariables, functions::get);
+        evaluationContext.setMethodResolvers(List.of(methodResolver));
         return evaluationContext;
     }
 
@@ -173,12 +182,41 @@ public class StepDataEvaluator {
     }
 
     private Expression parseExpression(ExpressionParser parser, String expressionAsString) {
-        Expression expression;
-        try {
-            expression = parser.parseExpression(expressionAsString);
-        } catch (ParseException e) {
-            throw new EvaluationException("Cannot parse " + expressionAsString + " , " + e.getMessage(), e);
+        Expression expression = expressions.getIfPresent(expressionAsString);
+        if (expression == null) {
+            try {
+                expression = parser.parseExpression(expressionAsString);
+            } catch (ParseException e) {
+                throw new EvaluationException("Cannot parse " + expressionAsString + " , " + e.getMessage(), e);
+            }
+            expressions.put(expressionAsString, expression);
         }
         return expression;
     }
+
+    /**
+     * Look up variables set during evaluation, then given context variables, then SpEL functions.<br>
+     * Context variables and functions are not copied in each new context.
+     */
+    private static class LayeredVariablesEvaluationContext extends StandardEvaluationContext {
+        private final Map<String, Object> contextVariables;
+        private final Function<String, Object> functions;
+
+        private LayeredVariablesEvaluationContext(Map<String, Object> contextVariables, Function<String, Object> functions) {
+            this.contextVariables = contextVariables;
+            this.functions = functions;
+        }
+
+        @Override
+        public Object lookupVariable(String name) {
+            Object variable = super.lookupVariable(name);
+            if (variable == null && contextVariables != null) {
+                variable = contextVariables.get(name);
+            }
+            if (variable == null) {
+                variable = functions.apply(name);
+            }
+            return variable;
+        }
+    }
 }
@@ -48,6 +48,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -74,7 +75,7 @@ public class Step {
         this.definition = definition;
         this.target = definition.getTarget().orElse(TargetImpl.NONE);
         this.executor = executor;
-        this.steps = steps;
+        this.steps = new CopyOnWriteArrayList<>(steps); // Iterated by reporters while executions change it
         this.state = new StepState();
         this.stepContext = new StepContext();
     }
@@ -108,6 +109,7 @@ public class Step {
             Map<String, Object> evaluationContext = buildEvaluationContext(scenarioContext, localContext);
             final Map<String, Object> evaluatedInputs = definition.type.equals("final") ? definition.inputs() : unmodifiableMap(dataEvaluator.evaluateNamedDataWithContextVariables(definition.inputs(), evaluationContext));
             target = dataEvaluator.evaluateTarget(target, evaluationContext);
+            state.touch();
 
             Try
                 .exec(() -> this.stepContext = new StepContext(scenarioContext, localContext, evaluatedInputs))
@@ -117,6 +119,7 @@ public class Step {
                         executeStepValidations(stepContextExecuted);
                     }
                     this.stepContext = stepContextExecuted.copy();
+                    state.touch();
                 })
                 .ifFailed(this::failure);
         } catch (RuntimeException e) {
@@ -210,6 +213,17 @@ public class Step {
         return state.duration();
     }
 
+    /**
+     * @return a counter incremented each time this step (not its sub steps) changes
+     */
+    public long revision() {
+        return state.revision();
+    }
+
+    public boolean isRunning() {
+        return state.isRunning();
+    }
+
     public Instant startDate() {
         return state.startDate();
     }
@@ -318,6 +332,7 @@ public class Step {
 
     public void addStepExecution(Step step) {
         this.steps.add(step);
+        state.touch();
     }
 
     public void addStepExecution(List<Step> steps) {
@@ -338,6 +353,7 @@ public class Step {
 
     public void removeStepExecution() {
         this.steps.clear();
+        state.touch();
     }
 
 
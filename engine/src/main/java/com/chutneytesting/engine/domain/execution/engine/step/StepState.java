@@ -27,9 +27,10 @@ import com.google.common.base.Stopwatch;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.commons.lang3.StringUtils;
 
 /**
@@ -39,12 +40,14 @@ public class StepState {
 
     private final Stopwatch stopwatch = Stopwatch.createUnstarted();
 
-    private Status status = Status.NOT_EXECUTED;
+    private volatile Status status = Status.NOT_EXECUTED;
     private Instant startDate;
-    private final List<String> errors = new ArrayList<>();
-    private final List<String> informations = new ArrayList<>();
+    private final List<String> errors = new CopyOnWriteArrayList<>();
+    private final List<String> informations = new CopyOnWriteArrayList<>();
+    private final AtomicLong revision = new AtomicLong();
 
     void beginExecution() {
+        touch();
         if (!stopwatch.isRunning()) {
             stopwatch.start();
             if (isNull(startDate)) {
@@ -55,6 +58,7 @@ public class StepState {
     }
 
     void endExecution(boolean isParentStep) {
+        touch();
         if (stopwatch.isRunning()) {
             stopwatch.stop();
             if (isParentStep) {
@@ -64,53 +68,81 @@ public class StepState {
     }
 
     void stopExecution() {
+        touch();
         status = Status.STOPPED;
     }
 
     void pauseExecution() {
+        touch();
         status = Status.PAUSED;
     }
 
     void resumeExecution() {
+        touch();
         status = Status.RUNNING;
     }
 
     void errorOccurred(String... message) {
+        touch();
         status = Status.FAILURE;
         errors.addAll(newArrayList(message));
     }
 
     void successOccurred(String... message) {
+        touch();
         status = Status.SUCCESS;
         informations.addAll(newArrayList(message));
     }
 
     void reset() {
+        touch();
         status = Status.NOT_EXECUTED;
         informations.clear();
         errors.clear();
     }
 
     void startWatch() {
+        touch();
         if (!stopwatch.isRunning()) {
             stopwatch.start();
         }
     }
 
     void stopWatch() {
+        touch();
         if (stopwatch.isRunning()) {
             stopwatch.stop();
         }
     }
 
     void addInformation(String... message) {
+        touch();
         informations.addAll(newArrayList(message));
     }
 
     void addErrors(String... message) {
+        touch();
         errors.addAll(newArrayList(message));
     }
 
+    /**
+     * Mark this state as changed, so that cached views of it (i.e. reports) are rebuilt.
+     */
+    void touch() {
+        revision.incrementAndGet();
+    }
+
+    /**
+     * @return a counter incremented on each change of this state
+     */
+    public long revision() {
+        return revision.get();
+    }
+
+    public boolean isRunning() {
+        return stopwatch.isRunning();
+    }
+
     public Duration duration() {
         return Duration.of(stopwatch.elapsed(TimeUnit.MICROSECONDS), ChronoUnit.MICROS);
     }
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.engine.domain.execution.strategies;
+
+import com.chutneytesting.engine.domain.execution.ScenarioExecution;
+import com.chutneytesting.engine.domain.execution.engine.scenario.ScenarioContext;
+import com.chutneytesting.engine.domain.execution.engine.scenario.ScenarioContextImpl;
+import com.chutneytesting.engine.domain.execution.engine.step.Step;
+import com.chutneytesting.engine.domain.execution.report.Status;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.commons.lang3.tuple.Pair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes sub-steps concurrently, or the iterations of a dataset as the <i>for</i> strategy does.<br>
+ * Strategy properties :
+ * <ul>
+ *     <li><b>maxParallelism</b> : maximum number of sub-steps executed at the same time, {@value #DEFAULT_MAX_PARALLELISM} by default</li>
+ *     <li><b>failFast</b> : when true, sub-steps not yet started are not executed after a failure. All sub-steps are executed by default</li>
+ *     <li><b>dataset</b> and <b>index</b> : same as for the <i>for</i> strategy, optional</li>
+ * </ul>
+ * Each sub-step executes with its own copy of the scenario context, so sub-steps do not see each other outputs.
+ * Copies are merged back into the scenario context, in sub-steps order, once all of them are done.
+ */
+public class ParallelStrategy implements StepExecutionStrategy {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelStrategy.class);
+
+    static final int DEFAULT_MAX_PARALLELISM = 10;
+
+    private final StepIterationStrategy iterationStrategy = new StepIterationStrategy();
+
+    @Override
+    public String getType() {
+        return "parallel";
+    }
+
+    @Override
+    public Status execute(ScenarioExecution scenarioExecution,
+                          Step step,
+                          ScenarioContext scenarioContext,
+                          Map<String, Object> localContext,
+                          StepExecutionStrategies strategies) {
+
+        StepStrategyDefinition strategyDefinition = step.strategy().orElseThrow(
+            () -> new IllegalArgumentException("Strategy definition cannot be empty")
+        );
+        int maxParallelism = Optional.ofNullable(strategyDefinition.strategyProperties.get("maxParallelism"))
+            .map(p -> Integer.parseInt(p.toString().trim()))
+            .orElse(DEFAULT_MAX_PARALLELISM);
+        if (maxParallelism < 1) {
+            throw new IllegalArgumentException("Parallel strategy maxParallelism must be greater than 0");
+        }
+        boolean failFast = Optional.ofNullable(strategyDefinition.strategyProperties.get("failFast"))
+            .map(p -> Boolean.parseBoolean(p.toString().trim()))
+            .orElse(false);
+
+        List<Pair<Step, Map<String, Object>>> subSteps;
+        if (strategyDefinition.strategyProperties.containsKey("dataset")) {
+            subSteps = iterationStrategy.buildIterations(step, scenarioContext, strategyDefinition);
+        } else if (step.isParentStep()) {
+            subSteps = step.subSteps().stream().map(subStep -> Pair.of(subStep, localContext)).toList();
+        } else {
+            return step.execute(scenarioExecution, scenarioContext, localContext);
+        }
+
+        step.beginExecution(scenarioExecution);
+        try {
+            executeConcurrently(scenarioExecution, subSteps, scenarioContext, strategies, maxParallelism, failFast);
+        } finally {
+            step.endExecution(scenarioExecution);
+        }
+        return step.status();
+    }
+
+    /**
+     * Sub-steps run on the engine executor, at most maxParallelism of them at the same time.<br>
+     * While waiting, the calling thread runs itself the sub-steps no worker has picked yet,
+     * so that a busy engine executor cannot leave this step waiting for its own sub-steps.
+     */
+    private void executeConcurrently(ScenarioExecution scenarioExecution,
+                                     List<Pair<Step, Map<String, Object>>> subSteps,
+                                     ScenarioContext scenarioContext,
+                                     StepExecutionStrategies strategies,
+                                     int maxParallelism,
+                                     boolean failFast) {
+        List<ScenarioContext> subStepsContexts = new ArrayList<>(subSteps.size());
+        List<FutureTask<Void>> executions = new ArrayList<>(subSteps.size());
+        AtomicBoolean failed = new AtomicBoolean(false);
+        Semaphore permits = new Semaphore(maxParallelism);
+
+        try {
+            for (Pair<Step, Map<String, Object>> subStep : subSteps) {
+                ScenarioContext subStepContext = copyOf(scenarioContext);
+                subStepsContexts.add(subStepContext);
+                FutureTask<Void> execution = new FutureTask<>(() -> {
+                    try {
+                        if (failFast && failed.get()) {
+                            return;
+                        }
+                        Status status = executeSubStep(scenarioExecution, subStep.getLeft(), subStepContext, subStep.getRight(), strategies);
+                        if (Status.FAILURE.equals(status)) {
+                            failed.set(true);
+                        }
+                    } finally {
+                        permits.release();
+                    }
+                }, null);
+                acquire(permits, executions);
+                executions.add(execution);
+                strategies.executor().execute(execution);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        awaitAll(executions, subSteps);
+
+        subStepsContexts.forEach(subStepContext -> mergeInto(scenarioContext, subStepContext));
+    }
+
+    private static void acquire(Semaphore permits, List<FutureTask<Void>> executions) throws InterruptedException {
+        for (FutureTask<Void> execution : executions) {
+            if (permits.tryAcquire()) {
+                return;
+            }
+            execution.run(); // Does nothing if already started by a worker
+        }
+        permits.acquire();
+    }
+
+    private static Status executeSubStep(ScenarioExecution scenarioExecution, Step subStep, ScenarioContext subStepContext, Map<String, Object> localContext, StepExecutionStrategies strategies) {
+        try {
+            return strategies.buildStrategyFrom(subStep).execute(scenarioExecution, subStep, subStepContext, localContext, strategies);
+        } catch (RuntimeException e) {
+            subStep.failure(e);
+            LOGGER.warn("Intercepted exception!", e);
+            return Status.FAILURE;
+        }
+    }
+
+    private static void awaitAll(List<FutureTask<Void>> executions, List<Pair<Step, Map<String, Object>>> subSteps) {
+        for (int i = 0; i < executions.size(); i++) {
+            try {
+                executions.get(i).run(); // Does nothing if already started by a worker
+                executions.get(i).get();
+            } catch (ExecutionException e) {
+                subSteps.get(i).getLeft().failure(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                subSteps.get(i).getLeft().failure(e);
+                return;
+            }
+        }
+    }
+
+    private static ScenarioContext copyOf(ScenarioContext scenarioContext) {
+        ScenarioContextImpl copy = new ScenarioContextImpl();
+        copy.putAll(scenarioContext);
+        return copy;
+    }
+
+    /**
+     * Only put new or changed values, so that sub-steps which did not write an entry do not override other sub-steps ones.
+     */
+    private static void mergeInto(ScenarioContext scenarioContext, ScenarioContext subStepContext) {
+        subStepContext.forEach((key, value) -> {
+            if (!scenarioContext.containsKey(key) || scenarioContext.get(key) != value) {
+                scenarioContext.put(key, value);
+            }
+        });
+    }
+}
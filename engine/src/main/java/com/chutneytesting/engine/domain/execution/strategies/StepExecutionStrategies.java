@@ -22,17 +22,27 @@ import com.chutneytesting.engine.domain.execution.engine.step.Step;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class StepExecutionStrategies {
     private final Map<String, StepExecutionStrategy> strategies;
+    private final Executor executor;
 
     public StepExecutionStrategies() {
         this(new HashSet<>());
     }
 
     public StepExecutionStrategies(Set<StepExecutionStrategy> strategies) {
+        this(strategies, Runnable::run);
+    }
+
+    /**
+     * @param executor executor of the engine, used by strategies running sub-steps concurrently
+     */
+    public StepExecutionStrategies(Set<StepExecutionStrategy> strategies, Executor executor) {
+        this.executor = executor;
 
         if (strategies == null) {
             strategies = new HashSet<>();
@@ -45,6 +55,10 @@ public class StepExecutionStrategies {
             }));
     }
 
+    public Executor executor() {
+        return executor;
+    }
+
     public StepExecutionStrategy buildStrategyFrom(Step step) {
         return step.strategy()
             .map(this::findStrategy)
@@ -50,34 +50,40 @@ public class StepIterationStrategy implements StepExecutionStrategy {
             () -> new IllegalArgumentException("Strategy definition cannot be empty")
         );
 
+        List<Pair<Step, Map<String, Object>>> iterations = buildIterations(step, scenarioContext, strategyDefinition);
+        step.beginExecution(scenarioExecution);
+
+        iterations.forEach(it ->
+            DefaultStepExecutionStrategy.instance.execute(scenarioExecution, it.getLeft()/*step*/, scenarioContext, it.getRight()/*localContext*/, strategies));
+
+        step.endExecution(scenarioExecution);
+        return step.status();
+    }
+
+    /**
+     * Build one iteration of the step for each line of the strategy dataset, and replace the step sub-steps with them.
+     *
+     * @return iterations steps along with their iteration context
+     */
+    List<Pair<Step, Map<String, Object>>> buildIterations(Step step, ScenarioContext scenarioContext, StepStrategyDefinition strategyDefinition) {
         List<Map<String, Object>> dataset = getDataset(step, scenarioContext, strategyDefinition, step.dataEvaluator());
         final String indexName = (String) Optional.ofNullable(strategyDefinition.strategyProperties.get("index")).orElse("i");
-        step.beginExecution(scenarioExecution);
         AtomicInteger index = new AtomicInteger(0);
 
         if (step.isParentStep()) {
             List<Step> subSteps = List.copyOf(step.subSteps());
             step.removeStepExecution();
 
-            List<Pair<Step, Map<String, Object>>> iterations = dataset.stream()
+            return dataset.stream()
                 .map(iterationContext -> buildParentIteration(indexName, index.getAndIncrement(), step, subSteps, iterationContext))
                 .peek(p -> step.addStepExecution(p.getLeft()))
                 .toList();
-
-            iterations.forEach(it ->
-                DefaultStepExecutionStrategy.instance.execute(scenarioExecution, it.getLeft()/*step*/, scenarioContext, it.getRight()/*localContext*/, strategies));
-
-        } else {
-            List<Pair<Step, Map<String, Object>>> iterations = dataset.stream()
-                .map(iterationContext -> buildIteration(indexName, index.getAndIncrement(), step, iterationContext))
-                .peek(e -> step.addStepExecution(e.getKey()))
-                .toList();
-
-            iterations.forEach(it -> it.getLeft().execute(scenarioExecution, scenarioContext, it.getRight()));
         }
 
-        step.endExecution(scenarioExecution);
-        return step.status();
+        return dataset.stream()
+            .map(iterationContext -> buildIteration(indexName, index.getAndIncrement(), step, iterationContext))
+            .peek(e -> step.addStepExecution(e.getKey()))
+            .toList();
     }
 
     private static List<Map<String, Object>> getDataset(Step step, ScenarioContext scenarioContext, StepStrategyDefinition strategyDefinition, StepDataEvaluator evaluator) {
@@ -99,7 +105,7 @@ public class StepIterationStrategy implements StepExecutionStrategy {
         List<Step> newSubSteps = subSteps.stream().map(
             subStep -> {
                 StepDefinition subStepDef = iterationDefinition(indexName, index, subStep.definition(), subStep.dataEvaluator(), subStep.strategy().orElse(new StepStrategyDefinition("", new StrategyProperties())), iterationContext);
-                return new Step(subStep.dataEvaluator(), subStepDef, subStep.executor(), subStep.subSteps());
+                return new Step(subStep.dataEvaluator(), subStepDef, subStep.executor(), copyOf(subStep.subSteps()));
             }
         ).collect(Collectors.toList());
 
@@ -109,6 +115,15 @@ public class StepIterationStrategy implements StepExecutionStrategy {
         );
     }
 
+    /**
+     * Iterations may execute concurrently, so each one gets its own sub-steps tree.
+     */
+    private static List<Step> copyOf(List<Step> steps) {
+        return steps.stream()
+            .map(step -> new Step(step.dataEvaluator(), step.definition(), step.executor(), copyOf(step.subSteps())))
+            .toList();
+    }
+
     private Pair<Step, Map<String, Object>> buildIteration(String indexName, Integer index, Step step, Map<String, Object> iterationContext) {
         return Pair.of(
             new Step(step.dataEvaluator(), iterationDefinition(indexName, index, step.definition(), step.dataEvaluator(), new StepStrategyDefinition("", new StrategyProperties()), iterationContext), step.executor(), emptyList()),
@@ -35,8 +35,11 @@ import com.chutneytesting.engine.domain.execution.strategies.StepStrategyDefinit
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.core.Observer;
+import io.reactivex.rxjava3.disposables.CompositeDisposable;
+import io.reactivex.rxjava3.disposables.Disposable;
 import io.reactivex.rxjava3.subjects.ReplaySubject;
 import io.reactivex.rxjava3.subjects.Subject;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -44,6 +47,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,6 +59,8 @@ public class Reporter {
 
     private final Map<Long, Subject<StepExecutionReport>> reportsPublishers = new ConcurrentHashMap<>();
     private final Map<Long, Step> rootSteps = new ConcurrentHashMap<>();
+    private final Map<Long, RunningReportView> reportViews = new ConcurrentHashMap<>();
+    private final Map<Long, Disposable> busRegistrations = new ConcurrentHashMap<>();
     private long retentionDelaySeconds;
 
     public Reporter() {
@@ -63,7 +69,6 @@ public class Reporter {
 
     public Reporter(long retentionDelaySeconds) {
         this.retentionDelaySeconds = retentionDelaySeconds;
-        busRegistration();
     }
 
     public Observable<StepExecutionReport> subscribeOnExecution(Long executionId) {
@@ -80,12 +85,15 @@ public class Reporter {
         LOGGER.trace("Create publisher for execution {}", executionId);
         reportsPublishers.put(executionId, ReplaySubject.<StepExecutionReport>createWithSize(1).toSerialized());
         rootSteps.put(executionId, rootStep);
+        reportViews.put(executionId, new RunningReportView());
+        Optional.ofNullable(busRegistrations.put(executionId, busRegistration(executionId))).ifPresent(Disposable::dispose);
         LOGGER.debug("Publishers map size : {}", reportsPublishers.size());
     }
 
     private void storeRootStepAndPublishReport(StartScenarioExecutionEvent event) {
         LOGGER.trace("Store root step for execution {}", event.executionId());
         rootSteps.put(event.executionId(), event.step);
+        reportViews.computeIfPresent(event.executionId(), (id, view) -> new RunningReportView());
         publishReport(event);
     }
 
@@ -107,7 +115,8 @@ public class Reporter {
     }
 
     private StepExecutionReport generateRunningReport(long executionId) {
-        final Status calculatedRootStepStatus = rootSteps.get(executionId).status();
+        final Step rootStep = rootSteps.get(executionId);
+        final Status calculatedRootStepStatus = rootStep.status();
 
         final Status finalStatus;
         if (!calculatedRootStepStatus.equals(RUNNING) && !calculatedRootStepStatus.equals(PAUSED)) {
@@ -115,7 +124,9 @@ public class Reporter {
         } else {
             finalStatus = calculatedRootStepStatus;
         }
-        return generateReport(rootSteps.get(executionId), s -> finalStatus);
+        return Optional.ofNullable(reportViews.get(executionId))
+            .map(view -> view.generateReport(rootStep, s -> finalStatus))
+            .orElseGet(() -> generateReport(rootStep, s -> finalStatus));
     }
 
     private StepExecutionReport generateLastReport(long executionId) {
@@ -123,6 +134,12 @@ public class Reporter {
     }
 
     StepExecutionReport generateReport(Step step, Function<Step, Status> statusSupplier) {
+        return generateReport(step, statusSupplier, () ->
+            step.subSteps().stream().map(subStep -> generateReport(subStep, Step::status)).collect(Collectors.toList())
+        );
+    }
+
+    private StepExecutionReport generateReport(Step step, Function<Step, Status> statusSupplier, Supplier<List<StepExecutionReport>> subStepsReports) {
         try {
             return new StepExecutionReportBuilder()
                 .setName(step.definition().name)
@@ -132,7 +149,7 @@ public class Reporter {
                 .setStatus(statusSupplier.apply(step))
                 .setInformation(step.informations())
                 .setErrors(step.errors())
-                .setSteps(step.subSteps().stream().map(subStep -> generateReport(subStep, Step::status)).collect(Collectors.toList()))
+                .setSteps(subStepsReports.get())
                 .setEvaluatedInputs(step.getEvaluatedInputs())
                 .setStepResults(step.getStepOutputs())
                 .setScenarioContext(step.getScenarioContext())
@@ -158,31 +175,101 @@ public class Reporter {
 
     private void completePublisher(long executionId, Observer<StepExecutionReport> observer) {
         LOGGER.trace("Complete publisher for execution {}", executionId);
+        Optional.ofNullable(busRegistrations.remove(executionId)).ifPresent(Disposable::dispose);
         observer.onComplete();
         if (retentionDelaySeconds > 0) {
             Completable.timer(retentionDelaySeconds, TimeUnit.SECONDS)
                 .subscribe(() -> {
                     rootSteps.remove(executionId);
+                    reportViews.remove(executionId);
                     reportsPublishers.remove(executionId);
                     LOGGER.trace("Remove publisher for execution {}", executionId);
                 }, throwable -> LOGGER.error("Cannot remove publisher for execution {}", executionId, throwable));
         } else {
             rootSteps.remove(executionId);
+            reportViews.remove(executionId);
             reportsPublishers.remove(executionId);
         }
     }
 
     private void doIfPublisherExists(long executionId, Consumer<Observer<StepExecutionReport>> consumer) {
         Optional.ofNullable((Observer<StepExecutionReport>) reportsPublishers.get(executionId))
-            .ifPresent(consumer);
+            .ifPresent(observer -> {
+                // Steps of a parallel strategy post events from several threads, observers must be signaled serially
+                synchronized (observer) {
+                    consumer.accept(observer);
+                }
+            });
     }
 
-    private void busRegistration() {
+    private Disposable busRegistration(long executionId) {
         RxBus bus = RxBus.getInstance();
-        bus.register(StartScenarioExecutionEvent.class, this::storeRootStepAndPublishReport);
-        bus.register(BeginStepExecutionEvent.class, this::publishReport);
-        bus.register(EndStepExecutionEvent.class, this::publishReport);
-        bus.register(PauseStepExecutionEvent.class, this::publishReport);
-        bus.register(EndScenarioExecutionEvent.class, this::publishReportAndCompletePublisher);
+        return new CompositeDisposable(
+            bus.registerOnExecutionId(StartScenarioExecutionEvent.class, executionId, this::storeRootStepAndPublishReport),
+            bus.registerOnExecutionId(BeginStepExecutionEvent.class, executionId, this::publishReport),
+            bus.registerOnExecutionId(EndStepExecutionEvent.class, executionId, this::publishReport),
+            bus.registerOnExecutionId(PauseStepExecutionEvent.class, executionId, this::publishReport),
+            bus.registerOnExecutionId(EndScenarioExecutionEvent.class, executionId, this::publishReportAndCompletePublisher)
+        );
+    }
+
+    /**
+     * Materialized view of a running execution report.<br>
+     * Reports of steps which did not change since the last generation are reused,
+     * so each step event only rebuilds the branches it modified instead of the whole tree.<br>
+     * Last report of an execution is always fully generated.
+     */
+    private class RunningReportView {
+
+        private Map<Step, GeneratedReport> generatedReports = new IdentityHashMap<>();
+
+        synchronized StepExecutionReport generateReport(Step rootStep, Function<Step, Status> rootStatusSupplier) {
+            Map<Step, GeneratedReport> currentReports = new IdentityHashMap<>(generatedReports.size());
+            List<StepExecutionReport> subStepsReports = reuseOrGenerateSubStepsReports(rootStep, currentReports);
+            StepExecutionReport report = Reporter.this.generateReport(rootStep, rootStatusSupplier, () -> subStepsReports);
+            generatedReports = currentReports;
+            return report;
+        }
+
+        private StepExecutionReport reuseOrGenerateReport(Step step, Map<Step, GeneratedReport> currentReports) {
+            final long revision = step.revision();
+            final List<StepExecutionReport> subStepsReports = reuseOrGenerateSubStepsReports(step, currentReports);
+            GeneratedReport generatedReport = generatedReports.get(step);
+            if (generatedReport == null || !generatedReport.isUpToDate(step, revision, subStepsReports)) {
+                generatedReport = new GeneratedReport(Reporter.this.generateReport(step, Step::status, () -> subStepsReports), revision);
+            }
+            currentReports.put(step, generatedReport);
+            return generatedReport.report();
+        }
+
+        private List<StepExecutionReport> reuseOrGenerateSubStepsReports(Step step, Map<Step, GeneratedReport> currentReports) {
+            return step.subSteps().stream()
+                .map(subStep -> reuseOrGenerateReport(subStep, currentReports))
+                .collect(Collectors.toList());
+        }
+    }
+
+    private record GeneratedReport(StepExecutionReport report, long revision) {
+
+        /**
+         * Running steps are always regenerated since their duration is still evolving.
+         */
+        boolean isUpToDate(Step step, long stepRevision, List<StepExecutionReport> subStepsReports) {
+            return revision == stepRevision
+                && !step.isRunning()
+                && sameReports(report.steps, subStepsReports);
+        }
+
+        private static boolean sameReports(List<StepExecutionReport> reports, List<StepExecutionReport> otherReports) {
+            if (reports == null || reports.size() != otherReports.size()) {
+                return false;
+            }
+            for (int i = 0; i < reports.size(); i++) {
+                if (reports.get(i) != otherReports.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
     }
 }
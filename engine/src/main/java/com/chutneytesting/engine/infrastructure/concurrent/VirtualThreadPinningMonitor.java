@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.engine.infrastructure.concurrent;
+
+import static java.util.stream.Collectors.joining;
+
+import java.time.Duration;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logs virtual threads pinned to their carrier thread, most often while blocking inside a synchronized block or method.<br>
+ * A pinned virtual thread holds its carrier thread, so actions doing blocking I/O inside synchronized code limit the number
+ * of concurrent executions to the number of carrier threads.<br>
+ * Pinning events are read from a JFR recording stream, which is not started on runtimes without virtual threads.
+ */
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_LOGGED_FRAMES = 15;
+
+    private final RecordingStream recordingStream;
+
+    /**
+     * @param threshold pinning durations under this threshold are not logged
+     */
+    public VirtualThreadPinningMonitor(Duration threshold) {
+        if (!VirtualThreads.isSupported()) {
+            recordingStream = null;
+            return;
+        }
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, VirtualThreadPinningMonitor::logPinnedThread);
+        recordingStream.startAsync();
+        LOGGER.info("Virtual threads pinned for more than {} ms will be logged", threshold.toMillis());
+    }
+
+    @Override
+    public void close() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private static void logPinnedThread(RecordedEvent event) {
+        String stackTrace = event.getStackTrace() == null ? "" : event.getStackTrace().getFrames().stream()
+            .limit(MAX_LOGGED_FRAMES)
+            .map(VirtualThreadPinningMonitor::format)
+            .collect(joining(System.lineSeparator() + "\tat ", System.lineSeparator() + "\tat ", ""));
+        LOGGER.warn("Virtual thread [{}] pinned to its carrier thread during {} ms{}",
+            event.getThread() == null ? "" : event.getThread().getJavaName(),
+            event.getDuration().toMillis(),
+            stackTrace);
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + "(line " + frame.getLineNumber() + ")";
+    }
+}
@@ -24,6 +24,7 @@ import com.chutneytesting.action.domain.ActionTemplateParserV2;
 import com.chutneytesting.action.domain.ActionTemplateRegistry;
 import com.chutneytesting.action.spi.Action;
 import com.chutneytesting.action.spi.ActionExecutionResult;
+import com.chutneytesting.action.spi.ActionResources;
 import com.chutneytesting.engine.api.execution.DatasetDto;
 import com.chutneytesting.engine.api.execution.ExecutionRequestDto;
 import com.chutneytesting.engine.api.execution.ExecutionRequestDto.StepDefinitionRequestDto;
@@ -37,6 +38,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.assertj.core.util.Maps;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -153,6 +155,19 @@ public class ExecutionConfigurationTest {
         assertThat(executorService.isShutdown()).isTrue();
     }
 
+    @Test
+    public void should_close_action_resources_on_close() throws Exception {
+        //G
+        ExecutionConfiguration executionConfiguration = new ExecutionConfiguration(5L, Executors.newFixedThreadPool(1), emptyMap(), null, null);
+        int closedBefore = CountingActionResources.CLOSED.get();
+
+        //W
+        executionConfiguration.embeddedTestEngine().close();
+
+        //T
+        assertThat(CountingActionResources.CLOSED.get()).isEqualTo(closedBefore + 1);
+    }
+
     private StepDefinitionRequestDto createSucessStep() {
         return new StepDefinitionRequestDto(
             "scenario name",
@@ -196,6 +211,15 @@ public class ExecutionConfigurationTest {
         );
     }
 
+    public static class CountingActionResources implements ActionResources {
+        static final AtomicInteger CLOSED = new AtomicInteger();
+
+        @Override
+        public void close() {
+            CLOSED.incrementAndGet();
+        }
+    }
+
     public static class ErrorAction implements Action {
 
         public ErrorAction() {
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.engine.domain.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chutneytesting.engine.domain.execution.command.PauseExecutionCommand;
+import com.chutneytesting.engine.domain.execution.command.ResumeExecutionCommand;
+import com.chutneytesting.engine.domain.execution.command.StopExecutionCommand;
+import com.chutneytesting.engine.domain.execution.event.Event;
+import io.reactivex.rxjava3.disposables.Disposable;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class RxBusTest {
+
+    private final RxBus sut = new RxBus();
+
+    @Test
+    public void should_dispatch_events_to_handlers_of_their_execution_and_type_only() {
+        List<Event> firstExecutionPauses = new ArrayList<>();
+        List<Event> secondExecutionPauses = new ArrayList<>();
+        List<Event> firstExecutionStops = new ArrayList<>();
+        sut.registerOnExecutionId(PauseExecutionCommand.class, 1L, firstExecutionPauses::add);
+        sut.registerOnExecutionId(PauseExecutionCommand.class, 2L, secondExecutionPauses::add);
+        sut.registerOnExecutionId(StopExecutionCommand.class, 1L, firstExecutionStops::add);
+
+        PauseExecutionCommand pause = new PauseExecutionCommand(1L);
+        sut.post(pause);
+        sut.post(new ResumeExecutionCommand(1L));
+        sut.post(new StopExecutionCommand(3L));
+
+        assertThat(firstExecutionPauses).containsExactly(pause);
+        assertThat(secondExecutionPauses).isEmpty();
+        assertThat(firstExecutionStops).isEmpty();
+    }
+
+    @Test
+    public void should_remove_execution_channel_with_its_last_handler() {
+        Disposable pauseHandler = sut.registerOnExecutionId(PauseExecutionCommand.class, 1L, e -> {});
+        Disposable stopHandler = sut.registerOnExecutionId(StopExecutionCommand.class, 1L, e -> {});
+        assertThat(sut.channelsCount()).isEqualTo(1);
+
+        pauseHandler.dispose();
+        assertThat(sut.channelsCount()).isEqualTo(1);
+
+        stopHandler.dispose();
+        assertThat(sut.channelsCount()).isZero();
+    }
+
+    @Test
+    public void should_keep_dispatching_to_other_handlers_when_one_fails() {
+        List<Event> received = new ArrayList<>();
+        sut.registerOnExecutionId(PauseExecutionCommand.class, 1L, e -> {
+            throw new IllegalStateException("handler failure");
+        });
+        sut.registerOnExecutionId(PauseExecutionCommand.class, 1L, received::add);
+
+        sut.post(new PauseExecutionCommand(1L));
+        sut.post(new PauseExecutionCommand(1L));
+
+        assertThat(received).hasSize(2);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.engine.domain.execution.engine;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chutneytesting.action.spi.injectable.Target;
+import com.chutneytesting.engine.domain.environment.TargetImpl;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class TargetConcurrencyLimitsTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void should_limit_concurrent_actions_on_target_with_default_limit() throws Exception {
+        TargetConcurrencyLimits sut = new TargetConcurrencyLimits(2);
+        Target target = TargetImpl.builder().withName("target").withUrl("http://localhost").build();
+
+        assertThat(maxConcurrentActions(sut, target)).isEqualTo(2);
+    }
+
+    @Test
+    public void should_limit_concurrent_actions_on_target_with_its_own_limit() throws Exception {
+        TargetConcurrencyLimits sut = new TargetConcurrencyLimits(0);
+        Target target = TargetImpl.builder().withName("target").withUrl("http://localhost")
+            .withProperties(Map.of(TargetConcurrencyLimits.MAX_CONCURRENT_ACTIONS_PROPERTY, "1"))
+            .build();
+
+        assertThat(maxConcurrentActions(sut, target)).isEqualTo(1);
+    }
+
+    @Test
+    public void should_use_default_limit_when_target_limit_is_malformed() throws Exception {
+        TargetConcurrencyLimits sut = new TargetConcurrencyLimits(2);
+        Target target = TargetImpl.builder().withName("target").withUrl("http://localhost")
+            .withProperties(Map.of(TargetConcurrencyLimits.MAX_CONCURRENT_ACTIONS_PROPERTY, "two"))
+            .build();
+
+        assertThat(maxConcurrentActions(sut, target)).isEqualTo(2);
+    }
+
+    @Test
+    public void should_not_limit_actions_without_target() throws Exception {
+        TargetConcurrencyLimits sut = new TargetConcurrencyLimits(1);
+
+        assertThat(maxConcurrentActions(sut, TargetImpl.NONE)).isEqualTo(8);
+    }
+
+    @Test
+    public void should_limit_targets_of_each_environment_separately() throws Exception {
+        TargetConcurrencyLimits sut = new TargetConcurrencyLimits(1);
+        Target target = TargetImpl.builder().withName("target").withUrl("http://localhost").build();
+
+        assertThat(runsWhileLimitIsHeld(sut, "env", target, "other env", target)).isTrue();
+    }
+
+    @Test
+    public void should_apply_changed_limit_of_target() throws Exception {
+        TargetConcurrencyLimits sut = new TargetConcurrencyLimits(0);
+        Target target = TargetImpl.builder().withName("target").withUrl("http://localhost")
+            .withProperties(Map.of(TargetConcurrencyLimits.MAX_CONCURRENT_ACTIONS_PROPERTY, "1"))
+            .build();
+        Target updatedTarget = TargetImpl.builder().withName("target").withUrl("http://localhost")
+            .withProperties(Map.of(TargetConcurrencyLimits.MAX_CONCURRENT_ACTIONS_PROPERTY, "2"))
+            .build();
+
+        assertThat(runsWhileLimitIsHeld(sut, "env", target, "env", updatedTarget)).isTrue();
+    }
+
+    /**
+     * @return true if an action on the second target runs while an action on the first one holds its single permit
+     */
+    private boolean runsWhileLimitIsHeld(TargetConcurrencyLimits sut, String environment, Target target, String otherEnvironment, Target otherTarget) throws Exception {
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Object> holder = executor.submit(() -> sut.execute(environment, target, () -> {
+            holding.countDown();
+            return release.await(5, SECONDS);
+        }));
+        try {
+            assertThat(holding.await(5, SECONDS)).isTrue();
+            return executor.submit(() -> sut.execute(otherEnvironment, otherTarget, () -> true)).get(5, SECONDS);
+        } finally {
+            release.countDown();
+            holder.get();
+        }
+    }
+
+    private int maxConcurrentActions(TargetConcurrencyLimits sut, Target target) throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Callable<Integer> action = () -> {
+            int current = running.incrementAndGet();
+            maxRunning.accumulateAndGet(current, Math::max);
+            Thread.sleep(100);
+            running.decrementAndGet();
+            return current;
+        };
+
+        List<Future<Integer>> executions = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            executions.add(executor.submit(() -> sut.execute("env", target, action)));
+        }
+        for (Future<Integer> execution : executions) {
+            execution.get();
+        }
+        return maxRunning.get();
+    }
+}
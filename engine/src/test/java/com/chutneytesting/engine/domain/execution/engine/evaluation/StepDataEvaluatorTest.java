@@ -182,6 +182,20 @@ public class StepDataEvaluatorTest {
         sut.evaluateNamedDataWithContextVariables(inputs, scenarioContext);
     }
 
+    @Test
+    public void should_evaluate_same_expression_against_each_context_variables() {
+        Map<String, Object> inputs = Map.of("value", "${#variable.toUpperCase()}");
+
+        for (String variable : List.of("toto", "tata", "titi")) {
+            ScenarioContextImpl scenarioContext = new ScenarioContextImpl();
+            scenarioContext.put("variable", variable);
+
+            Map<String, Object> evaluatedInputs = sut.evaluateNamedDataWithContextVariables(inputs, scenarioContext);
+
+            assertThat(evaluatedInputs.get("value")).isEqualTo(variable.toUpperCase());
+        }
+    }
+
     @Test
     public void should_evaluate_multiple_spel() {
         // Given
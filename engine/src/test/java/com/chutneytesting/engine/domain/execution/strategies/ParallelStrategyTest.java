@@ -0,0 +1,179 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.engine.domain.execution.strategies;
+
+import static com.chutneytesting.engine.api.execution.StatusDto.FAILURE;
+import static com.chutneytesting.engine.api.execution.StatusDto.NOT_EXECUTED;
+import static com.chutneytesting.engine.api.execution.StatusDto.SUCCESS;
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chutneytesting.ExecutionConfiguration;
+import com.chutneytesting.engine.api.execution.ExecutionRequestDto;
+import com.chutneytesting.engine.api.execution.StepExecutionReportDto;
+import com.chutneytesting.engine.api.execution.TestEngine;
+import com.chutneytesting.tools.Jsons;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ParallelStrategyTest {
+
+    private final TestEngine testEngine = new ExecutionConfiguration().embeddedTestEngine();
+
+    @Test
+    public void should_execute_sub_steps_concurrently() {
+        // G
+        ExecutionRequestDto requestDto = Jsons.loadJsonFromClasspath("scenarios_examples/parallel_steps.json", ExecutionRequestDto.class);
+
+        // W
+        StepExecutionReportDto result = testEngine.execute(requestDto);
+
+        // T
+        assertThat(result.status).isEqualTo(SUCCESS);
+        StepExecutionReportDto parentStep = result.steps.get(0);
+        assertThat(parentStep.steps).hasSize(3).allSatisfy(s -> assertThat(s.status).isEqualTo(SUCCESS));
+        assertThat(parentStep.duration).isLessThan(1500);
+    }
+
+    @Test
+    public void should_execute_sub_steps_on_engine_executor() {
+        // G
+        AtomicInteger submittedTasks = new AtomicInteger();
+        ExecutorService engineExecutor = new ThreadPoolExecutor(4, 4, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>()) {
+            @Override
+            public void execute(Runnable command) {
+                submittedTasks.incrementAndGet();
+                super.execute(command);
+            }
+        };
+        TestEngine engine = new ExecutionConfiguration(5L, engineExecutor, emptyMap(), null, null).embeddedTestEngine();
+        ExecutionRequestDto requestDto = Jsons.loadJsonFromClasspath("scenarios_examples/parallel_steps.json", ExecutionRequestDto.class);
+
+        // W
+        StepExecutionReportDto result = engine.execute(requestDto);
+
+        // T
+        assertThat(result.status).isEqualTo(SUCCESS);
+        assertThat(submittedTasks).hasValue(1 + 3); // Scenario and its sub-steps
+        engineExecutor.shutdown();
+    }
+
+    @Test
+    public void should_execute_sub_steps_when_engine_executor_is_busy() {
+        // G
+        ExecutorService engineExecutor = Executors.newSingleThreadExecutor();
+        TestEngine engine = new ExecutionConfiguration(5L, engineExecutor, emptyMap(), null, null).embeddedTestEngine();
+        ExecutionRequestDto requestDto = Jsons.loadJsonFromClasspath("scenarios_examples/parallel_steps.json", ExecutionRequestDto.class);
+
+        // W
+        StepExecutionReportDto result = engine.execute(requestDto);
+
+        // T
+        assertThat(result.status).isEqualTo(SUCCESS);
+        assertThat(result.steps.get(0).steps).hasSize(3).allSatisfy(s -> assertThat(s.status).isEqualTo(SUCCESS));
+        engineExecutor.shutdown();
+    }
+
+    @Test
+    public void should_merge_sub_steps_outputs_into_scenario_context() {
+        // G
+        ExecutionRequestDto requestDto = Jsons.loadJsonFromClasspath("scenarios_examples/parallel_steps_outputs.json", ExecutionRequestDto.class);
+
+        // W
+        StepExecutionReportDto result = testEngine.execute(requestDto);
+
+        // T
+        assertThat(result.status).isEqualTo(SUCCESS);
+        assertThat(result.steps.get(2).information).hasSize(3);
+    }
+
+    @Test
+    public void should_execute_dataset_iterations_concurrently() {
+        // G
+        ExecutionRequestDto requestDto = Jsons.loadJsonFromClasspath("scenarios_examples/parallel_step_iterations.json", ExecutionRequestDto.class);
+
+        // W
+        StepExecutionReportDto result = testEngine.execute(requestDto);
+
+        // T
+        assertThat(result.status).isEqualTo(SUCCESS);
+        StepExecutionReportDto parentStep = result.steps.get(0);
+        assertThat(parentStep.steps).hasSize(2);
+        assertThat(parentStep.steps.get(0).name).isEqualTo("0 - Hello website on A with user Tata");
+        assertThat(parentStep.steps.get(1).name).isEqualTo("1 - Hello website on B with user Baba");
+    }
+
+    @Test
+    public void should_execute_dataset_iterations_of_parent_step_with_their_own_sub_steps() {
+        // G
+        ExecutionRequestDto requestDto = Jsons.loadJsonFromClasspath("scenarios_examples/parallel_step_iterations_with_parent_and_substeps.json", ExecutionRequestDto.class);
+
+        // W
+        StepExecutionReportDto result = testEngine.execute(requestDto);
+
+        // T
+        assertThat(result.status).isEqualTo(SUCCESS);
+        List<StepExecutionReportDto> iterations = result.steps.get(0).steps;
+        assertThat(iterations).hasSize(3);
+        assertThat(iterations)
+            .extracting(iteration -> iteration.steps.get(0).steps.get(1).context.evaluatedInputs.get("stringParam"))
+            .containsExactly("/X/Xoxo", "/Y/Yoyo", "/Z/Zozo");
+        assertThat(iterations)
+            .flatExtracting(iteration -> iteration.steps.get(0).steps)
+            .allSatisfy(s -> assertThat(s.status).isEqualTo(SUCCESS));
+    }
+
+    @Test
+    public void should_not_execute_remaining_sub_steps_after_failure_when_fail_fast() {
+        // G
+        ExecutionRequestDto requestDto = Jsons.loadJsonFromClasspath("scenarios_examples/parallel_steps_fail_fast.json", ExecutionRequestDto.class);
+
+        // W
+        StepExecutionReportDto result = testEngine.execute(requestDto);
+
+        // T
+        assertThat(result.status).isEqualTo(FAILURE);
+        StepExecutionReportDto parentStep = result.steps.get(0);
+        assertThat(parentStep.status).isEqualTo(FAILURE);
+        assertThat(parentStep.steps.get(0).status).isEqualTo(FAILURE);
+        assertThat(parentStep.steps.get(1).status).isEqualTo(NOT_EXECUTED);
+        assertThat(parentStep.steps.get(2).status).isEqualTo(NOT_EXECUTED);
+    }
+
+    @Test
+    public void should_execute_all_sub_steps_by_default() {
+        // G
+        ExecutionRequestDto requestDto = Jsons.loadJsonFromClasspath("scenarios_examples/parallel_steps_wait_all.json", ExecutionRequestDto.class);
+
+        // W
+        StepExecutionReportDto result = testEngine.execute(requestDto);
+
+        // T
+        assertThat(result.status).isEqualTo(FAILURE);
+        StepExecutionReportDto parentStep = result.steps.get(0);
+        assertThat(parentStep.status).isEqualTo(FAILURE);
+        assertThat(parentStep.steps.get(0).status).isEqualTo(FAILURE);
+        assertThat(parentStep.steps.get(1).status).isEqualTo(SUCCESS);
+        assertThat(parentStep.steps.get(2).status).isEqualTo(SUCCESS);
+    }
+}
@@ -189,6 +189,51 @@ public class ReporterTest {
         assertThat(step.status()).isEqualTo(SUCCESS);
     }
 
+    @Test
+    public void should_only_regenerate_changed_steps_reports_while_running() {
+        Step subStep1 = step.subSteps().get(0);
+        Step subStep11 = step.subSteps().get(0).subSteps().get(0);
+        Step subStep12 = step.subSteps().get(0).subSteps().get(1);
+        Step subStep2 = step.subSteps().get(1);
+
+        sut.createPublisher(scenarioExecution.executionId, step);
+        TestObserver<StepExecutionReport> observer = sut.subscribeOnExecution(scenarioExecution.executionId).test();
+        RxBus.getInstance().post(new StartScenarioExecutionEvent(scenarioExecution, step));//1
+
+        step.beginExecution(scenarioExecution);//2
+        subStep1.beginExecution(scenarioExecution);//3
+        subStep11.beginExecution(scenarioExecution);//4
+        subStep11.success();
+        subStep11.endExecution(scenarioExecution);//5
+        subStep12.beginExecution(scenarioExecution);//6
+
+        observer.awaitCount(6);
+        StepExecutionReport beforeLastChange = observer.values().get(4);
+        StepExecutionReport afterLastChange = observer.values().get(5);
+
+        assertThat(afterLastChange).isNotSameAs(beforeLastChange);
+        assertThat(afterLastChange.steps.get(0)).isNotSameAs(beforeLastChange.steps.get(0));
+        assertThat(afterLastChange.steps.get(0).steps.get(0)).isSameAs(beforeLastChange.steps.get(0).steps.get(0));
+        assertThat(afterLastChange.steps.get(0).steps.get(1)).isNotSameAs(beforeLastChange.steps.get(0).steps.get(1));
+        assertThat(afterLastChange.steps.get(1)).isSameAs(beforeLastChange.steps.get(1));
+        assertThat(afterLastChange.steps.get(0).steps.get(1).status).isEqualTo(RUNNING);
+
+        subStep12.success();
+        subStep12.endExecution(scenarioExecution);
+        subStep1.endExecution(scenarioExecution);
+        subStep2.beginExecution(scenarioExecution);
+        subStep2.success();
+        subStep2.endExecution(scenarioExecution);
+        step.endExecution(scenarioExecution);
+        RxBus.getInstance().post(new EndScenarioExecutionEvent(scenarioExecution, step));
+
+        observer.awaitDone(5, SECONDS);
+        observer.assertComplete();
+        StepExecutionReport lastReport = observer.values().get(observer.values().size() - 1);
+        assertThat(lastReport.status).isEqualTo(SUCCESS);
+        assertThat(lastReport.steps.get(0).steps.get(1).status).isEqualTo(SUCCESS);
+    }
+
     private Step buildFakeScenario() {
         final String environment = "";
         List<StepDefinition> subSubSteps = new ArrayList<>();
@@ -20,7 +20,9 @@ import com.chutneytesting.environment.api.EmbeddedEnvironmentApi;
 import com.chutneytesting.environment.domain.Environment;
 import com.chutneytesting.environment.domain.EnvironmentRepository;
 import com.chutneytesting.environment.domain.EnvironmentService;
+import com.chutneytesting.environment.infra.CachedEnvironmentRepository;
 import com.chutneytesting.environment.infra.JsonFilesEnvironmentRepository;
+import com.chutneytesting.server.core.domain.instrument.ChutneyMetrics;
 
 public class EnvironmentConfiguration {
 
@@ -28,7 +30,11 @@ public class EnvironmentConfiguration {
     private final EmbeddedEnvironmentApi environmentApi;
 
     public EnvironmentConfiguration(String storeFolderPath) {
-        this.environmentRepository = createEnvironmentRepository(storeFolderPath);
+        this(storeFolderPath, null);
+    }
+
+    public EnvironmentConfiguration(String storeFolderPath, ChutneyMetrics metrics) {
+        this.environmentRepository = createEnvironmentRepository(storeFolderPath, metrics);
         EnvironmentService environmentService = createEnvironmentService(environmentRepository);
         this.environmentApi = new EmbeddedEnvironmentApi(environmentService);
 
@@ -41,8 +47,8 @@ public class EnvironmentConfiguration {
         }
     }
 
-    private EnvironmentRepository createEnvironmentRepository(String storeFolderPath) {
-        return new JsonFilesEnvironmentRepository(storeFolderPath);
+    private EnvironmentRepository createEnvironmentRepository(String storeFolderPath, ChutneyMetrics metrics) {
+        return new CachedEnvironmentRepository(new JsonFilesEnvironmentRepository(storeFolderPath), storeFolderPath, metrics);
     }
 
     private EnvironmentService createEnvironmentService(EnvironmentRepository environmentRepository) {
@@ -17,6 +17,8 @@
 package com.chutneytesting.environment;
 
 import com.chutneytesting.environment.api.EmbeddedEnvironmentApi;
+import com.chutneytesting.server.core.domain.instrument.ChutneyMetrics;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,8 +29,8 @@ public class EnvironmentSpringConfiguration {
     public static final String CONFIGURATION_FOLDER_SPRING_VALUE = "${chutney.environment.configuration-folder:~/.chutney/conf/environment}";
 
     @Bean
-    EmbeddedEnvironmentApi environmentEmbeddedApplication(@Value(CONFIGURATION_FOLDER_SPRING_VALUE) String storeFolderPath) {
-        EnvironmentConfiguration environmentConfiguration = new EnvironmentConfiguration(storeFolderPath);
+    EmbeddedEnvironmentApi environmentEmbeddedApplication(@Value(CONFIGURATION_FOLDER_SPRING_VALUE) String storeFolderPath, ObjectProvider<ChutneyMetrics> metrics) {
+        EnvironmentConfiguration environmentConfiguration = new EnvironmentConfiguration(storeFolderPath, metrics.getIfAvailable());
         return environmentConfiguration.getEmbeddedEnvironmentApi();
     }
 }
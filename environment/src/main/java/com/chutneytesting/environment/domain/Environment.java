@@ -18,12 +18,15 @@ package com.chutneytesting.environment.domain;
 
 import static java.util.Collections.emptySet;
 import static java.util.Optional.ofNullable;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toUnmodifiableMap;
 
 import com.chutneytesting.environment.domain.exception.AlreadyExistingTargetException;
 import com.chutneytesting.environment.domain.exception.TargetNotFoundException;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -33,11 +36,13 @@ public class Environment {
     public final String name;
     public final String description;
     public final Set<Target> targets;
+    private final Map<String, Target> targetsByName;
 
     private Environment(String name, String description, Set<Target> targets) {
         this.name = name;
         this.description = description;
         this.targets = targets;
+        this.targetsByName = targets.stream().collect(toUnmodifiableMap(Target::getName, identity(), (first, second) -> first));
     }
 
     public static EnvironmentBuilder builder() {
@@ -60,9 +65,7 @@ public class Environment {
     }
 
     Target getTarget(String targetName) {
-        return targets.stream()
-            .filter(t -> t.name.equals(targetName))
-            .findFirst()
+        return ofNullable(targetName).map(targetsByName::get)
             .orElseThrow(() -> new TargetNotFoundException("Target [" + targetName + "] not found in environment [" + name + "]"));
     }
 
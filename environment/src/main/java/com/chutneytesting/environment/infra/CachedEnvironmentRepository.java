@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.environment.infra;
+
+import static java.util.Optional.ofNullable;
+
+import com.chutneytesting.environment.domain.Environment;
+import com.chutneytesting.environment.domain.EnvironmentRepository;
+import com.chutneytesting.environment.domain.exception.CannotDeleteEnvironmentException;
+import com.chutneytesting.environment.domain.exception.EnvironmentNotFoundException;
+import com.chutneytesting.environment.domain.exception.InvalidEnvironmentNameException;
+import com.chutneytesting.server.core.domain.instrument.ChutneyMetrics;
+import com.chutneytesting.tools.file.FolderWatcher;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps {@link Environment Environments} read from a delegate repository in memory.<br>
+ * Cached environments are dropped when an environment is saved or deleted, and when files change in the store folder.
+ */
+public class CachedEnvironmentRepository implements EnvironmentRepository, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CachedEnvironmentRepository.class);
+
+    private final EnvironmentRepository delegate;
+    private final Optional<ChutneyMetrics> metrics;
+    private final Map<String, Environment> environments = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private FolderWatcher.Registration folderWatch;
+
+    public CachedEnvironmentRepository(EnvironmentRepository delegate, String storeFolderPath, ChutneyMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = ofNullable(metrics);
+        try {
+            folderWatch = FolderWatcher.watch(Paths.get(storeFolderPath).toAbsolutePath(), this::invalidate);
+        } catch (UncheckedIOException e) {
+            LOGGER.warn("Cannot watch environments folder {}, only changes made through Chutney will be seen", storeFolderPath, e);
+        }
+    }
+
+    @Override
+    public void save(Environment environment) throws InvalidEnvironmentNameException {
+        try {
+            delegate.save(environment);
+        } finally {
+            invalidate();
+        }
+    }
+
+    @Override
+    public Environment findByName(String name) throws EnvironmentNotFoundException {
+        Environment environment = environments.get(name);
+        if (environment != null) {
+            metrics.ifPresent(ChutneyMetrics::onEnvironmentCacheHit);
+            return environment;
+        }
+        metrics.ifPresent(ChutneyMetrics::onEnvironmentCacheMiss);
+
+        long readGeneration = generation.get();
+        environment = delegate.findByName(name);
+        environments.put(name, environment);
+        if (generation.get() != readGeneration) {
+            environments.remove(name, environment);
+        }
+        return environment;
+    }
+
+    @Override
+    public List<String> listNames() {
+        return delegate.listNames();
+    }
+
+    @Override
+    public void delete(String name) throws EnvironmentNotFoundException, CannotDeleteEnvironmentException {
+        try {
+            delegate.delete(name);
+        } finally {
+            invalidate();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (folderWatch != null) {
+            folderWatch.close();
+        }
+    }
+
+    private void invalidate() {
+        generation.incrementAndGet();
+        environments.clear();
+    }
+}
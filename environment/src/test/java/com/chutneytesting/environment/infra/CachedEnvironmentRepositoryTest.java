@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.environment.infra;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.chutneytesting.environment.domain.Environment;
+import com.chutneytesting.environment.domain.EnvironmentRepository;
+import com.chutneytesting.environment.domain.Target;
+import com.chutneytesting.server.core.domain.instrument.ChutneyMetrics;
+import com.chutneytesting.tools.ThrowingConsumer;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class CachedEnvironmentRepositoryTest {
+
+    private static final Path CONFIGURATION_FOLDER = Paths.get("target", "cached-conf");
+
+    private final EnvironmentRepository delegate = spy(new JsonFilesEnvironmentRepository(CONFIGURATION_FOLDER.toString()));
+    private final ChutneyMetrics metrics = mock(ChutneyMetrics.class);
+    private final CachedEnvironmentRepository sut = new CachedEnvironmentRepository(delegate, CONFIGURATION_FOLDER.toString(), metrics);
+
+    @AfterEach
+    public void after() throws IOException {
+        sut.close();
+        try (Stream<Path> confStream = Files.list(CONFIGURATION_FOLDER)) {
+            confStream.forEach(ThrowingConsumer.toUnchecked(Files::delete));
+        }
+    }
+
+    @Test
+    void should_read_environment_once() {
+        // Given
+        sut.save(environment("TEST", "http://target1:8080"));
+
+        // When
+        Environment first = sut.findByName("TEST");
+        Environment second = sut.findByName("TEST");
+
+        // Then
+        assertThat(second).isSameAs(first);
+        verify(delegate, times(1)).findByName("TEST");
+        verify(metrics).onEnvironmentCacheMiss();
+        verify(metrics).onEnvironmentCacheHit();
+    }
+
+    @Test
+    void should_read_environment_again_when_saved() {
+        // Given
+        sut.save(environment("TEST", "http://target1:8080"));
+        sut.findByName("TEST");
+
+        // When
+        sut.save(environment("TEST", "http://target2:8080"));
+
+        // Then
+        assertThat(sut.findByName("TEST").targets).extracting(t -> t.url).containsExactly("http://target2:8080");
+        verify(delegate, times(2)).findByName("TEST");
+    }
+
+    @Test
+    void should_read_environment_again_when_its_file_is_modified() throws IOException {
+        // Given
+        sut.save(environment("TEST", "http://target1:8080"));
+        sut.findByName("TEST");
+        JsonFilesEnvironmentRepository anotherRepository = new JsonFilesEnvironmentRepository(CONFIGURATION_FOLDER.toString());
+
+        // When
+        anotherRepository.save(environment("TEST", "http://target2:8080"));
+
+        // Then
+        await().atMost(15, SECONDS).untilAsserted(() ->
+            assertThat(sut.findByName("TEST").targets).extracting(t -> t.url).containsExactly("http://target2:8080")
+        );
+    }
+
+    private static Environment environment(String name, String url) {
+        return Environment.builder()
+            .withName(name)
+            .addTarget(Target.builder().withName("target").withEnvironment(name).withUrl(url).build())
+            .build();
+    }
+}
@@ -19,6 +19,7 @@ package com.chutneytesting.jira;
 import com.chutneytesting.jira.api.JiraXrayEmbeddedApi;
 import com.chutneytesting.jira.domain.JiraRepository;
 import com.chutneytesting.jira.domain.JiraXrayClientFactory;
+import com.chutneytesting.jira.domain.JiraXrayOutbox;
 import com.chutneytesting.jira.domain.JiraXrayService;
 import com.chutneytesting.jira.infra.JiraFileRepository;
 import com.chutneytesting.jira.infra.JiraXrayFactoryImpl;
@@ -30,11 +31,14 @@ import org.springframework.context.annotation.Configuration;
 public class JiraSpringConfiguration {
 
     public static final String CONFIGURATION_FOLDER_SPRING_VALUE = "${chutney.jira.configuration-folder:~/.chutney/conf/jira}";
+    public static final String XRAY_OUTBOX_BATCH_SIZE_SPRING_VALUE = "${chutney.jira.xray.outbox.batch-size:50}";
+    public static final String XRAY_OUTBOX_FLUSH_DELAY_SPRING_VALUE = "${chutney.jira.xray.outbox.flush-delay:2000}";
+    public static final String XRAY_OUTBOX_MAX_ATTEMPTS_SPRING_VALUE = "${chutney.jira.xray.outbox.max-attempts:4}";
 
     // api Bean
     @Bean
-    JiraXrayEmbeddedApi jiraXrayEmbeddedApi(JiraXrayService jiraXrayService) {
-        return new JiraXrayEmbeddedApi(jiraXrayService);
+    JiraXrayEmbeddedApi jiraXrayEmbeddedApi(JiraXrayService jiraXrayService, JiraXrayOutbox jiraXrayOutbox) {
+        return new JiraXrayEmbeddedApi(jiraXrayService, jiraXrayOutbox);
     }
 
     // domain Bean
@@ -43,6 +47,14 @@ public class JiraSpringConfiguration {
         return new JiraXrayService(jiraRepository, jiraXrayFactory);
     }
 
+    @Bean(destroyMethod = "close")
+    JiraXrayOutbox jiraXrayOutbox(JiraXrayService jiraXrayService,
+                                  @Value(XRAY_OUTBOX_BATCH_SIZE_SPRING_VALUE) int batchSize,
+                                  @Value(XRAY_OUTBOX_FLUSH_DELAY_SPRING_VALUE) long flushDelay,
+                                  @Value(XRAY_OUTBOX_MAX_ATTEMPTS_SPRING_VALUE) int maxAttempts) {
+        return new JiraXrayOutbox(jiraXrayService, batchSize, flushDelay, maxAttempts);
+    }
+
     // infra Bean
     @Bean
     JiraXrayClientFactory jiraXrayFactory() {
@@ -18,16 +18,20 @@ package com.chutneytesting.jira.api;
 
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 
+import com.chutneytesting.jira.domain.JiraXrayOutbox;
 import com.chutneytesting.jira.domain.JiraXrayService;
 import com.chutneytesting.jira.xrayapi.XrayTestExecTest;
 import java.util.List;
+import java.util.function.Supplier;
 
 public class JiraXrayEmbeddedApi {
 
     private final JiraXrayService jiraXrayService;
+    private final JiraXrayOutbox jiraXrayOutbox;
 
-    public JiraXrayEmbeddedApi(JiraXrayService jiraXrayService) {
+    public JiraXrayEmbeddedApi(JiraXrayService jiraXrayService, JiraXrayOutbox jiraXrayOutbox) {
         this.jiraXrayService = jiraXrayService;
+        this.jiraXrayOutbox = jiraXrayOutbox;
     }
 
     public void updateTestExecution(Long campaignId, Long campaignExecutionId, String scenarioId, ReportForJira report) {
@@ -36,6 +40,15 @@ public class JiraXrayEmbeddedApi {
         }
     }
 
+    /**
+     * Asynchronous version of {@link #updateTestExecution}, report being supplied when results are sent.
+     */
+    public void publishTestExecution(Long campaignId, Long campaignExecutionId, String scenarioId, Supplier<ReportForJira> report) {
+        if (isNotEmpty(scenarioId) && campaignId != null) {
+            jiraXrayOutbox.publish(campaignId, campaignExecutionId, scenarioId, report);
+        }
+    }
+
     public List<XrayTestExecTest> getTestStatusInTestExec(String testExec) { // TODO - Only used in a test ?
         return jiraXrayService.getTestExecutionScenarios(testExec);
     }
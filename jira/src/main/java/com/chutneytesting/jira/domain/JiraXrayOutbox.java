@@ -0,0 +1,175 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.jira.domain;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import com.chutneytesting.jira.api.ReportForJira;
+import com.chutneytesting.jira.domain.exception.NoJiraConfigurationException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Accumulate scenarios results of campaigns executions and send them to Xray in background.<br>
+ * Pending results are flushed after a delay or as soon as a batch is full, one Xray import being sent by campaign execution.
+ * Failed imports are retried with an exponential backoff, pending retries being sent a last time on close.
+ */
+public class JiraXrayOutbox implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JiraXrayOutbox.class);
+
+    private final JiraXrayService jiraXrayService;
+    private final int batchSize;
+    private final long flushDelay;
+    private final int maxAttempts;
+
+    private final Queue<PendingResult> pendingResults = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingResultsCount = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final Set<PendingRetry> pendingRetries = ConcurrentHashMap.newKeySet();
+    private final ScheduledThreadPoolExecutor executor;
+
+    /**
+     * @param batchSize   maximum number of results sent at once
+     * @param flushDelay  delay in milliseconds before sending pending results, also used as first retry delay
+     * @param maxAttempts maximum number of attempts to send a batch
+     */
+    public JiraXrayOutbox(JiraXrayService jiraXrayService, int batchSize, long flushDelay, int maxAttempts) {
+        if (batchSize < 1 || flushDelay < 0 || maxAttempts < 1) {
+            throw new IllegalArgumentException("Xray outbox batch size and max attempts must be positive, flush delay must not be negative");
+        }
+        this.jiraXrayService = jiraXrayService;
+        this.batchSize = batchSize;
+        this.flushDelay = flushDelay;
+        this.maxAttempts = maxAttempts;
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "jira-xray-outbox");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    public void publish(Long campaignId, Long campaignExecutionId, String scenarioId, Supplier<ReportForJira> report) {
+        if (executor.isShutdown()) {
+            LOGGER.warn("Xray outbox is closed, result of scenario {} in campaign execution {} not sent", scenarioId, campaignExecutionId);
+            return;
+        }
+        pendingResults.add(new PendingResult(new CampaignExecutionKey(campaignId, campaignExecutionId), scenarioId, report));
+        if (pendingResultsCount.incrementAndGet() >= batchSize) {
+            executor.execute(this::flush);
+        } else if (flushScheduled.compareAndSet(false, true)) {
+            executor.schedule(this::flush, flushDelay, MILLISECONDS);
+        }
+    }
+
+    void flush() {
+        flushScheduled.set(false);
+        Map<CampaignExecutionKey, Map<String, Supplier<ReportForJira>>> batch = new LinkedHashMap<>();
+        PendingResult pendingResult;
+        int count = 0;
+        while (count < batchSize && (pendingResult = pendingResults.poll()) != null) {
+            pendingResultsCount.decrementAndGet();
+            batch.computeIfAbsent(pendingResult.campaignExecution(), k -> new LinkedHashMap<>())
+                .put(pendingResult.scenarioId(), pendingResult.report());
+            count++;
+        }
+        batch.forEach((campaignExecution, reports) -> send(campaignExecution, reports, 1));
+        if (!pendingResults.isEmpty() && !executor.isShutdown() && flushScheduled.compareAndSet(false, true)) {
+            executor.execute(this::flush);
+        }
+    }
+
+    private void send(CampaignExecutionKey campaignExecution, Map<String, Supplier<ReportForJira>> reports, int attempt) {
+        try {
+            jiraXrayService.updateTestExecutions(campaignExecution.campaignId(), campaignExecution.campaignExecutionId(), reports);
+        } catch (NoJiraConfigurationException e) {
+            LOGGER.warn("Xray results of campaign execution {} not sent : {}", campaignExecution.campaignExecutionId(), e.getMessage());
+        } catch (RuntimeException e) {
+            if (attempt < maxAttempts && !executor.isShutdown()) {
+                long backoff = flushDelay << (attempt - 1);
+                LOGGER.warn("Unable to send Xray results of campaign execution {} (attempt {}/{}), retry in {} ms", campaignExecution.campaignExecutionId(), attempt, maxAttempts, backoff, e);
+                PendingRetry retry = new PendingRetry(campaignExecution, reports, attempt + 1);
+                pendingRetries.add(retry);
+                executor.schedule(() -> retry(retry), backoff, MILLISECONDS);
+            } else {
+                LOGGER.error("Unable to send Xray results of campaign execution {}", campaignExecution.campaignExecutionId(), e);
+            }
+        }
+    }
+
+    private void retry(PendingRetry retry) {
+        // Removal tells whether the retry is still to be sent, or has been sent on close
+        if (pendingRetries.remove(retry)) {
+            send(retry.campaignExecution, retry.reports, retry.attempt);
+        }
+    }
+
+    /**
+     * Stop background sending, remaining results and pending retries being sent by caller thread.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, SECONDS)) {
+                LOGGER.warn("Xray outbox did not terminate in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        while (!pendingResults.isEmpty()) {
+            flush();
+        }
+        if (!pendingRetries.isEmpty()) {
+            LOGGER.info("Xray outbox closing, send {} pending retries a last time", pendingRetries.size());
+            pendingRetries.forEach(this::retry);
+        }
+    }
+
+    private record CampaignExecutionKey(Long campaignId, Long campaignExecutionId) {
+    }
+
+    /**
+     * Not a record, so that identical retries scheduled separately are distinct.
+     */
+    private static final class PendingRetry {
+        private final CampaignExecutionKey campaignExecution;
+        private final Map<String, Supplier<ReportForJira>> reports;
+        private final int attempt;
+
+        private PendingRetry(CampaignExecutionKey campaignExecution, Map<String, Supplier<ReportForJira>> reports, int attempt) {
+            this.campaignExecution = campaignExecution;
+            this.reports = reports;
+            this.attempt = attempt;
+        }
+    }
+
+    private record PendingResult(CampaignExecutionKey campaignExecution, String scenarioId, Supplier<ReportForJira> report) {
+    }
+}
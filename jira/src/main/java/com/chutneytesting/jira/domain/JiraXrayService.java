@@ -30,11 +30,14 @@ import com.chutneytesting.jira.xrayapi.XrayTestExecTest;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -51,10 +54,29 @@ public class JiraXrayService {
     }
 
     public void updateTestExecution(Long campaignId, Long campaignExecutionId, String scenarioId, ReportForJira report) {
-        JiraXrayApi jiraXrayApi = createHttpJiraXrayImpl();
+        updateTestExecutions(campaignId, campaignExecutionId, Map.of(scenarioId, () -> report));
+    }
 
-        String testKey = jiraRepository.getByScenarioId(scenarioId);
+    /**
+     * Send in one request the results of many scenarios of a campaign execution.<br>
+     * Reports are only fetched for scenarios linked to a Jira test.
+     *
+     * @param scenariosReports reports suppliers by scenario id
+     */
+    public void updateTestExecutions(Long campaignId, Long campaignExecutionId, Map<String, Supplier<ReportForJira>> scenariosReports) {
         String testExecutionKey = jiraRepository.getByCampaignId(campaignId.toString());
+        Map<String, Supplier<ReportForJira>> testsReports = new LinkedHashMap<>();
+        scenariosReports.forEach((scenarioId, report) -> {
+            String testKey = jiraRepository.getByScenarioId(scenarioId);
+            if (!testKey.isEmpty()) {
+                testsReports.put(testKey, report);
+            }
+        });
+        if (testExecutionKey.isEmpty() || testsReports.isEmpty()) {
+            return;
+        }
+
+        JiraXrayApi jiraXrayApi = createHttpJiraXrayImpl();
         if (jiraXrayApi.isTestPlan(testExecutionKey)) {
             String newTestExecutionKey = jiraRepository.getByCampaignExecutionId(campaignExecutionId.toString());
             if (newTestExecutionKey.isEmpty()) {
@@ -63,25 +85,35 @@ public class JiraXrayService {
             testExecutionKey = newTestExecutionKey;
         }
 
-        if (!testKey.isEmpty() && !testExecutionKey.isEmpty()) {
-            LOGGER.info("Update xray test {} of test execution {}", testKey, testExecutionKey);
+        if (!testExecutionKey.isEmpty()) {
+            LOGGER.info("Update xray tests {} of test execution {}", testsReports.keySet(), testExecutionKey);
             jiraRepository.saveForCampaignExecution(campaignExecutionId.toString(), testExecutionKey);
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssZZZZZ");
-            XrayTest xrayTest = new XrayTest(
-                testKey,
-                report.startDate.atZone(ZoneId.systemDefault()).format(formatter),
-                report.startDate.plusNanos(report.duration * 1000000).atZone(ZoneId.systemDefault()).format(formatter),
-                getErrors(report).toString(),
-                report.status.equals("SUCCESS") ? PASS.value : FAIL.value
-            );
-
-            xrayTest.setEvidences(getEvidences(report.rootStep, ""));
-            XrayInfo info = new XrayInfo(Collections.singletonList(report.environment));
-            Xray xray = new Xray(testExecutionKey, Collections.singletonList(xrayTest), info);
+            List<XrayTest> xrayTests = new ArrayList<>();
+            Set<String> environments = new LinkedHashSet<>();
+            testsReports.forEach((testKey, reportSupplier) -> {
+                ReportForJira report = reportSupplier.get();
+                xrayTests.add(toXrayTest(testKey, report));
+                environments.add(report.environment);
+            });
+            XrayInfo info = new XrayInfo(new ArrayList<>(environments));
+            Xray xray = new Xray(testExecutionKey, xrayTests, info);
             jiraXrayApi.updateRequest(xray);
         }
     }
 
+    private XrayTest toXrayTest(String testKey, ReportForJira report) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssZZZZZ");
+        XrayTest xrayTest = new XrayTest(
+            testKey,
+            report.startDate.atZone(ZoneId.systemDefault()).format(formatter),
+            report.startDate.plusNanos(report.duration * 1000000).atZone(ZoneId.systemDefault()).format(formatter),
+            getErrors(report).toString(),
+            report.status.equals("SUCCESS") ? PASS.value : FAIL.value
+        );
+        xrayTest.setEvidences(getEvidences(report.rootStep, ""));
+        return xrayTest;
+    }
+
     public List<XrayTestExecTest> getTestExecutionScenarios(String testExecutionId) {
         JiraXrayApi jiraXrayApi = createHttpJiraXrayImpl();
 
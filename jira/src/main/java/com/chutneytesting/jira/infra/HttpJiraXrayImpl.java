@@ -36,7 +36,7 @@ import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import javax.net.ssl.SSLContext;
 import org.apache.hc.client5.http.auth.AuthScope;
@@ -68,20 +68,26 @@ public class HttpJiraXrayImpl implements JiraXrayApi {
     private static final int MS_TIMEOUT = 10 * 1000; // 10 s
 
     private final JiraTargetConfiguration jiraTargetConfiguration;
+    private final RestTemplate restTemplate;
+    private final Map<String, Boolean> testPlans = new ConcurrentHashMap<>();
+    private volatile List<JiraIssueType> issueTypes;
 
     public HttpJiraXrayImpl(JiraTargetConfiguration jiraTargetConfiguration) {
         this.jiraTargetConfiguration = jiraTargetConfiguration;
         if (!jiraTargetConfiguration.isValid()) {
             throw new NoJiraConfigurationException();
         }
+        this.restTemplate = buildRestTemplate(jiraTargetConfiguration);
+    }
+
+    JiraTargetConfiguration configuration() {
+        return jiraTargetConfiguration;
     }
 
     @Override
     public void updateRequest(Xray xray) {
         String updateUri = jiraTargetConfiguration.url() + "/rest/raven/1.0/import/execution";
 
-        RestTemplate restTemplate = buildRestTemplate(jiraTargetConfiguration);
-
         try {
             ResponseEntity<String> response = restTemplate.postForEntity(updateUri, xray, String.class);
             if (response.getStatusCode().equals(HttpStatus.OK)) {
@@ -102,7 +108,6 @@ public class HttpJiraXrayImpl implements JiraXrayApi {
         String uriTemplate = jiraTargetConfiguration.url() + "/rest/raven/1.0/api/%s/%s/test";
         String uri = String.format(uriTemplate, isTestPlan(xrayId) ? "testplan" : "testexec", xrayId);
 
-        RestTemplate restTemplate = buildRestTemplate(jiraTargetConfiguration);
         try {
             ResponseEntity<XrayTestExecTest[]> response = restTemplate.getForEntity(uri, XrayTestExecTest[].class);
             if (response.getStatusCode().equals(HttpStatus.OK) && response.getBody() != null) {
@@ -122,7 +127,6 @@ public class HttpJiraXrayImpl implements JiraXrayApi {
         String uriTemplate = jiraTargetConfiguration.url() + "/rest/raven/1.0/api/testrun/%s/status?status=%s";
         String uri = String.format(uriTemplate, testRuntId, executionStatus);
 
-        RestTemplate restTemplate = buildRestTemplate(jiraTargetConfiguration);
         try {
             restTemplate.put(uri, null);
         } catch (RestClientException e) {
@@ -135,7 +139,6 @@ public class HttpJiraXrayImpl implements JiraXrayApi {
         String uriTemplate = jiraTargetConfiguration.url() + "/rest/raven/1.0/api/testplan/%s/testexecution";
         String uri = String.format(uriTemplate, testPlanId);
 
-        RestTemplate restTemplate = buildRestTemplate(jiraTargetConfiguration);
         try {
             ResponseEntity<String> response = restTemplate.postForEntity(uri, Map.of("add", List.of(testExecutionId)), String.class);
             if (response.getStatusCode().equals(HttpStatus.OK)) {
@@ -170,9 +173,12 @@ public class HttpJiraXrayImpl implements JiraXrayApi {
         }
     }
 
+    /**
+     * Issue types being immutable, lookups are cached for the lifetime of this client.
+     */
     @Override
     public boolean isTestPlan(String issueId) {
-        return getIssue(issueId).getIssueType().getId().equals(getIssueTypeByName("Test Plan").getId());
+        return testPlans.computeIfAbsent(issueId, id -> getIssue(id).getIssueType().getId().equals(getIssueTypeByName("Test Plan").getId()));
     }
 
     private Issue getIssue(String issueKey) {
@@ -184,23 +190,31 @@ public class HttpJiraXrayImpl implements JiraXrayApi {
     }
 
     private JiraIssueType getIssueTypeByName(String issueTypeName) {
-        String uri = jiraTargetConfiguration.url() + "/rest/api/latest/issuetype";
-        Optional<JiraIssueType> issueTypeOptional = Optional.empty();
+        return getIssueTypes().stream()
+            .filter(issueType -> issueType.getName().equals(issueTypeName))
+            .findFirst()
+            .orElseThrow(() -> new RuntimeException("Unable to get issue type [" + issueTypeName + "]"));
+    }
 
-        RestTemplate restTemplate = buildRestTemplate(jiraTargetConfiguration);
+    private List<JiraIssueType> getIssueTypes() {
+        List<JiraIssueType> cachedIssueTypes = issueTypes;
+        if (cachedIssueTypes != null) {
+            return cachedIssueTypes;
+        }
+        String uri = jiraTargetConfiguration.url() + "/rest/api/latest/issuetype";
         try {
             ResponseEntity<JiraIssueType[]> response = restTemplate.getForEntity(uri, JiraIssueType[].class);
             if (response.getStatusCode().equals(HttpStatus.OK) && response.getBody() != null) {
-                issueTypeOptional = Arrays.stream(response.getBody())
-                    .filter(issueType -> issueType.getName().equals(issueTypeName))
-                    .findFirst();
+                cachedIssueTypes = List.of(response.getBody());
+                issueTypes = cachedIssueTypes;
+                return cachedIssueTypes;
             } else {
                 LOGGER.error(response.toString());
+                return List.of();
             }
         } catch (RestClientException e) {
             throw new RuntimeException("Unable to get issues type list : ", e);
         }
-        return issueTypeOptional.orElseThrow(() -> new RuntimeException("Unable to get issue type [" + issueTypeName + "]"));
     }
 
     private SSLContext buildSslContext() {
@@ -20,11 +20,19 @@ import com.chutneytesting.jira.domain.JiraTargetConfiguration;
 import com.chutneytesting.jira.domain.JiraXrayApi;
 import com.chutneytesting.jira.domain.JiraXrayClientFactory;
 
+/**
+ * Reuse the last created client while Jira configuration does not change.
+ */
 public class JiraXrayFactoryImpl implements JiraXrayClientFactory {
 
+    private HttpJiraXrayImpl lastClient;
+
     @Override
-    public JiraXrayApi create(JiraTargetConfiguration jiraTargetConfiguration) {
-        return new HttpJiraXrayImpl(jiraTargetConfiguration);
+    public synchronized JiraXrayApi create(JiraTargetConfiguration jiraTargetConfiguration) {
+        if (lastClient == null || !lastClient.configuration().equals(jiraTargetConfiguration)) {
+            lastClient = new HttpJiraXrayImpl(jiraTargetConfiguration);
+        }
+        return lastClient;
     }
 
 }
@@ -22,7 +22,10 @@ import static java.util.List.of;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -31,6 +34,7 @@ import com.chutneytesting.jira.domain.JiraRepository;
 import com.chutneytesting.jira.domain.JiraTargetConfiguration;
 import com.chutneytesting.jira.domain.JiraXrayApi;
 import com.chutneytesting.jira.domain.JiraXrayClientFactory;
+import com.chutneytesting.jira.domain.JiraXrayOutbox;
 import com.chutneytesting.jira.domain.JiraXrayService;
 import com.chutneytesting.jira.infra.JiraFileRepository;
 import com.chutneytesting.jira.xrayapi.Xray;
@@ -43,6 +47,7 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -57,6 +62,7 @@ class JiraXrayEmbeddedApiTest {
 
     private JiraXrayEmbeddedApi jiraXrayEmbeddedApi;
     private JiraRepository jiraRepository;
+    private JiraXrayOutbox jiraXrayOutbox;
 
     @BeforeEach
     public void setUp() throws IOException {
@@ -67,7 +73,13 @@ class JiraXrayEmbeddedApiTest {
 
         when(jiraXrayFactory.create(any())).thenReturn(jiraXrayApiMock);
 
-        jiraXrayEmbeddedApi = new JiraXrayEmbeddedApi(jiraXrayService);
+        jiraXrayOutbox = new JiraXrayOutbox(jiraXrayService, 10, 10, 3);
+        jiraXrayEmbeddedApi = new JiraXrayEmbeddedApi(jiraXrayService, jiraXrayOutbox);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jiraXrayOutbox.close();
     }
 
     @Test
@@ -141,4 +153,84 @@ class JiraXrayEmbeddedApiTest {
         assertThat(xrayValue.getTestExecutionKey()).isEqualTo("JIRA-22");
         jiraRepository.getByCampaignExecutionId("1").equals("JIRA-22");
     }
+
+    @Test
+    @DisplayName("Given many published scenarios results of a campaign execution, When the outbox is flushed, Then one xray import is sent with all linked tests")
+    void publishTestExecutions() {
+        // G
+        jiraRepository.saveForCampaign("20", "JIRA-20");
+        jiraRepository.saveForScenario("1", "SCE-1");
+        jiraRepository.saveForScenario("2", "SCE-2");
+        ReportForJira report = new ReportForJira(Instant.parse("2021-05-19T11:22:33.00Z"), 10000L, "SUCCESS", new ReportForJira.Step("rootStep", of(), of()), "env");
+        List<String> suppliedReports = new ArrayList<>();
+
+        //W
+        jiraXrayEmbeddedApi.publishTestExecution(20L, 1L, "1", () -> {
+            suppliedReports.add("1");
+            return report;
+        });
+        jiraXrayEmbeddedApi.publishTestExecution(20L, 1L, "2", () -> report);
+        jiraXrayEmbeddedApi.publishTestExecution(20L, 1L, "3", () -> {
+            suppliedReports.add("3");
+            return report;
+        });
+
+        //T
+        ArgumentCaptor<Xray> xrayArgumentCaptor = ArgumentCaptor.forClass(Xray.class);
+        verify(jiraXrayApiMock, timeout(2000).times(1)).updateRequest(xrayArgumentCaptor.capture());
+        assertThat(xrayArgumentCaptor.getValue().getTests()).extracting(XrayTest::getTestKey).containsExactly("SCE-1", "SCE-2");
+        assertThat(xrayArgumentCaptor.getValue().getInfo().getTestEnvironments()).containsExactly("env");
+        assertThat(suppliedReports).containsExactly("1");
+    }
+
+    @Test
+    @DisplayName("Given a failing xray import, When results are published, Then the import is retried")
+    void publishTestExecutionsRetry() {
+        // G
+        jiraRepository.saveForCampaign("20", "JIRA-20");
+        jiraRepository.saveForScenario("1", "SCE-1");
+        ReportForJira report = new ReportForJira(Instant.parse("2021-05-19T11:22:33.00Z"), 10000L, "FAILURE", new ReportForJira.Step("rootStep", of(), of()), "env");
+        doThrow(new RuntimeException("jira unavailable")).when(jiraXrayApiMock).updateRequest(any());
+
+        //W
+        jiraXrayEmbeddedApi.publishTestExecution(20L, 1L, "1", () -> report);
+
+        //T
+        verify(jiraXrayApiMock, timeout(2000).times(3)).updateRequest(any());
+    }
+
+    @Test
+    @DisplayName("Given a failing xray import waiting for its retry, When the outbox is closed, Then the import is retried before closing")
+    void publishTestExecutionsRetryOnClose() {
+        // G
+        jiraRepository.saveForCampaign("20", "JIRA-20");
+        jiraRepository.saveForScenario("1", "SCE-1");
+        ReportForJira report = new ReportForJira(Instant.parse("2021-05-19T11:22:33.00Z"), 10000L, "FAILURE", new ReportForJira.Step("rootStep", of(), of()), "env");
+        doThrow(new RuntimeException("jira unavailable")).when(jiraXrayApiMock).updateRequest(any());
+        JiraXrayOutbox slowRetryOutbox = new JiraXrayOutbox(new JiraXrayService(jiraRepository, jiraXrayFactory), 1, 60000, 3);
+
+        //W
+        slowRetryOutbox.publish(20L, 1L, "1", () -> report);
+        verify(jiraXrayApiMock, timeout(2000).times(1)).updateRequest(any());
+        slowRetryOutbox.close();
+
+        //T
+        verify(jiraXrayApiMock, times(2)).updateRequest(any());
+    }
+
+    @Test
+    @DisplayName("Given scenarios not linked to jira, When results are published, Then jira is not requested")
+    void publishNotLinkedTestExecutions() {
+        // G
+        jiraRepository.saveForCampaign("20", "JIRA-20");
+
+        //W
+        jiraXrayEmbeddedApi.publishTestExecution(20L, 1L, "1", () -> {
+            throw new IllegalStateException("Report should not be loaded");
+        });
+        jiraXrayOutbox.close();
+
+        //T
+        verify(jiraXrayFactory, never()).create(any());
+    }
 }
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.jira.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.chutneytesting.jira.domain.JiraTargetConfiguration;
+import org.junit.jupiter.api.Test;
+
+class JiraXrayFactoryImplTest {
+
+    private final JiraXrayFactoryImpl sut = new JiraXrayFactoryImpl();
+
+    @Test
+    void should_reuse_client_while_configuration_does_not_change() {
+        JiraTargetConfiguration configuration = new JiraTargetConfiguration("http://jira", "user", "password", null, null, null);
+
+        assertThat(sut.create(configuration))
+            .isSameAs(sut.create(new JiraTargetConfiguration("http://jira", "user", "password", null, null, null)))
+            .isNotSameAs(sut.create(new JiraTargetConfiguration("http://jira", "user", "new password", null, null, null)));
+    }
+}
@@ -18,6 +18,7 @@ package com.chutneytesting.server.core.domain.execution;
 
 import static io.reactivex.rxjava3.schedulers.Schedulers.io;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Optional.ofNullable;
 
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory;
@@ -27,6 +28,7 @@ import com.chutneytesting.server.core.domain.execution.processor.TestCasePreProc
 import com.chutneytesting.server.core.domain.execution.report.ScenarioExecutionReport;
 import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
 import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportCore;
+import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportPart;
 import com.chutneytesting.server.core.domain.execution.state.ExecutionStateRepository;
 import com.chutneytesting.server.core.domain.instrument.ChutneyMetrics;
 import com.chutneytesting.server.core.domain.scenario.TestCase;
@@ -34,11 +36,14 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Ascii;
 import com.google.common.base.Joiner;
+import com.google.common.cache.CacheBuilder;
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Observable;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -64,6 +69,8 @@ public class ScenarioExecutionEngineAsync {
     private final TestCasePreProcessors testCasePreProcessors;
 
     private final Map<Long, Pair<Observable<ScenarioExecutionReport>, Long>> scenarioExecutions = new ConcurrentHashMap<>();
+    private final Map<Long, Map<String, StepExecutionReportCore>> storedStepsReports = new ConcurrentHashMap<>();
+    private final Map<ScenarioExecutionReport, String> serializedReports = CacheBuilder.newBuilder().weakKeys().<ScenarioExecutionReport, String>build().asMap();
     private long retentionDelaySeconds;
     private long debounceMilliSeconds;
 
@@ -270,20 +277,33 @@ public class ScenarioExecutionEngineAsync {
      * @param scenarioReport report to summarize
      */
     private ExecutionHistory.DetachedExecution summarize(ScenarioExecutionReport scenarioReport, String environment, String userId) {
+        return summarize(scenarioReport, environment, userId, serialize(scenarioReport)); // TODO - type me and move serialization to infra
+    }
+
+    private ExecutionHistory.DetachedExecution summarize(ScenarioExecutionReport scenarioReport, String environment, String userId, String report) {
         return ImmutableExecutionHistory.DetachedExecution.builder()
             .time(scenarioReport.report.startDate.atZone(ZoneId.systemDefault()).toLocalDateTime())
             .duration(scenarioReport.report.duration)
             .status(scenarioReport.report.status)
             .info(joinAndTruncateMessages(searchInfo(scenarioReport.report)))
             .error(searchErrors(scenarioReport.report).stream().findFirst().orElse(""))
-            .report(serialize(scenarioReport)) // TODO - type me and move serialization to infra
+            .report(report)
             .testCaseTitle(scenarioReport.scenarioName)
             .environment(environment)
             .user(userId)
             .build();
     }
 
-    private String serialize(ScenarioExecutionReport stepExecutionReport) {
+    /**
+     * Serialize a report, as stored in history.<br>
+     * Reports emitted by {@link #followExecution(String, Long)} are shared by all followers, so each one is serialized only once
+     * and its serialization is kept as long as the report is referenced.
+     */
+    public String serialize(ScenarioExecutionReport stepExecutionReport) {
+        return serializedReports.computeIfAbsent(stepExecutionReport, this::doSerialize);
+    }
+
+    private String doSerialize(ScenarioExecutionReport stepExecutionReport) {
         try {
             return reportObjectMapper.writeValueAsString(stepExecutionReport);
         } catch (JsonProcessingException e) {
@@ -303,6 +323,7 @@ public class ScenarioExecutionEngineAsync {
 
     private void cleanExecutionId(long executionId) {
         LOGGER.trace("Clean for execution {}", executionId);
+        storedStepsReports.remove(executionId);
         if (retentionDelaySeconds > 0) {
             Completable.timer(retentionDelaySeconds, TimeUnit.SECONDS)
                 .subscribe(() -> {
@@ -327,12 +348,45 @@ public class ScenarioExecutionEngineAsync {
     private void updateHistory(long executionId, ExecutionRequest executionRequest, ScenarioExecutionReport report) {
         LOGGER.trace("Update history for execution {}", executionId);
         try {
-            executionHistoryRepository.update(executionRequest.testCase.id(), summarize(report, executionRequest.environment, executionRequest.userId).attach(executionId));
+            if (isRunning(report.report)) {
+                updateRunningHistory(executionId, executionRequest, report);
+            } else {
+                executionHistoryRepository.update(executionRequest.testCase.id(), summarize(report, executionRequest.environment, executionRequest.userId).attach(executionId));
+                storedStepsReports.remove(executionId);
+            }
         } catch (Exception e) {
             LOGGER.error("Update history for execution {} failed", executionId, e);
         }
     }
 
+    /**
+     * Only append steps reports which changed since the last stored report.<br>
+     * Unchanged steps reports are shared between successive engine reports, so identity is enough to detect changes.
+     */
+    private void updateRunningHistory(long executionId, ExecutionRequest executionRequest, ScenarioExecutionReport report) {
+        Map<String, StepExecutionReportCore> previousSteps = storedStepsReports.getOrDefault(executionId, emptyMap());
+        Map<String, StepExecutionReportCore> currentSteps = new HashMap<>();
+        List<StepExecutionReportPart> changedSteps = new ArrayList<>();
+        collectChangedSteps(StepExecutionReportPart.ROOT_PATH, report.report, previousSteps, currentSteps, changedSteps);
+
+        executionHistoryRepository.updateRunning(executionRequest.testCase.id(), summarize(report, executionRequest.environment, executionRequest.userId, "").attach(executionId), changedSteps);
+        storedStepsReports.put(executionId, currentSteps);
+    }
+
+    private static void collectChangedSteps(String path, StepExecutionReportCore step, Map<String, StepExecutionReportCore> previousSteps, Map<String, StepExecutionReportCore> currentSteps, List<StepExecutionReportPart> changedSteps) {
+        currentSteps.put(path, step);
+        if (previousSteps.get(path) != step) {
+            changedSteps.add(StepExecutionReportPart.of(path, step));
+        }
+        for (int i = 0; i < step.steps.size(); i++) {
+            collectChangedSteps(StepExecutionReportPart.subStepPath(path, i), step.steps.get(i), previousSteps, currentSteps, changedSteps);
+        }
+    }
+
+    private static boolean isRunning(StepExecutionReportCore report) {
+        return report.status == ServerReportStatus.RUNNING || report.status == ServerReportStatus.PAUSED;
+    }
+
     private void notifyExecutionEnd(long executionId, TestCase testCase) {
         LOGGER.trace("Notify end for execution {}", executionId);
         executionStateRepository.notifyExecutionEnd(testCase.id());
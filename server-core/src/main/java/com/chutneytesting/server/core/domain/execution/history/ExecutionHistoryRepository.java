@@ -19,9 +19,11 @@ package com.chutneytesting.server.core.domain.execution.history;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory.ExecutionSummary;
 import com.chutneytesting.server.core.domain.execution.report.ReportNotFoundException;
 import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
+import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportPart;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Repository storing execution executionHistory by scenario.
@@ -47,6 +49,21 @@ public interface ExecutionHistoryRepository {
      **/
     List<ExecutionSummary> getExecutions(String scenarioId);
 
+    /**
+     * Keyset paginated reports of the indicated scenario, last ones first.<br>
+     * Campaign executions of these reports do not hold their scenarios executions.
+     *
+     * @param beforeExecutionId only return reports older than this one, from the last one when null
+     * @param limit             maximum number of reports returned
+     **/
+    List<ExecutionSummary> getExecutions(String scenarioId, Long beforeExecutionId, int limit);
+
+    /**
+     * Give every report of the indicated scenario to the consumer, last ones first, without loading them all at once.<br>
+     * Campaign executions of these reports do not hold their scenarios executions.
+     **/
+    void forEachExecution(String scenarioId, Consumer<ExecutionSummary> consumer);
+
     List<ExecutionSummary> getExecutions();
 
     ExecutionSummary getExecutionSummary(Long executionId);
@@ -61,9 +78,26 @@ public interface ExecutionHistoryRepository {
      */
     void update(String scenarioId, ExecutionHistory.Execution updatedExecution);
 
+    /**
+     * Update the summary of a running {@link ExecutionHistory.Execution} and append its changed steps reports.<br>
+     * Stored report is assembled from the last appended parts until the next {@link #update(String, ExecutionHistory.Execution)}.
+     *
+     * @param runningExecution execution summary, its report is ignored
+     * @param changedSteps     steps reports changed since last update
+     */
+    void updateRunning(String scenarioId, ExecutionHistory.Execution runningExecution, List<StepExecutionReportPart> changedSteps);
+
     int setAllRunningExecutionsToKO();
 
     List<ExecutionSummary> getExecutionsWithStatus(ServerReportStatus status);
 
     void deleteExecutions(Set<Long> executionsIds);
+
+    /**
+     * Select executions of a scenario to purge, not run from a campaign, exceeding the number of executions to keep by environment.<br>
+     * The last success execution of the scenario on an environment is never selected.
+     *
+     * @return selected executions ids, in ascending order
+     */
+    List<Long> findExecutionsToPurge(String scenarioId, int maxExecutionsToKeep);
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.server.core.domain.execution.report;
+
+import static java.util.Collections.emptyList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A single node of a {@link StepExecutionReportCore} tree, stored without its sub steps.<br>
+ * Used to persist a running report step by step instead of rewriting the whole tree on each change.
+ *
+ * @param path          position of the step in the tree, "0" being the root step and "0.1" its second sub step
+ * @param subStepsCount number of sub steps of this step
+ * @param report        the step report, without sub steps
+ */
+public record StepExecutionReportPart(String path, int subStepsCount, StepExecutionReportCore report) {
+
+    public static final String ROOT_PATH = "0";
+
+    public static StepExecutionReportPart of(String path, StepExecutionReportCore step) {
+        return new StepExecutionReportPart(path, step.steps.size(), withoutSubSteps(step));
+    }
+
+    public static String subStepPath(String path, int index) {
+        return path + "." + index;
+    }
+
+    /**
+     * Rebuild a report tree from its parts.
+     *
+     * @param parts parts indexed by path
+     * @return the report tree, empty if there is no root part
+     */
+    public static Optional<StepExecutionReportCore> assemble(Map<String, StepExecutionReportPart> parts) {
+        return Optional.ofNullable(parts.get(ROOT_PATH)).map(root -> assemble(root, parts));
+    }
+
+    private static StepExecutionReportCore assemble(StepExecutionReportPart part, Map<String, StepExecutionReportPart> parts) {
+        List<StepExecutionReportCore> steps = new ArrayList<>(part.subStepsCount);
+        for (int i = 0; i < part.subStepsCount; i++) {
+            StepExecutionReportPart subPart = parts.get(subStepPath(part.path, i));
+            if (subPart == null) {
+                break;
+            }
+            steps.add(assemble(subPart, parts));
+        }
+        return withSubSteps(part.report, steps);
+    }
+
+    private static StepExecutionReportCore withoutSubSteps(StepExecutionReportCore step) {
+        return withSubSteps(step, emptyList());
+    }
+
+    private static StepExecutionReportCore withSubSteps(StepExecutionReportCore step, List<StepExecutionReportCore> steps) {
+        return new StepExecutionReportCore(
+            step.name,
+            step.duration,
+            step.startDate,
+            step.status,
+            step.information,
+            step.errors,
+            steps,
+            step.type,
+            step.targetName,
+            step.targetUrl,
+            step.strategy,
+            step.evaluatedInputs,
+            step.stepOutputs
+        );
+    }
+}
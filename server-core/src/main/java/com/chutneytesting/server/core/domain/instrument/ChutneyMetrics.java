@@ -29,4 +29,10 @@ public interface ChutneyMetrics {
     void onCampaignExecutionEnded(Campaign campaign, CampaignExecution campaignExecution);
 
     void onHttpError(HttpStatusCode status);
+
+    void onScenarioExecutionsPurged(int purgedExecutionsCount);
+
+    void onEnvironmentCacheHit();
+
+    void onEnvironmentCacheMiss();
 }
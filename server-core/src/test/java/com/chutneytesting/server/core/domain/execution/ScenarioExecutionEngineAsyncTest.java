@@ -23,6 +23,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -36,6 +37,7 @@ import com.chutneytesting.server.core.domain.execution.report.ScenarioExecutionR
 import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
 import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportCore;
 import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportCoreBuilder;
+import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportPart;
 import com.chutneytesting.server.core.domain.execution.state.ExecutionStateRepository;
 import com.chutneytesting.server.core.domain.instrument.ChutneyMetrics;
 import com.chutneytesting.server.core.domain.scenario.TestCase;
@@ -44,6 +46,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.observers.TestObserver;
 import io.reactivex.rxjava3.plugins.RxJavaPlugins;
+import io.reactivex.rxjava3.schedulers.Schedulers;
 import io.reactivex.rxjava3.schedulers.TestScheduler;
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -165,15 +168,15 @@ public class ScenarioExecutionEngineAsyncTest {
 
         engineStub.getRight().advanceTimeBy(100, TimeUnit.MILLISECONDS); // Reach second emission
         assertTestObserverStateAndValues(testObserver, executionId, engineStub.getMiddle(), 2);
-        verify(executionHistoryRepository, times(2)).update(eq(scenarioId), any());
+        verify(executionHistoryRepository).updateRunning(eq(scenarioId), any(), any());
 
         engineStub.getRight().advanceTimeBy(100, TimeUnit.MILLISECONDS); // Reach third emission
         assertTestObserverStateAndValues(testObserver, executionId, engineStub.getMiddle(), 3);
-        verify(executionHistoryRepository, times(3)).update(eq(scenarioId), any());
+        verify(executionHistoryRepository, times(2)).updateRunning(eq(scenarioId), any(), any());
 
         engineStub.getRight().advanceTimeBy(100, TimeUnit.MILLISECONDS); // Reach last emission
         assertTestObserverStateAndValues(testObserver, true, executionId, engineStub.getMiddle(), 4);
-        verify(executionHistoryRepository, times(4)).update(eq(scenarioId), any());
+        verify(executionHistoryRepository, times(2)).update(eq(scenarioId), any());
 
         verify(executionStateRepository).notifyExecutionEnd(scenarioId);
         verify(metrics).onScenarioExecutionEnded(any(), any());
@@ -181,6 +184,53 @@ public class ScenarioExecutionEngineAsyncTest {
         testObserver.dispose();
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void should_only_append_changed_steps_reports_while_running() {
+        // Given
+        final TestCase testCase = emptyTestCase();
+        final String scenarioId = testCase.id();
+        final Long executionId = 5L;
+        Instant startDate = Instant.now();
+
+        StepExecutionReportCore firstSubStepRunning = stepExecution("sub 1", ServerReportStatus.RUNNING, null, startDate);
+        StepExecutionReportCore firstSubStepSuccess = stepExecution("sub 1", ServerReportStatus.SUCCESS, null, startDate);
+        StepExecutionReportCore secondSubStepNotExecuted = stepExecution("sub 2", ServerReportStatus.NOT_EXECUTED, null, startDate);
+        StepExecutionReportCore secondSubStepSuccess = stepExecution("sub 2", ServerReportStatus.SUCCESS, null, startDate);
+        Observable<StepExecutionReportCore> reports = Observable.just(
+            stepExecution("name", ServerReportStatus.RUNNING, List.of(firstSubStepRunning, secondSubStepNotExecuted), startDate),
+            stepExecution("name", ServerReportStatus.RUNNING, List.of(firstSubStepSuccess, secondSubStepNotExecuted), startDate),
+            stepExecution("name", ServerReportStatus.SUCCESS, List.of(firstSubStepSuccess, secondSubStepSuccess), startDate)
+        );
+        RxJavaPlugins.setIoSchedulerHandler(scheduler -> Schedulers.trampoline());
+
+        final ScenarioExecutionEngineAsync sut = new ScenarioExecutionEngineAsync(
+            executionHistoryRepository,
+            executionEngine,
+            executionStateRepository,
+            metrics,
+            testCasePreProcessors,
+            om,
+            0,
+            0
+        );
+
+        // When
+        sut.buildScenarioExecutionReportObservable(new ExecutionRequest(testCase, "", ""), executionId, Pair.of(reports, 0L)).test();
+
+        // Then
+        ArgumentCaptor<List<StepExecutionReportPart>> partsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(executionHistoryRepository, times(2)).updateRunning(eq(scenarioId), any(), partsCaptor.capture());
+        assertThat(partsCaptor.getAllValues().get(0))
+            .extracting(StepExecutionReportPart::path)
+            .containsExactly("0", "0.0", "0.1");
+        assertThat(partsCaptor.getAllValues().get(1))
+            .extracting(StepExecutionReportPart::path)
+            .containsExactly("0", "0.0");
+        assertThat(partsCaptor.getAllValues().get(1).get(1).report().status).isEqualTo(ServerReportStatus.SUCCESS);
+        verify(executionHistoryRepository).update(eq(scenarioId), any());
+    }
+
     @Test
     public void should_observe_reports_when_follow_execution() {
         // Given
@@ -219,6 +269,30 @@ public class ScenarioExecutionEngineAsyncTest {
         testObserver.dispose();
     }
 
+    @Test
+    public void should_serialize_a_report_only_once() throws Exception {
+        // Given
+        ObjectMapper reportObjectMapper = spy(om);
+        final ScenarioExecutionEngineAsync sut = new ScenarioExecutionEngineAsync(
+            executionHistoryRepository,
+            executionEngine,
+            executionStateRepository,
+            metrics,
+            testCasePreProcessors,
+            reportObjectMapper
+        );
+        ScenarioExecutionReport report = new ScenarioExecutionReport(1L, EMPTY_TESTCASE_NAME, "env", "user",
+            stepExecution("name", ServerReportStatus.RUNNING, List.of(), null));
+
+        // When
+        String serializedReport = sut.serialize(report);
+
+        // Then
+        assertThat(sut.serialize(report)).isSameAs(serializedReport);
+        assertThat(serializedReport).isEqualTo(om.writeValueAsString(report));
+        verify(reportObjectMapper, times(1)).writeValueAsString(report);
+    }
+
     @Test
     public void should_save_not_executed_scenario_report() {
         // Given
@@ -23,6 +23,7 @@ import com.chutneytesting.environment.domain.exception.AlreadyExistingTargetExce
 import com.chutneytesting.environment.domain.exception.EnvironmentNotFoundException;
 import com.chutneytesting.environment.domain.exception.InvalidEnvironmentNameException;
 import com.chutneytesting.environment.domain.exception.TargetNotFoundException;
+import com.chutneytesting.execution.domain.attachment.AttachmentNotFoundException;
 import com.chutneytesting.execution.domain.campaign.CampaignAlreadyRunningException;
 import com.chutneytesting.execution.domain.campaign.CampaignExecutionNotFoundException;
 import com.chutneytesting.security.domain.CurrentUserNotFoundException;
@@ -86,6 +87,7 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
     }
 
     @ExceptionHandler({
+        AttachmentNotFoundException.class,
         BackupNotFoundException.class,
         CampaignExecutionNotFoundException.class,
         CampaignNotFoundException.class,
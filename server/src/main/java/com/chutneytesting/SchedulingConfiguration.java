@@ -16,17 +16,22 @@
 
 package com.chutneytesting;
 
+import static com.chutneytesting.ServerConfigurationValues.EXECUTORS_VIRTUAL_THREADS_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.SCHEDULED_CAMPAIGNS_EXECUTOR_POOL_SIZE_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.SCHEDULED_PURGE_MAX_CAMPAIGN_EXECUTIONS_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.SCHEDULED_PURGE_MAX_SCENARIO_EXECUTIONS_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.SCHEDULED_PURGE_SCENARIO_EXECUTIONS_CHUNK_SIZE_SPRING_VALUE;
 
 import com.chutneytesting.campaign.domain.CampaignExecutionRepository;
 import com.chutneytesting.campaign.domain.CampaignRepository;
+import com.chutneytesting.engine.infrastructure.concurrent.VirtualThreads;
 import com.chutneytesting.execution.api.schedule.ScheduleCampaign;
 import com.chutneytesting.execution.domain.PurgeServiceImpl;
 import com.chutneytesting.execution.domain.schedule.CampaignScheduler;
+import com.chutneytesting.execution.infra.storage.UnreferencedAttachmentsPurge;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistoryRepository;
 import com.chutneytesting.server.core.domain.execution.history.PurgeService;
+import com.chutneytesting.server.core.domain.instrument.ChutneyMetrics;
 import com.chutneytesting.server.core.domain.scenario.TestCaseRepository;
 import java.lang.reflect.Method;
 import java.util.concurrent.ExecutorService;
@@ -90,7 +95,12 @@ public class SchedulingConfiguration implements AsyncConfigurer {
      * @see CampaignScheduler#executeScheduledCampaigns()
      */
     @Bean
-    public ExecutorService scheduledCampaignsExecutor(@Value(SCHEDULED_CAMPAIGNS_EXECUTOR_POOL_SIZE_SPRING_VALUE) Integer threadForScheduledCampaigns) {
+    public ExecutorService scheduledCampaignsExecutor(@Value(SCHEDULED_CAMPAIGNS_EXECUTOR_POOL_SIZE_SPRING_VALUE) Integer threadForScheduledCampaigns,
+                                                     @Value(EXECUTORS_VIRTUAL_THREADS_SPRING_VALUE) boolean virtualThreads) {
+        if (ServerConfiguration.useVirtualThreads(virtualThreads)) {
+            LOGGER.debug("Virtual threads executor created for scheduled campaigns");
+            return VirtualThreads.newThreadPerTaskExecutor("scheduled-campaigns-executor-");
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(threadForScheduledCampaigns);
         executor.setMaxPoolSize(threadForScheduledCampaigns);
@@ -107,7 +117,10 @@ public class SchedulingConfiguration implements AsyncConfigurer {
         CampaignRepository campaignRepository,
         CampaignExecutionRepository campaignExecutionRepository,
         @Value(SCHEDULED_PURGE_MAX_SCENARIO_EXECUTIONS_SPRING_VALUE) Integer maxScenarioExecutionsConfig,
-        @Value(SCHEDULED_PURGE_MAX_CAMPAIGN_EXECUTIONS_SPRING_VALUE) Integer maxCampaignExecutionsConfig
+        @Value(SCHEDULED_PURGE_MAX_CAMPAIGN_EXECUTIONS_SPRING_VALUE) Integer maxCampaignExecutionsConfig,
+        @Value(SCHEDULED_PURGE_SCENARIO_EXECUTIONS_CHUNK_SIZE_SPRING_VALUE) int scenarioExecutionsChunkSize,
+        ChutneyMetrics metrics,
+        UnreferencedAttachmentsPurge unreferencedAttachmentsPurge
     ) {
         return new PurgeServiceImpl(
             testCaseRepository,
@@ -115,7 +128,10 @@ public class SchedulingConfiguration implements AsyncConfigurer {
             campaignRepository,
             campaignExecutionRepository,
             maxScenarioExecutionsConfig,
-            maxCampaignExecutionsConfig
+            maxCampaignExecutionsConfig,
+            scenarioExecutionsChunkSize,
+            metrics,
+            unreferencedAttachmentsPurge::purge
         );
     }
 }
@@ -16,13 +16,19 @@
 
 package com.chutneytesting;
 
+import static com.chutneytesting.ServerConfigurationValues.CAMPAIGNS_EXECUTOR_MAX_CONCURRENT_SCENARIOS_PER_ENVIRONMENT_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.CAMPAIGNS_EXECUTOR_PARALLELISM_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.CAMPAIGNS_EXECUTOR_POOL_SIZE_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.ENGINE_DELEGATION_PASSWORD_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.ENGINE_DELEGATION_USER_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.ENGINE_EXECUTOR_MAX_CONCURRENT_ACTIONS_PER_TARGET_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.ENGINE_EXECUTOR_POOL_SIZE_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.ENGINE_REPORTER_PUBLISHER_TTL_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.EXECUTION_ASYNC_PUBLISHER_DEBOUNCE_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.EXECUTION_ASYNC_PUBLISHER_TTL_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.EXECUTORS_VIRTUAL_THREADS;
+import static com.chutneytesting.ServerConfigurationValues.EXECUTORS_VIRTUAL_THREADS_PINNING_THRESHOLD_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.EXECUTORS_VIRTUAL_THREADS_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.SERVER_PORT_SPRING_VALUE;
 import static com.chutneytesting.ServerConfigurationValues.TASK_SQL_NB_LOGGED_ROW;
 import static com.chutneytesting.ServerConfigurationValues.TASK_SQL_NB_LOGGED_ROW_SPRING_VALUE;
@@ -35,6 +41,9 @@ import com.chutneytesting.dataset.domain.DataSetRepository;
 import com.chutneytesting.design.domain.editionlock.TestCaseEditions;
 import com.chutneytesting.design.domain.editionlock.TestCaseEditionsService;
 import com.chutneytesting.engine.api.execution.TestEngine;
+import com.chutneytesting.engine.infrastructure.concurrent.VirtualThreadPinningMonitor;
+import com.chutneytesting.engine.infrastructure.concurrent.VirtualThreads;
+import com.chutneytesting.execution.domain.attachment.AttachmentRepository;
 import com.chutneytesting.execution.domain.campaign.CampaignExecutionEngine;
 import com.chutneytesting.execution.infra.execution.ExecutionRequestMapper;
 import com.chutneytesting.execution.infra.execution.ServerTestEngineJavaImpl;
@@ -63,10 +72,12 @@ import java.io.IOException;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import javax.sql.DataSource;
 import liquibase.integration.spring.SpringLiquibase;
 import org.jdom2.Element;
@@ -77,6 +88,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.jms.activemq.ActiveMQAutoConfiguration;
 import org.springframework.boot.autoconfigure.liquibase.LiquibaseAutoConfiguration;
 import org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration;
@@ -84,6 +96,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.core.io.Resource;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.core.task.support.ExecutorServiceAdapter;
+import org.springframework.core.task.support.TaskExecutorAdapter;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @SpringBootApplication(exclude = {LiquibaseAutoConfiguration.class, ActiveMQAutoConfiguration.class, MongoAutoConfiguration.class})
@@ -103,21 +116,31 @@ public class ServerConfiguration {
      * For com.chutneytesting.ServerConfiguration#executionConfiguration()
      */
     @Bean
-    public ThreadPoolTaskExecutor engineExecutor(@Value(ENGINE_EXECUTOR_POOL_SIZE_SPRING_VALUE) Integer threadForEngine) {
+    public ExecutorService engineExecutor(@Value(ENGINE_EXECUTOR_POOL_SIZE_SPRING_VALUE) Integer threadForEngine,
+                                          @Value(EXECUTORS_VIRTUAL_THREADS_SPRING_VALUE) boolean virtualThreads) {
+        if (useVirtualThreads(virtualThreads)) {
+            LOGGER.debug("Virtual threads executor created for engine");
+            return VirtualThreads.newThreadPerTaskExecutor("engine-executor-");
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(threadForEngine);
         executor.setMaxPoolSize(threadForEngine);
         executor.setThreadNamePrefix("engine-executor");
         executor.initialize();
         LOGGER.debug("Pool for engine created with size {}", threadForEngine);
-        return executor;
+        return executor.getThreadPoolExecutor();
     }
 
     /**
      * For com.chutneytesting.ServerConfiguration#campaignExecutionEngine()
      */
     @Bean
-    public TaskExecutor campaignExecutor(@Value(CAMPAIGNS_EXECUTOR_POOL_SIZE_SPRING_VALUE) Integer threadForCampaigns) {
+    public TaskExecutor campaignExecutor(@Value(CAMPAIGNS_EXECUTOR_POOL_SIZE_SPRING_VALUE) Integer threadForCampaigns,
+                                         @Value(EXECUTORS_VIRTUAL_THREADS_SPRING_VALUE) boolean virtualThreads) {
+        if (useVirtualThreads(virtualThreads)) {
+            LOGGER.debug("Virtual threads executor created for campaigns");
+            return new TaskExecutorAdapter(VirtualThreads.newThreadPerTaskExecutor("campaign-executor-"));
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(threadForCampaigns);
         executor.setMaxPoolSize(threadForCampaigns);
@@ -127,17 +150,37 @@ public class ServerConfiguration {
         return executor;
     }
 
+    /**
+     * Logs actions pinning virtual threads, when virtual threads are used.
+     */
+    @Bean
+    @ConditionalOnProperty(name = EXECUTORS_VIRTUAL_THREADS, havingValue = "true")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(@Value(EXECUTORS_VIRTUAL_THREADS_PINNING_THRESHOLD_SPRING_VALUE) long thresholdMilliSeconds) {
+        return new VirtualThreadPinningMonitor(Duration.ofMillis(thresholdMilliSeconds));
+    }
+
     @Bean
     public ExecutionConfiguration executionConfiguration(
         @Value(ENGINE_REPORTER_PUBLISHER_TTL_SPRING_VALUE) Long reporterTTL,
-        @Qualifier("engineExecutor") ThreadPoolTaskExecutor engineExecutor,
+        @Qualifier("engineExecutor") ExecutorService engineExecutor,
         @Value(TASK_SQL_NB_LOGGED_ROW_SPRING_VALUE) String nbLoggedRow,
         @Value(ENGINE_DELEGATION_USER_SPRING_VALUE) String delegateUser,
-        @Value(ENGINE_DELEGATION_PASSWORD_SPRING_VALUE) String delegatePassword
+        @Value(ENGINE_DELEGATION_PASSWORD_SPRING_VALUE) String delegatePassword,
+        @Value(ENGINE_EXECUTOR_MAX_CONCURRENT_ACTIONS_PER_TARGET_SPRING_VALUE) int maxConcurrentActionsPerTarget
     ) {
         Map<String, String> actionsConfiguration = new HashMap<>();
         actionsConfiguration.put(TASK_SQL_NB_LOGGED_ROW, nbLoggedRow);
-        return new ExecutionConfiguration(reporterTTL, engineExecutor.getThreadPoolExecutor(), actionsConfiguration, delegateUser, delegatePassword);
+        return new ExecutionConfiguration(reporterTTL, engineExecutor, actionsConfiguration, delegateUser, delegatePassword, maxConcurrentActionsPerTarget);
+    }
+
+    /**
+     * Virtual threads are used when enabled and provided by the Java runtime (21 and later).
+     */
+    static boolean useVirtualThreads(boolean virtualThreadsEnabled) {
+        if (virtualThreadsEnabled && !VirtualThreads.isSupported()) {
+            LOGGER.warn("Virtual threads are enabled but not supported by Java {}. Thread pools are used instead", Runtime.version().feature());
+        }
+        return virtualThreadsEnabled && VirtualThreads.isSupported();
     }
 
     @Bean
@@ -195,7 +238,10 @@ public class ServerConfiguration {
                                                     ChutneyMetrics metrics,
                                                     @Qualifier("campaignExecutor") TaskExecutor campaignExecutor,
                                                     DataSetRepository datasetRepository,
-                                                    ObjectMapper objectMapper) { // TODO - Choose explicitly which mapper to use
+                                                    ObjectMapper objectMapper, // TODO - Choose explicitly which mapper to use
+                                                    @Value(CAMPAIGNS_EXECUTOR_PARALLELISM_SPRING_VALUE) int campaignParallelism,
+                                                    @Value(CAMPAIGNS_EXECUTOR_MAX_CONCURRENT_SCENARIOS_PER_ENVIRONMENT_SPRING_VALUE) int maxConcurrentScenariosPerEnvironment,
+                                                    AttachmentRepository attachmentRepository) {
         return new CampaignExecutionEngine(
             campaignRepository,
             campaignExecutionRepository,
@@ -207,7 +253,10 @@ public class ServerConfiguration {
             metrics,
             new ExecutorServiceAdapter(campaignExecutor),
             datasetRepository,
-            objectMapper
+            objectMapper,
+            campaignParallelism,
+            maxConcurrentScenariosPerEnvironment,
+            Optional.of(attachmentRepository)
         );
     }
 
@@ -222,8 +271,8 @@ public class ServerConfiguration {
     }
 
     @Bean
-    ServerTestEngine javaTestEngine(TestEngine embeddedTestEngine, ExecutionRequestMapper executionRequestMapper) {
-        return new ServerTestEngineJavaImpl(embeddedTestEngine, executionRequestMapper);
+    ServerTestEngine javaTestEngine(TestEngine embeddedTestEngine, ExecutionRequestMapper executionRequestMapper, AttachmentRepository attachmentRepository) {
+        return new ServerTestEngineJavaImpl(embeddedTestEngine, executionRequestMapper, attachmentRepository);
     }
 
     @Bean
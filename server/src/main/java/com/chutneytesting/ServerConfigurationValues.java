@@ -27,13 +27,23 @@ public final class ServerConfigurationValues {
     public static final String ENGINE_DELEGATION_PASSWORD_SPRING_VALUE = "${chutney.engine.delegation.password:#{null}}";
     public static final String EXECUTION_ASYNC_PUBLISHER_TTL_SPRING_VALUE = "${chutney.server.execution.async.publisher.ttl:5}";
     public static final String EXECUTION_ASYNC_PUBLISHER_DEBOUNCE_SPRING_VALUE = "${chutney.server.execution.async.publisher.debounce:250}";
+    public static final String EXECUTION_REPORT_CODEC_SPRING_VALUE = "${chutney.server.execution.report.codec:deflate}";
+    public static final String EXECUTION_REPORT_COMPRESSION_BATCH_SIZE_SPRING_VALUE = "${chutney.server.execution.report.compression.batch-size:500}";
+    public static final String EXECUTION_REPORT_COMPRESSION_FIXED_DELAY_SPRING_VALUE = "${chutney.server.execution.report.compression.fixed-delay:10000}";
     public static final String CAMPAIGNS_EXECUTOR_POOL_SIZE_SPRING_VALUE = "${chutney.server.campaigns.executor.pool-size:20}";
+    public static final String CAMPAIGNS_EXECUTOR_PARALLELISM_SPRING_VALUE = "${chutney.server.campaigns.executor.parallelism:0}";
+    public static final String CAMPAIGNS_EXECUTOR_MAX_CONCURRENT_SCENARIOS_PER_ENVIRONMENT_SPRING_VALUE = "${chutney.server.campaigns.executor.max-concurrent-scenarios-per-environment:0}";
     public static final String SCHEDULED_CAMPAIGNS_EXECUTOR_POOL_SIZE_SPRING_VALUE = "${chutney.server.schedule-campaigns.executor.pool-size:20}";
     public static final String SCHEDULED_CAMPAIGNS_FIXED_RATE_SPRING_VALUE = "${chutney.server.schedule-campaigns.fixed-rate:60000}";
     public static final String SCHEDULED_PURGE_CRON_SPRING_VALUE = "${chutney.server.schedule-purge.cron:0 0 1 * * *}";
     public static final String SCHEDULED_PURGE_MAX_SCENARIO_EXECUTIONS_SPRING_VALUE = "${chutney.server.schedule-purge.max-scenario-executions:10}";
     public static final String SCHEDULED_PURGE_MAX_CAMPAIGN_EXECUTIONS_SPRING_VALUE = "${chutney.server.schedule-purge.max-campaign-executions:10}";
+    public static final String SCHEDULED_PURGE_SCENARIO_EXECUTIONS_CHUNK_SIZE_SPRING_VALUE = "${chutney.server.schedule-purge.scenario-executions-chunk-size:0}";
     public static final String ENGINE_EXECUTOR_POOL_SIZE_SPRING_VALUE = "${chutney.engine.executor.pool-size:20}";
+    public static final String ENGINE_EXECUTOR_MAX_CONCURRENT_ACTIONS_PER_TARGET_SPRING_VALUE = "${chutney.engine.executor.max-concurrent-actions-per-target:0}";
+    public static final String EXECUTORS_VIRTUAL_THREADS = "chutney.executors.virtual-threads.enabled";
+    public static final String EXECUTORS_VIRTUAL_THREADS_SPRING_VALUE = "${" + EXECUTORS_VIRTUAL_THREADS + ":false}";
+    public static final String EXECUTORS_VIRTUAL_THREADS_PINNING_THRESHOLD_SPRING_VALUE = "${chutney.executors.virtual-threads.pinning-threshold:20}";
     public static final String AGENT_NETWORK_CONNECTION_CHECK_TIMEOUT_SPRING_VALUE = "${chutney.server.agent.network.connection-checker-timeout:1000}";
     public static final String LOCAL_AGENT_DEFAULT_NAME_SPRING_VALUE = "${chutney.server.agent.name:#{null}}";
     public static final String LOCAL_AGENT_DEFAULT_HOSTNAME_SPRING_VALUE = "${chutney.server.agent.hostname:#{null}}";
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.execution.api;
+
+import com.chutneytesting.execution.domain.attachment.AttachmentRepository;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@CrossOrigin(origins = "*")
+class AttachmentController {
+
+    private final AttachmentRepository attachmentRepository;
+
+    AttachmentController(AttachmentRepository attachmentRepository) {
+        this.attachmentRepository = attachmentRepository;
+    }
+
+    /**
+     * Stream an attachment referenced in an execution report.<br>
+     * Attachments are content-addressed, so they can be cached forever.
+     */
+    @PreAuthorize("hasAuthority('SCENARIO_READ')")
+    @GetMapping(path = "/api/ui/attachment/v1/{attachmentId}")
+    public ResponseEntity<InputStreamResource> getAttachment(@PathVariable("attachmentId") String attachmentId) throws IOException {
+        InputStream content = new BufferedInputStream(attachmentRepository.read(attachmentId));
+        MediaType mediaType = Optional.ofNullable(URLConnection.guessContentTypeFromStream(content))
+            .filter(type -> type.startsWith("image/"))
+            .map(MediaType::parseMediaType)
+            .orElse(MediaType.APPLICATION_OCTET_STREAM);
+        return ResponseEntity.ok()
+            .contentType(mediaType)
+            .cacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable())
+            .body(new InputStreamResource(content));
+    }
+}
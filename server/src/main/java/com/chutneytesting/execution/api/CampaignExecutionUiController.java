@@ -30,6 +30,7 @@ import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus
 import com.chutneytesting.server.core.domain.scenario.campaign.Campaign;
 import com.chutneytesting.server.core.domain.scenario.campaign.CampaignExecution;
 import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -114,16 +115,31 @@ public class CampaignExecutionUiController {
 
     @PreAuthorize("hasAuthority('CAMPAIGN_EXECUTE')")
     @GetMapping(path = {"/{campaignPattern}/surefire", "/{campaignPattern}/surefire/{env}"}, produces = "application/zip")
-    public byte[] executeCampaignsByPatternWithSurefireReport(HttpServletResponse response, @PathVariable("campaignPattern") String campaignPattern, @PathVariable("env") Optional<String> environment) {
+    public void executeCampaignsByPatternWithSurefireReport(HttpServletResponse response, @PathVariable("campaignPattern") String campaignPattern, @PathVariable("env") Optional<String> environment) throws IOException {
         String userId = userService.currentUser().getId();
-        response.addHeader("Content-Disposition", "attachment; filename=\"surefire-report.zip\"");
         List<CampaignExecution> reports;
         if (environment.isPresent()) {
             reports = campaignExecutionEngine.executeByName(campaignPattern, environment.get(), userId);
         } else {
             reports = campaignExecutionEngine.executeByName(campaignPattern, userId);
         }
-        return surefireCampaignExecutionReportBuilder.createReport(reports);
+        surefireReport(response, reports);
+    }
+
+    /**
+     * Export a past campaign execution as surefire report, without executing the campaign again.
+     */
+    @PreAuthorize("hasAuthority('CAMPAIGN_READ')")
+    @GetMapping(path = "/surefire/execution/{campaignExecutionId}", produces = "application/zip")
+    public void getSurefireReport(HttpServletResponse response, @PathVariable("campaignExecutionId") Long campaignExecutionId) throws IOException {
+        CampaignExecution campaignExecution = campaignService.findByExecutionId(campaignExecutionId);
+        surefireReport(response, List.of(campaignExecution));
+    }
+
+    private void surefireReport(HttpServletResponse response, List<CampaignExecution> campaignExecutions) throws IOException {
+        response.setContentType("application/zip");
+        response.addHeader("Content-Disposition", "attachment; filename=\"surefire-report.zip\"");
+        surefireCampaignExecutionReportBuilder.writeReport(campaignExecutions, response.getOutputStream());
     }
 
     @PreAuthorize("hasAuthority('CAMPAIGN_EXECUTE')")
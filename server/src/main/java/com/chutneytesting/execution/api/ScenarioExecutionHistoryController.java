@@ -18,22 +18,35 @@ package com.chutneytesting.execution.api;
 
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistoryRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @CrossOrigin(origins = "*")
 class ScenarioExecutionHistoryController {
 
+    static final int MAX_EXECUTIONS_PAGE_SIZE = 1000;
+    static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
     private final ExecutionHistoryRepository executionHistoryRepository;
+    private final ObjectWriter executionSummaryWriter;
 
-    ScenarioExecutionHistoryController(ExecutionHistoryRepository executionHistoryRepository) {
+    ScenarioExecutionHistoryController(ExecutionHistoryRepository executionHistoryRepository, ObjectMapper objectMapper) {
         this.executionHistoryRepository = executionHistoryRepository;
+        this.executionSummaryWriter = objectMapper.writerFor(ExecutionSummaryDto.class).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     }
 
     @PreAuthorize("hasAuthority('SCENARIO_READ')")
@@ -43,6 +56,42 @@ class ScenarioExecutionHistoryController {
             executionHistoryRepository.getExecutions(scenarioId));
     }
 
+    /**
+     * Keyset paginated executions, last ones first.<br>
+     * Next page is requested with the id of the last execution of the current one as <i>before</i> parameter.
+     */
+    @PreAuthorize("hasAuthority('SCENARIO_READ')")
+    @GetMapping(path = "/api/ui/scenario/{scenarioId}/execution/v2", produces = MediaType.APPLICATION_JSON_VALUE)
+    public List<ExecutionSummaryDto> listExecutions(@PathVariable("scenarioId") String scenarioId,
+                                                    @RequestParam(name = "before", required = false) Long beforeExecutionId,
+                                                    @RequestParam(name = "limit", defaultValue = "50") int limit) {
+        if (limit < 1 || limit > MAX_EXECUTIONS_PAGE_SIZE) {
+            throw new IllegalArgumentException("Executions page limit must be between 1 and " + MAX_EXECUTIONS_PAGE_SIZE);
+        }
+        return ExecutionSummaryDto.toDto(
+            executionHistoryRepository.getExecutions(scenarioId, beforeExecutionId, limit));
+    }
+
+    /**
+     * Export all executions, one json summary per line, without loading them all in memory.
+     */
+    @PreAuthorize("hasAuthority('SCENARIO_READ')")
+    @GetMapping(path = "/api/ui/scenario/{scenarioId}/execution/export/v1", produces = NDJSON_MEDIA_TYPE)
+    public void exportExecutions(HttpServletResponse response, @PathVariable("scenarioId") String scenarioId) throws IOException {
+        response.setContentType(NDJSON_MEDIA_TYPE);
+        OutputStream outputStream = response.getOutputStream();
+        executionHistoryRepository.forEachExecution(scenarioId, summary -> writeLine(outputStream, ExecutionSummaryDto.toDto(summary)));
+    }
+
+    private void writeLine(OutputStream outputStream, ExecutionSummaryDto summary) {
+        try {
+            executionSummaryWriter.writeValue(outputStream, summary);
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @PreAuthorize("hasAuthority('SCENARIO_READ')")
     @GetMapping(path = "/api/ui/scenario/execution/{executionId}/summary/v1", produces = MediaType.APPLICATION_JSON_VALUE)
     public ExecutionSummaryDto getExecutionSummary(@PathVariable("executionId") Long executionId) {
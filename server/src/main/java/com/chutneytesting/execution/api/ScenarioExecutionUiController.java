@@ -177,7 +177,7 @@ public class ScenarioExecutionUiController {
             reportEvent -> ServerSentEvent.<String>builder()
                 .id(String.valueOf(reportEvent.executionId))
                 .event(reportEvent.report.isTerminated() ? "last" : "partial")
-                .data(reportObjectMapper.writeValueAsString(reportEvent))
+                .data(executionEngineAsync.serialize(reportEvent))
                 .build()
         ).toFlowable(BackpressureStrategy.BUFFER));
     }
@@ -21,12 +21,10 @@ import com.chutneytesting.server.core.domain.scenario.campaign.ScenarioExecution
 import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
 import jakarta.xml.bind.Marshaller;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 import javax.xml.stream.XMLOutputFactory;
@@ -35,72 +33,56 @@ import javax.xml.stream.XMLStreamWriter;
 
 /**
  * Surefire reports consists of a ZIP archive containing a folder by campaign.<br>
- * Each campaign folder contains one testsuite file per scenario.
+ * Each campaign folder contains one testsuite file per scenario.<br>
+ * Testsuites are written one after the other in the archive, so the whole report is never held in memory.
  */
 public class SurefireCampaignExecutionReportBuilder {
 
+    private static final JAXBContext TESTSUITE_CONTEXT = testsuiteContext();
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
     private final SurefireScenarioExecutionReportBuilder surefireScenarioExecutionReportBuilder;
 
     public SurefireCampaignExecutionReportBuilder(SurefireScenarioExecutionReportBuilder surefireScenarioExecutionReportBuilder) {
         this.surefireScenarioExecutionReportBuilder = surefireScenarioExecutionReportBuilder;
     }
 
-    public byte[] createReport(List<CampaignExecution> campaignExecutions) {
-        List<CampaignReportFolder> campaignReportFolders = campaignExecutions.stream()
-            .map(this::createReport)
-            .collect(Collectors.toList());
-        return marshall(campaignReportFolders);
-    }
-
-    private byte[] marshall(List<CampaignReportFolder> campaignReportFolders) {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        try (ZipOutputStream zos = new ZipOutputStream(baos)) {
-
-            campaignReportFolders.forEach(campaignReportFolder -> {
-                try {
-                    zos.putNextEntry(new ZipEntry(campaignReportFolder.name + "/"));
-                    campaignReportFolder.scenariosReport.forEach(testsuite -> {
-                        try {
-                            zos.putNextEntry(new ZipEntry(campaignReportFolder.name + "/" + testsuite.name + ".xml"));
-                            zos.write(zipEntry(testsuite));
-                            zos.closeEntry();
-                        } catch (IOException e) {
-                            throw new UncheckedIOException(e.getMessage(), e);
-                        }
-                    });
+    public void writeReport(List<CampaignExecution> campaignExecutions, OutputStream outputStream) {
+        try (ZipOutputStream zos = new ZipOutputStream(outputStream)) {
+            Marshaller marshaller = TESTSUITE_CONTEXT.createMarshaller();
+            for (CampaignExecution campaignExecution : campaignExecutions) {
+                String folder = campaignExecution.campaignName + "/";
+                zos.putNextEntry(new ZipEntry(folder));
+                zos.closeEntry();
+                for (ScenarioExecutionCampaign scenarioExecution : campaignExecution.scenarioExecutionReports()) {
+                    Testsuite testsuite = surefireScenarioExecutionReportBuilder.create(scenarioExecution);
+                    zos.putNextEntry(new ZipEntry(folder + testsuite.name + ".xml"));
+                    marshall(marshaller, testsuite, zos);
                     zos.closeEntry();
-                } catch (IOException e) {
-                    throw new UncheckedIOException(e.getMessage(), e);
                 }
-            });
-        } catch (IOException | RuntimeException e) {
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot serialize test suite.", e);
+        } catch (JAXBException | RuntimeException e) {
             throw new RuntimeException("Cannot serialize test suite.", e);
         }
-        return baos.toByteArray();
     }
 
-    private byte[] zipEntry(Testsuite testsuite) {
-        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
-            XMLStreamWriter writer = XMLOutputFactory.newFactory().createXMLStreamWriter(output);
-            JAXBContext jc = JAXBContext.newInstance(Testsuite.class);
-            Marshaller m = jc.createMarshaller();
-            m.marshal(testsuite, writer);
-            return output.toByteArray();
-        } catch (IOException e) {
-            throw new UncheckedIOException(e.getMessage(), e);
-        } catch (XMLStreamException | JAXBException e) {
+    private void marshall(Marshaller marshaller, Testsuite testsuite, OutputStream outputStream) throws JAXBException {
+        try {
+            XMLStreamWriter writer = XML_OUTPUT_FACTORY.createXMLStreamWriter(outputStream);
+            marshaller.marshal(testsuite, writer);
+            writer.flush();
+        } catch (XMLStreamException e) {
             throw new RuntimeException(e.getMessage(), e);
         }
     }
 
-    private CampaignReportFolder createReport(CampaignExecution campaignExecution) {
-        return new CampaignReportFolder(campaignExecution.campaignName, testsuite(campaignExecution.scenarioExecutionReports()));
-    }
-
-    private Set<Testsuite> testsuite(List<ScenarioExecutionCampaign> scenarioExecutionHistory) {
-        return scenarioExecutionHistory
-            .stream()
-            .map(surefireScenarioExecutionReportBuilder::create)
-            .collect(Collectors.toSet());
+    private static JAXBContext testsuiteContext() {
+        try {
+            return JAXBContext.newInstance(Testsuite.class);
+        } catch (JAXBException e) {
+            throw new IllegalStateException("Cannot create surefire testsuite JAXB context", e);
+        }
     }
 }
@@ -40,7 +40,7 @@ public class SurefireScenarioExecutionReportBuilder {
     private final ObjectMapper objectMapper;
     private final ExecutionHistoryRepository executionHistoryRepository;
 
-    SurefireScenarioExecutionReportBuilder(ObjectMapper objectMapper, ExecutionHistoryRepository executionHistoryRepository) {
+    public SurefireScenarioExecutionReportBuilder(ObjectMapper objectMapper, ExecutionHistoryRepository executionHistoryRepository) {
         this.objectMapper = objectMapper; // TODO - Choose explicitly which mapper to use
         this.executionHistoryRepository = executionHistoryRepository;
     }
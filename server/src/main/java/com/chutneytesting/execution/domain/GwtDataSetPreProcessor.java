@@ -16,22 +16,32 @@
 
 package com.chutneytesting.execution.domain;
 
+import static java.util.stream.Collectors.toList;
+
 import com.chutneytesting.scenario.domain.gwt.GwtScenario;
+import com.chutneytesting.scenario.domain.gwt.GwtStep;
+import com.chutneytesting.scenario.domain.gwt.GwtStepImplementation;
 import com.chutneytesting.scenario.domain.gwt.GwtTestCase;
+import com.chutneytesting.scenario.domain.gwt.Strategy;
 import com.chutneytesting.server.core.domain.execution.ExecutionRequest;
 import com.chutneytesting.server.core.domain.execution.processor.TestCasePreProcessor;
 import com.chutneytesting.server.core.domain.globalvar.GlobalvarRepository;
-import org.apache.commons.text.StringEscapeUtils;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import org.springframework.stereotype.Component;
 
+/**
+ * Replaces global variables in steps directly on the scenario model.<br>
+ * Scenario title and description are left untouched.
+ */
 @Component
 public class GwtDataSetPreProcessor implements TestCasePreProcessor<GwtTestCase> {
 
     private final GlobalvarRepository globalvarRepository;
-    private final GwtScenarioMarshaller marshaller;
 
-    public GwtDataSetPreProcessor(GwtScenarioMarshaller marshaller, GlobalvarRepository globalvarRepository) {
-        this.marshaller = marshaller;
+    public GwtDataSetPreProcessor(GlobalvarRepository globalvarRepository) {
         this.globalvarRepository = globalvarRepository;
     }
 
@@ -40,13 +50,76 @@ public class GwtDataSetPreProcessor implements TestCasePreProcessor<GwtTestCase>
         GwtTestCase testCase = (GwtTestCase) executionRequest.testCase;
         return GwtTestCase.builder()
             .withMetadata(testCase.metadata)
-            .withScenario(replaceParams(testCase.scenario))
+            .withScenario(replaceParams(testCase.scenario, globalvarRepository.getFlatMap()))
+            .build();
+    }
+
+    private GwtScenario replaceParams(GwtScenario scenario, Map<String, String> globalVariables) {
+        return GwtScenario.builder()
+            .withTitle(scenario.title)
+            .withDescription(scenario.description)
+            .withGivens(replaceParams(scenario.givens, globalVariables))
+            .withWhen(replaceParams(scenario.when, globalVariables))
+            .withThens(replaceParams(scenario.thens, globalVariables))
             .build();
     }
 
-    private GwtScenario replaceParams(GwtScenario scenario) {
-        String blob = marshaller.serialize(scenario);
-        return marshaller.deserialize(scenario.title, scenario.description, replaceParams(globalvarRepository.getFlatMap(), blob, StringEscapeUtils::escapeJson));
+    private List<GwtStep> replaceParams(List<GwtStep> steps, Map<String, String> globalVariables) {
+        return steps.stream().map(step -> replaceParams(step, globalVariables)).collect(toList());
     }
 
+    private GwtStep replaceParams(GwtStep step, Map<String, String> globalVariables) {
+        return GwtStep.builder()
+            .withDescription(replaceParams(step.description, globalVariables))
+            .withSubSteps(replaceParams(step.subSteps, globalVariables))
+            .withImplementation(step.implementation.map(implementation -> replaceParams(implementation, globalVariables)).orElse(null))
+            .withStrategy(step.strategy.map(strategy -> replaceParams(strategy, globalVariables)).orElse(null))
+            .withXRef(step.xRef.map(xRef -> replaceParams(xRef, globalVariables)).orElse(null))
+            .build();
+    }
+
+    private GwtStepImplementation replaceParams(GwtStepImplementation implementation, Map<String, String> globalVariables) {
+        return new GwtStepImplementation(
+            replaceParams(implementation.type, globalVariables),
+            replaceParams(implementation.target, globalVariables),
+            replaceParams(implementation.inputs, globalVariables),
+            replaceParams(implementation.outputs, globalVariables),
+            replaceParams(implementation.validations, globalVariables),
+            replaceParams(implementation.xRef, globalVariables)
+        );
+    }
+
+    private Strategy replaceParams(Strategy strategy, Map<String, String> globalVariables) {
+        return new Strategy(
+            replaceParams(strategy.type, globalVariables),
+            replaceParams(strategy.parameters, globalVariables)
+        );
+    }
+
+    private Map<String, Object> replaceParams(Map<String, Object> values, Map<String, String> globalVariables) {
+        Map<String, Object> replaced = new LinkedHashMap<>();
+        values.forEach((key, value) -> replaced.put(replaceParams(key, globalVariables), replaceValueParams(value, globalVariables)));
+        return replaced;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object replaceValueParams(Object value, Map<String, String> globalVariables) {
+        if (value instanceof String s) {
+            return replaceParams(s, globalVariables);
+        }
+        if (value instanceof Map<?, ?> map) {
+            return replaceParams((Map<String, Object>) map, globalVariables);
+        }
+        if (value instanceof List<?> list) {
+            return list.stream().map(v -> replaceValueParams(v, globalVariables)).collect(toList());
+        }
+        return value;
+    }
+
+    private String replaceParams(String value, Map<String, String> globalVariables) {
+        if (value == null || !value.contains("**")) {
+            return value;
+        }
+        return replaceParams(globalVariables, value, Function.identity());
+    }
 }
@@ -20,6 +20,7 @@ import static com.chutneytesting.server.core.domain.execution.report.ServerRepor
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
 import static java.util.Comparator.comparing;
+import static java.util.Objects.requireNonNull;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toSet;
@@ -30,6 +31,7 @@ import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory.
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistoryRepository;
 import com.chutneytesting.server.core.domain.execution.history.PurgeService;
 import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
+import com.chutneytesting.server.core.domain.instrument.ChutneyMetrics;
 import com.chutneytesting.server.core.domain.scenario.TestCaseMetadata;
 import com.chutneytesting.server.core.domain.scenario.TestCaseRepository;
 import com.chutneytesting.server.core.domain.scenario.campaign.Campaign;
@@ -43,6 +45,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
@@ -51,7 +54,8 @@ import org.slf4j.LoggerFactory;
 public class PurgeServiceImpl implements PurgeService {
     private static final Logger LOGGER = LoggerFactory.getLogger(PurgeServiceImpl.class);
     private final PurgeExecutionService<Campaign, Long, CampaignExecution> campaignPurgeService;
-    private final PurgeExecutionService<TestCaseMetadata, String, ExecutionSummary> scenarioPurgeService;
+    private final Supplier<Set<Long>> scenarioPurgeService;
+    private final IntSupplier attachmentsPurgeService;
 
     public PurgeServiceImpl(
         TestCaseRepository testCaseRepository,
@@ -60,12 +64,37 @@ public class PurgeServiceImpl implements PurgeService {
         CampaignExecutionRepository campaignExecutionRepository,
         Integer maxScenarioExecutionsConfiguration,
         Integer maxCampaignExecutionsConfiguration
+    ) {
+        this(testCaseRepository, executionsRepository, campaignRepository, campaignExecutionRepository, maxScenarioExecutionsConfiguration, maxCampaignExecutionsConfiguration, 0, null, () -> 0);
+    }
+
+    /**
+     * @param scenarioExecutionsChunkSize When positive, scenarios' executions to purge are selected by the database
+     *                                    and deleted by chunks of this size. See {@link ScenarioExecutionsChunkedPurge}.
+     * @param attachmentsPurgeService     Deletes attachments no more referenced once scenarios' executions are purged,
+     *                                    returning the number of deleted ones.
+     */
+    public PurgeServiceImpl(
+        TestCaseRepository testCaseRepository,
+        ExecutionHistoryRepository executionsRepository,
+        CampaignRepository campaignRepository,
+        CampaignExecutionRepository campaignExecutionRepository,
+        Integer maxScenarioExecutionsConfiguration,
+        Integer maxCampaignExecutionsConfiguration,
+        int scenarioExecutionsChunkSize,
+        ChutneyMetrics metrics,
+        IntSupplier attachmentsPurgeService
     ) {
         Integer maxScenarioExecutions = validateConfigurationLimit(maxScenarioExecutionsConfiguration, "maxScenarioExecutions");
         Integer maxCampaignExecutions = validateConfigurationLimit(maxCampaignExecutionsConfiguration, "maxCampaignExecutions");
 
-        this.scenarioPurgeService = buildScenarioService(testCaseRepository, executionsRepository, maxScenarioExecutions);
+        if (scenarioExecutionsChunkSize > 0) {
+            this.scenarioPurgeService = new ScenarioExecutionsChunkedPurge(testCaseRepository, executionsRepository, maxScenarioExecutions, scenarioExecutionsChunkSize, requireNonNull(metrics))::purgeExecutions;
+        } else {
+            this.scenarioPurgeService = buildScenarioService(testCaseRepository, executionsRepository, maxScenarioExecutions)::purgeExecutions;
+        }
         this.campaignPurgeService = buildCampaignService(campaignRepository, campaignExecutionRepository, maxCampaignExecutions);
+        this.attachmentsPurgeService = requireNonNull(attachmentsPurgeService);
     }
 
     private static Integer validateConfigurationLimit(Integer configurationLimit, String configName) {
@@ -137,11 +166,80 @@ public class PurgeServiceImpl implements PurgeService {
     @Override
     public PurgeReport purge() {
         Set<Long> purgedCampaignsExecutionsIds = campaignPurgeService.purgeExecutions();
-        Set<Long> purgedScenariosExecutionsIds = scenarioPurgeService.purgeExecutions();
-        LOGGER.info("Purge report : {} scenarios' executions deleted - {} campaigns' executions deleted", purgedScenariosExecutionsIds.size(), purgedCampaignsExecutionsIds.size());
+        Set<Long> purgedScenariosExecutionsIds = scenarioPurgeService.get();
+        int purgedAttachments = purgedScenariosExecutionsIds.isEmpty() ? 0 : purgeAttachments();
+        LOGGER.info("Purge report : {} scenarios' executions deleted - {} campaigns' executions deleted - {} attachments deleted", purgedScenariosExecutionsIds.size(), purgedCampaignsExecutionsIds.size(), purgedAttachments);
         return new PurgeReport(purgedScenariosExecutionsIds, purgedCampaignsExecutionsIds);
     }
 
+    private int purgeAttachments() {
+        try {
+            return attachmentsPurgeService.getAsInt();
+        } catch (Exception e) {
+            LOGGER.error("Cannot purge attachments", e);
+            return 0;
+        }
+    }
+
+    /**
+     * Chunked purge of scenarios' executions, not run from a campaign.
+     * <p>Executions to delete are selected once for each scenario by the repository, keeping the last success execution,
+     * then deleted chunk by chunk so that neither all executions nor all ids to delete are loaded at once.</p>
+     * <p>Executions of unknown scenarios are kept, as in {@link PurgeExecutionService}.</p>
+     *
+     * @see ExecutionHistoryRepository#findExecutionsToPurge(String, int)
+     */
+    private static class ScenarioExecutionsChunkedPurge {
+        private final TestCaseRepository testCaseRepository;
+        private final ExecutionHistoryRepository executionsRepository;
+        private final int maxExecutionsToKeep;
+        private final int chunkSize;
+        private final ChutneyMetrics metrics;
+
+        private ScenarioExecutionsChunkedPurge(
+            TestCaseRepository testCaseRepository,
+            ExecutionHistoryRepository executionsRepository,
+            int maxExecutionsToKeep,
+            int chunkSize,
+            ChutneyMetrics metrics
+        ) {
+            this.testCaseRepository = testCaseRepository;
+            this.executionsRepository = executionsRepository;
+            this.maxExecutionsToKeep = maxExecutionsToKeep;
+            this.chunkSize = chunkSize;
+            this.metrics = metrics;
+        }
+
+        Set<Long> purgeExecutions() {
+            Set<Long> deletedExecutionsIds = new HashSet<>();
+            Set<Long> executionsIdsToDelete = new HashSet<>();
+            for (TestCaseMetadata scenario : testCaseRepository.findAll()) {
+                for (Long executionId : executionsRepository.findExecutionsToPurge(scenario.id(), maxExecutionsToKeep)) {
+                    executionsIdsToDelete.add(executionId);
+                    if (executionsIdsToDelete.size() == chunkSize) {
+                        deleteChunk(executionsIdsToDelete, deletedExecutionsIds);
+                    }
+                }
+            }
+            if (!executionsIdsToDelete.isEmpty()) {
+                deleteChunk(executionsIdsToDelete, deletedExecutionsIds);
+            }
+            return deletedExecutionsIds;
+        }
+
+        private void deleteChunk(Set<Long> executionsIdsToDelete, Set<Long> deletedExecutionsIds) {
+            try {
+                executionsRepository.deleteExecutions(Set.copyOf(executionsIdsToDelete));
+                deletedExecutionsIds.addAll(executionsIdsToDelete);
+                metrics.onScenarioExecutionsPurged(executionsIdsToDelete.size());
+            } catch (Exception e) {
+                LOGGER.error("Cannot purge executions {}", executionsIdsToDelete, e);
+            }
+            executionsIdsToDelete.clear();
+            LOGGER.debug("Purge progress : {} scenarios' executions deleted", deletedExecutionsIds.size());
+        }
+    }
+
     /**
      * Core logic to purge executions.
      *
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.execution.domain.attachment;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Swap base64 data URIs found in steps' information and errors (i.e. <i>data:image/png;base64,...</i>)
+ * for references to attachments (i.e. <i>attachment:image/png;sha256,...</i>), and back.
+ */
+public final class AttachmentReferences {
+
+    public static final String REFERENCE_PREFIX = "attachment:";
+
+    private static final Pattern DATA_URI = Pattern.compile("^data:([\\w.+-]+/[\\w.+-]+);base64,");
+    private static final Pattern REFERENCE = Pattern.compile("^" + REFERENCE_PREFIX + "([\\w.+-]+/[\\w.+-]+);sha256,([0-9a-f]{64})$");
+    private static final Pattern REFERENCE_IN_TEXT = Pattern.compile(REFERENCE_PREFIX + "[\\w.+-]+/[\\w.+-]+;sha256,([0-9a-f]{64})");
+
+    private AttachmentReferences() {
+    }
+
+    public static List<String> toReferences(List<String> values, AttachmentRepository attachmentRepository) {
+        return values.stream().map(v -> toReference(v, attachmentRepository)).toList();
+    }
+
+    /**
+     * @return the reference to the stored attachment when the value is a base64 data URI, the value itself otherwise
+     */
+    public static String toReference(String value, AttachmentRepository attachmentRepository) {
+        if (value == null) {
+            return null;
+        }
+        Matcher matcher = DATA_URI.matcher(value);
+        if (!matcher.find()) {
+            return value;
+        }
+        byte[] content;
+        try {
+            content = Base64.getDecoder().decode(value.substring(matcher.end()).replaceAll("\\s", ""));
+        } catch (IllegalArgumentException e) {
+            return value;
+        }
+        return REFERENCE_PREFIX + matcher.group(1) + ";sha256," + attachmentRepository.save(content);
+    }
+
+    public static List<String> toDataUris(List<String> values, AttachmentRepository attachmentRepository) {
+        return values.stream().map(v -> toDataUri(v, attachmentRepository)).toList();
+    }
+
+    /**
+     * @return the base64 data URI of the referenced attachment, the value itself when it is not a reference or the attachment is missing
+     */
+    public static String toDataUri(String value, AttachmentRepository attachmentRepository) {
+        if (value == null) {
+            return null;
+        }
+        Matcher matcher = REFERENCE.matcher(value);
+        if (!matcher.matches()) {
+            return value;
+        }
+        try (InputStream content = attachmentRepository.read(matcher.group(2))) {
+            return "data:" + matcher.group(1) + ";base64," + Base64.getEncoder().encodeToString(content.readAllBytes());
+        } catch (AttachmentNotFoundException e) {
+            return value;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Add the ids of the attachments referenced anywhere in the text, like a serialized report, to the given ones.
+     */
+    public static void collectAttachmentsIds(String text, Set<String> attachmentsIds) {
+        if (text == null) {
+            return;
+        }
+        Matcher matcher = REFERENCE_IN_TEXT.matcher(text);
+        while (matcher.find()) {
+            attachmentsIds.add(matcher.group(1));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.execution.domain.attachment;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Content-addressed store of executions' attachments, like screenshots.
+ */
+public interface AttachmentRepository {
+
+    /**
+     * Store the content, once whatever the number of calls.
+     *
+     * @return the attachment id, hexadecimal SHA-256 digest of the content
+     */
+    String save(byte[] content);
+
+    /**
+     * @throws AttachmentNotFoundException when no attachment has this id
+     */
+    InputStream read(String attachmentId);
+
+    /**
+     * Delete the attachments which are neither in the given ids, nor saved since the given instant.<br>
+     * Saving an already stored content counts as saving it again.
+     *
+     * @return the number of deleted attachments
+     */
+    int deleteAllExcept(Set<String> keptAttachmentsIds, Instant savedSince);
+}
@@ -16,14 +16,16 @@
 
 package com.chutneytesting.execution.domain.campaign;
 
-import static java.util.Collections.singleton;
+import static java.util.Comparator.comparingLong;
 import static java.util.Optional.ofNullable;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 import com.chutneytesting.campaign.domain.CampaignExecutionRepository;
 import com.chutneytesting.campaign.domain.CampaignNotFoundException;
 import com.chutneytesting.campaign.domain.CampaignRepository;
 import com.chutneytesting.dataset.domain.DataSetRepository;
+import com.chutneytesting.execution.domain.attachment.AttachmentRepository;
 import com.chutneytesting.jira.api.JiraXrayEmbeddedApi;
 import com.chutneytesting.server.core.domain.dataset.DataSet;
 import com.chutneytesting.server.core.domain.dataset.DataSetHistoryRepository;
@@ -31,6 +33,7 @@ import com.chutneytesting.server.core.domain.execution.ExecutionRequest;
 import com.chutneytesting.server.core.domain.execution.FailedExecutionAttempt;
 import com.chutneytesting.server.core.domain.execution.ScenarioExecutionEngine;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory;
+import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory.ExecutionSummary;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistoryRepository;
 import com.chutneytesting.server.core.domain.execution.report.ScenarioExecutionReport;
 import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
@@ -44,16 +47,16 @@ import com.chutneytesting.server.core.domain.scenario.campaign.CampaignExecution
 import com.chutneytesting.server.core.domain.scenario.campaign.ScenarioExecutionCampaign;
 import com.chutneytesting.tools.Try;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.collect.Lists;
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -62,10 +65,15 @@ import org.slf4j.LoggerFactory;
 /**
  * Load campaigns with {@link CampaignRepository}
  * Run each scenario with @{@link ScenarioExecutionEngine}
+ * <br>
+ * Parallel campaigns run at most maxParallelism scenarios at the same time, longest ones first according to their last execution.
+ * Scenarios of all campaigns executed on the same environment are limited to maxConcurrentScenariosPerEnvironment at the same time.
+ * A limit lower than 1 means no limit.
  */
 public class CampaignExecutionEngine {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(Campaign.class);
+    private static final long STOP_REQUEST_POLL_INTERVAL_MS = 500;
 
     private final ExecutorService executor;
     private final CampaignRepository campaignRepository;
@@ -77,9 +85,13 @@ public class CampaignExecutionEngine {
     private final JiraXrayEmbeddedApi jiraXrayEmbeddedApi;
     private final ChutneyMetrics metrics;
     private final DataSetRepository datasetRepository;
+    private final int maxParallelism;
+    private final int maxConcurrentScenariosPerEnvironment;
+    private final Map<String, Semaphore> environmentsLimits = new ConcurrentHashMap<>();
 
     private final Map<Long, Boolean> currentCampaignExecutionsStopRequests = new ConcurrentHashMap<>();
     private final ObjectMapper objectMapper;
+    private final Optional<AttachmentRepository> attachmentRepository;
 
     public CampaignExecutionEngine(CampaignRepository campaignRepository,
                                    CampaignExecutionRepository campaignExecutionRepository,
@@ -91,6 +103,22 @@ public class CampaignExecutionEngine {
                                    ChutneyMetrics metrics,
                                    ExecutorService executorService,
                                    DataSetRepository datasetRepository, ObjectMapper objectMapper) {
+        this(campaignRepository, campaignExecutionRepository, scenarioExecutionEngine, executionHistoryRepository, testCaseRepository, dataSetHistoryRepository, jiraXrayEmbeddedApi, metrics, executorService, datasetRepository, objectMapper, 0, 0, Optional.empty());
+    }
+
+    public CampaignExecutionEngine(CampaignRepository campaignRepository,
+                                   CampaignExecutionRepository campaignExecutionRepository,
+                                   ScenarioExecutionEngine scenarioExecutionEngine,
+                                   ExecutionHistoryRepository executionHistoryRepository,
+                                   TestCaseRepository testCaseRepository,
+                                   Optional<DataSetHistoryRepository> dataSetHistoryRepository,
+                                   JiraXrayEmbeddedApi jiraXrayEmbeddedApi,
+                                   ChutneyMetrics metrics,
+                                   ExecutorService executorService,
+                                   DataSetRepository datasetRepository, ObjectMapper objectMapper,
+                                   int maxParallelism,
+                                   int maxConcurrentScenariosPerEnvironment,
+                                   Optional<AttachmentRepository> attachmentRepository) {
         this.campaignRepository = campaignRepository;
         this.campaignExecutionRepository = campaignExecutionRepository;
         this.scenarioExecutionEngine = scenarioExecutionEngine;
@@ -102,6 +130,9 @@ public class CampaignExecutionEngine {
         this.executor = executorService;
         this.datasetRepository = datasetRepository;
         this.objectMapper = objectMapper;
+        this.maxParallelism = maxParallelism;
+        this.maxConcurrentScenariosPerEnvironment = maxConcurrentScenariosPerEnvironment;
+        this.attachmentRepository = attachmentRepository;
     }
 
     public CampaignExecution getLastCampaignExecution(Long campaignId) {
@@ -200,14 +231,19 @@ public class CampaignExecutionEngine {
         campaignExecution.initExecution(testCases, campaign.executionEnvironment(), campaignExecution.userId);
         try {
             if (campaign.parallelRun) {
-                Collection<Callable<Object>> toExecute = Lists.newArrayList();
-                for (TestCase t : testCases) {
-                    toExecute.add(Executors.callable(() -> executeScenarioInCampaign(campaign, campaignExecution).accept(t)));
+                Semaphore campaignLimit = new Semaphore(maxParallelism > 0 ? maxParallelism : Math.max(testCases.size(), 1));
+                List<Future<?>> executions = new ArrayList<>(testCases.size());
+                for (TestCase t : longestFirst(testCases)) {
+                    // Once stopped, remaining scenarios are only reported as not executed, without waiting for a permit
+                    boolean permitted = acquireUnlessStopped(campaignLimit, campaignExecution);
+                    executions.add(submitScenarioInCampaign(campaign, campaignExecution, t, permitted ? campaignLimit::release : () -> {}));
+                }
+                for (Future<?> execution : executions) {
+                    execution.get();
                 }
-                executor.invokeAll(toExecute);
             } else {
                 for (TestCase t : testCases) {
-                    executor.invokeAll(singleton(Executors.callable(() -> executeScenarioInCampaign(campaign, campaignExecution).accept(t))));
+                    submitScenarioInCampaign(campaign, campaignExecution, t, () -> {}).get();
                 }
             }
         } catch (InterruptedException e) {
@@ -218,6 +254,84 @@ public class CampaignExecutionEngine {
         return campaignExecution;
     }
 
+    /**
+     * Takes the permit of the campaign environment before submitting the scenario, so that executor workers never wait for it
+     * and scenarios of other environments keep running.<br>
+     * When the campaign is stopped while waiting for the permit, the scenario is reported as not executed on the calling thread.
+     */
+    private Future<?> submitScenarioInCampaign(Campaign campaign, CampaignExecution campaignExecution, TestCase testCase, Runnable onEnd) throws InterruptedException {
+        Optional<Semaphore> environmentLimit = environmentLimit(campaign.executionEnvironment());
+        boolean permitted;
+        try {
+            permitted = environmentLimit.isEmpty() || acquireUnlessStopped(environmentLimit.get(), campaignExecution);
+        } catch (InterruptedException e) {
+            onEnd.run();
+            throw e;
+        }
+        if (!permitted) {
+            try {
+                runScenarioInCampaign(campaign, campaignExecution, testCase);
+            } finally {
+                onEnd.run();
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+
+        Runnable release = () -> {
+            environmentLimit.ifPresent(Semaphore::release);
+            onEnd.run();
+        };
+        try {
+            return executor.submit(() -> {
+                try {
+                    runScenarioInCampaign(campaign, campaignExecution, testCase);
+                } finally {
+                    release.run();
+                }
+            });
+        } catch (RuntimeException e) {
+            release.run();
+            throw e;
+        }
+    }
+
+    private void runScenarioInCampaign(Campaign campaign, CampaignExecution campaignExecution, TestCase testCase) {
+        try {
+            executeScenarioInCampaign(campaign, campaignExecution).accept(testCase);
+        } catch (Exception e) {
+            LOGGER.error("Unexpected error for scenario {} for campaign {}", testCase.id(), campaign.id, e);
+        }
+    }
+
+    /**
+     * Waits for a permit, checking every {@value #STOP_REQUEST_POLL_INTERVAL_MS} ms that the campaign execution is not stopped.
+     *
+     * @return true if the permit has been acquired and must be released, false if the campaign execution has been stopped meanwhile
+     */
+    private boolean acquireUnlessStopped(Semaphore permits, CampaignExecution campaignExecution) throws InterruptedException {
+        while (!permits.tryAcquire(STOP_REQUEST_POLL_INTERVAL_MS, MILLISECONDS)) {
+            if (Boolean.TRUE.equals(currentCampaignExecutionsStopRequests.get(campaignExecution.executionId))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Order test cases by decreasing duration of their last execution, never executed ones first.
+     */
+    private List<TestCase> longestFirst(List<TestCase> testCases) {
+        try {
+            Map<String, ExecutionSummary> lastExecutions = executionHistoryRepository.getLastExecutions(testCases.stream().map(TestCase::id).toList());
+            return testCases.stream()
+                .sorted(comparingLong((TestCase testCase) -> ofNullable(lastExecutions.get(testCase.id())).map(ExecutionSummary::duration).orElse(Long.MAX_VALUE)).reversed())
+                .toList();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Cannot order scenarios by last execution duration, keep campaign order", e);
+            return testCases;
+        }
+    }
+
     private Consumer<TestCase> executeScenarioInCampaign(Campaign campaign, CampaignExecution campaignExecution) {
         return testCase -> {
             ScenarioExecutionCampaign scenarioExecution;
@@ -238,13 +352,22 @@ public class CampaignExecutionEngine {
             ofNullable(scenarioExecution)
                 .ifPresent(serc -> {
                     campaignExecution.endScenarioExecution(serc);
-                    // update xray test
-                    ExecutionHistory.Execution execution = executionHistoryRepository.getExecution(serc.scenarioId, serc.execution.executionId());
-                    jiraXrayEmbeddedApi.updateTestExecution(campaign.id, campaignExecution.executionId, serc.scenarioId, JiraReportMapper.from(execution.report(), objectMapper));
+                    // update xray test in background
+                    jiraXrayEmbeddedApi.publishTestExecution(campaign.id, campaignExecution.executionId, serc.scenarioId, () -> {
+                        ExecutionHistory.Execution execution = executionHistoryRepository.getExecution(serc.scenarioId, serc.execution.executionId());
+                        return JiraReportMapper.from(execution.report(), objectMapper, attachmentRepository);
+                    });
                 });
         };
     }
 
+    private Optional<Semaphore> environmentLimit(String environment) {
+        if (maxConcurrentScenariosPerEnvironment < 1 || environment == null) {
+            return Optional.empty();
+        }
+        return Optional.of(environmentsLimits.computeIfAbsent(environment, e -> new Semaphore(maxConcurrentScenariosPerEnvironment, true)));
+    }
+
     private ScenarioExecutionCampaign generateNotExecutedScenarioExecutionAndReport(Campaign campaign, TestCase testCase, CampaignExecution campaignExecution) {
         ExecutionRequest executionRequest = buildExecutionRequest(campaign, testCase, campaignExecution);
         ExecutionHistory.Execution execution = scenarioExecutionEngine.saveNotExecutedScenarioExecution(executionRequest);
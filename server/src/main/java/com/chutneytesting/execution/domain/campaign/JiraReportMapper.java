@@ -16,11 +16,15 @@
 
 package com.chutneytesting.execution.domain.campaign;
 
+import com.chutneytesting.execution.domain.attachment.AttachmentReferences;
+import com.chutneytesting.execution.domain.attachment.AttachmentRepository;
 import com.chutneytesting.jira.api.ReportForJira;
 import com.chutneytesting.server.core.domain.execution.report.ScenarioExecutionReport;
 import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportCore;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,7 +33,10 @@ public class JiraReportMapper {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JiraReportMapper.class);
 
-    public static ReportForJira from(String stringReport, ObjectMapper objectMapper) {
+    /**
+     * @param attachmentRepository used to inline referenced attachments, i.e. screenshots, as Jira evidences
+     */
+    public static ReportForJira from(String stringReport, ObjectMapper objectMapper, Optional<AttachmentRepository> attachmentRepository) {
         try {
             ScenarioExecutionReport scenarioReport = objectMapper.readValue(stringReport, ScenarioExecutionReport.class);
 
@@ -37,7 +44,7 @@ public class JiraReportMapper {
                 scenarioReport.report.startDate,
                 scenarioReport.report.duration,
                 scenarioReport.report.status.name(),
-                createStep(scenarioReport.report),
+                createStep(scenarioReport.report, attachmentRepository),
                 scenarioReport.environment);
 
         } catch (IOException e) {
@@ -46,8 +53,11 @@ public class JiraReportMapper {
         }
     }
 
-    private static ReportForJira.Step createStep(StepExecutionReportCore coreStep) {
-        return new ReportForJira.Step(coreStep.name, coreStep.errors, coreStep.steps.stream().map(JiraReportMapper::createStep).collect(Collectors.toList()));
+    private static ReportForJira.Step createStep(StepExecutionReportCore coreStep, Optional<AttachmentRepository> attachmentRepository) {
+        List<String> errors = attachmentRepository
+            .map(repository -> AttachmentReferences.toDataUris(coreStep.errors, repository))
+            .orElse(coreStep.errors);
+        return new ReportForJira.Step(coreStep.name, errors, coreStep.steps.stream().map(s -> createStep(s, attachmentRepository)).collect(Collectors.toList()));
     }
 
 }
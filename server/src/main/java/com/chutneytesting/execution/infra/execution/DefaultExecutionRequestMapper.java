@@ -40,8 +40,12 @@ import com.chutneytesting.scenario.domain.raw.RawTestCase;
 import com.chutneytesting.server.core.domain.execution.ExecutionRequest;
 import com.chutneytesting.server.core.domain.execution.ScenarioConversionException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.hjson.JsonValue;
 import org.springframework.stereotype.Component;
@@ -49,9 +53,15 @@ import org.springframework.stereotype.Component;
 @Component
 public class DefaultExecutionRequestMapper implements ExecutionRequestMapper {
 
+    private static final long PARSED_SCENARIOS_CACHE_MAXIMUM_SIZE = 500;
+
     private final ObjectMapper objectMapper;
     private final EnvironmentApi environmentApi;
     private final CurrentNetworkDescription currentNetworkDescription;
+    // Raw scenarios are keyed by their content, once dataset and global variables have been replaced
+    private final Cache<String, UnmarshalledStepDefinition> parsedScenarios = CacheBuilder.newBuilder()
+        .maximumSize(PARSED_SCENARIOS_CACHE_MAXIMUM_SIZE)
+        .build();
 
     public DefaultExecutionRequestMapper(ObjectMapper objectMapper, EmbeddedEnvironmentApi environmentApi, CurrentNetworkDescription currentNetworkDescription) {
         this.objectMapper = objectMapper; // TODO - Choose explicitly which mapper to use
@@ -80,26 +90,30 @@ public class DefaultExecutionRequestMapper implements ExecutionRequestMapper {
 
     private StepDefinitionRequestDto convertRaw(ExecutionRequest executionRequest) {
         RawTestCase rawTestCase = (RawTestCase) executionRequest.testCase;
-        try {
-            ScenarioContent scenarioContent = objectMapper.readValue(JsonValue.readHjson(rawTestCase.scenario).toString(), ScenarioContent.class);
-            return getStepDefinitionRequestFromStepDef(scenarioContent.scenario, executionRequest.environment);
-        } catch (IOException e) {
-            throw new ScenarioConversionException(rawTestCase.metadata().id(), e);
+        UnmarshalledStepDefinition definition = parsedScenarios.getIfPresent(rawTestCase.scenario);
+        if (definition == null) {
+            try {
+                definition = objectMapper.readValue(JsonValue.readHjson(rawTestCase.scenario).toString(), ScenarioContent.class).scenario;
+            } catch (IOException e) {
+                throw new ScenarioConversionException(rawTestCase.metadata().id(), e);
+            }
+            parsedScenarios.put(rawTestCase.scenario, definition);
         }
+        return getStepDefinitionRequestFromStepDef(definition, new ExecutionTargets(executionRequest.environment));
     }
 
-    private StepDefinitionRequestDto getStepDefinitionRequestFromStepDef(UnmarshalledStepDefinition definition, String env) {
+    private StepDefinitionRequestDto getStepDefinitionRequestFromStepDef(UnmarshalledStepDefinition definition, ExecutionTargets targets) {
         final ExecutionRequestDto.StepStrategyDefinitionRequestDto retryStrategy = ofNullable(definition.strategy)
             .map(s -> new ExecutionRequestDto.StepStrategyDefinitionRequestDto(s.type, s.parameters))
             .orElse(null);
 
         List<StepDefinitionRequestDto> steps = definition.steps.stream()
-            .map(d -> getStepDefinitionRequestFromStepDef(d, env))
+            .map(d -> getStepDefinitionRequestFromStepDef(d, targets))
             .collect(toList());
 
         return new StepDefinitionRequestDto(
             definition.name,
-            toExecutionTargetDto(getTargetForExecution(env, definition.target), env),
+            targets.get(definition.target),
             retryStrategy,
             definition.type,
             definition.inputs,
@@ -116,26 +130,26 @@ public class DefaultExecutionRequestMapper implements ExecutionRequestMapper {
             null,
             null,
             emptyMap(),
-            convert(gwtTestCase.scenario.steps(), executionRequest.environment),
+            convert(gwtTestCase.scenario.steps(), new ExecutionTargets(executionRequest.environment)),
             emptyMap(),
             emptyMap()
         );
     }
 
-    private List<StepDefinitionRequestDto> convert(List<GwtStep> steps, String env) {
+    private List<StepDefinitionRequestDto> convert(List<GwtStep> steps, ExecutionTargets targets) {
         return steps.stream()
-            .map(s -> convert(s, env))
+            .map(s -> convert(s, targets))
             .collect(toList());
     }
 
-    private StepDefinitionRequestDto convert(GwtStep step, String env) {
+    private StepDefinitionRequestDto convert(GwtStep step, ExecutionTargets targets) {
         return new StepDefinitionRequestDto(
             step.description,
-            step.implementation.map(i -> toExecutionTargetDto(getTargetForExecution(env, i.target), env)).orElse(toExecutionTargetDto(NO_TARGET_DTO, env)),
+            targets.get(step.implementation.map(i -> i.target).orElse(null)),
             step.strategy.map(this::mapStrategy).orElse(null),
             step.implementation.map(i -> i.type).orElse(""),
             step.implementation.map(i -> i.inputs).orElse(emptyMap()),
-            convert(step.subSteps, env),
+            convert(step.subSteps, targets),
             step.implementation.map(i -> i.outputs).orElse(emptyMap()),
             step.implementation.map(i -> i.validations).orElse(emptyMap())
         );
@@ -167,6 +181,24 @@ public class DefaultExecutionRequestMapper implements ExecutionRequestMapper {
         return environmentApi.getTarget(environmentName, targetName);
     }
 
+    /**
+     * Targets of one execution, each one resolved once whatever the number of steps using it.
+     */
+    private class ExecutionTargets {
+
+        private final String environment;
+        private final Map<String, TargetExecutionDto> targets = new HashMap<>();
+
+        private ExecutionTargets(String environment) {
+            this.environment = environment;
+        }
+
+        private TargetExecutionDto get(String targetName) {
+            String key = isBlank(targetName) ? "" : targetName;
+            return targets.computeIfAbsent(key, name -> toExecutionTargetDto(getTargetForExecution(environment, name), environment));
+        }
+    }
+
     private List<NamedHostAndPort> getAgents(TargetDto targetDto, String env) {
         List<NamedHostAndPort> nhaps = emptyList();
         Optional<NetworkDescription> networkDescription = currentNetworkDescription.findCurrent();
@@ -19,9 +19,11 @@ package com.chutneytesting.execution.infra.execution;
 import com.chutneytesting.engine.api.execution.ExecutionRequestDto;
 import com.chutneytesting.engine.api.execution.StepExecutionReportDto;
 import com.chutneytesting.engine.api.execution.TestEngine;
+import com.chutneytesting.execution.domain.attachment.AttachmentRepository;
 import com.chutneytesting.server.core.domain.execution.ExecutionRequest;
 import com.chutneytesting.server.core.domain.execution.ServerTestEngine;
 import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportCore;
+import com.chutneytesting.tools.IncrementalTreeMapper;
 import io.reactivex.rxjava3.core.Observable;
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -29,18 +31,21 @@ public class ServerTestEngineJavaImpl implements ServerTestEngine {
 
     private final TestEngine executionEngine;
     private final ExecutionRequestMapper executionRequestMapper;
+    private final AttachmentRepository attachmentRepository;
 
     public ServerTestEngineJavaImpl(TestEngine executionEngine,
-                                    ExecutionRequestMapper executionRequestMapper) {
+                                    ExecutionRequestMapper executionRequestMapper,
+                                    AttachmentRepository attachmentRepository) {
         this.executionEngine = executionEngine;
         this.executionRequestMapper = executionRequestMapper;
+        this.attachmentRepository = attachmentRepository;
     }
 
     @Override
     public StepExecutionReportCore execute(ExecutionRequest executionRequest) {
         ExecutionRequestDto executionRequestDto = executionRequestMapper.toDto(executionRequest);
         StepExecutionReportDto stepExecutionReportDto = executionEngine.execute(executionRequestDto);
-        return StepExecutionReportMapperCore.fromDto(stepExecutionReportDto);
+        return StepExecutionReportMapperCore.fromDto(stepExecutionReportDto, attachmentRepository);
     }
 
     @Override
@@ -48,7 +53,10 @@ public class ServerTestEngineJavaImpl implements ServerTestEngine {
         ExecutionRequestDto executionRequestDto = executionRequestMapper.toDto(executionRequest);
         Long executionId = executionEngine.executeAsync(executionRequestDto);
         return Pair.of(
-            executionEngine.receiveNotification(executionId).map(StepExecutionReportMapperCore::fromDto),
+            Observable.defer(() -> {
+                IncrementalTreeMapper<StepExecutionReportDto, StepExecutionReportCore> mapper = StepExecutionReportMapperCore.incrementalMapper(attachmentRepository);
+                return executionEngine.receiveNotification(executionId).map(mapper::map);
+            }),
             executionId
         );
     }
@@ -16,13 +16,17 @@
 
 package com.chutneytesting.execution.infra.execution;
 
+import static com.chutneytesting.execution.domain.attachment.AttachmentReferences.toReferences;
 import static java.util.Collections.EMPTY_MAP;
 
 import com.chutneytesting.engine.api.execution.StatusDto;
 import com.chutneytesting.engine.api.execution.StepExecutionReportDto;
+import com.chutneytesting.execution.domain.attachment.AttachmentRepository;
 import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
 import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportCore;
 import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportCoreBuilder;
+import com.chutneytesting.tools.IncrementalTreeMapper;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 class StepExecutionReportMapperCore {
@@ -30,15 +34,29 @@ class StepExecutionReportMapperCore {
     private StepExecutionReportMapperCore() {
     }
 
-    static StepExecutionReportCore fromDto(StepExecutionReportDto reportDto) {
+    /**
+     * Base64 data URIs of steps' information and errors are stored as attachments and replaced by their references.
+     */
+    static StepExecutionReportCore fromDto(StepExecutionReportDto reportDto, AttachmentRepository attachmentRepository) {
+        return fromDto(reportDto, attachmentRepository, dto -> fromDto(dto, attachmentRepository));
+    }
+
+    /**
+     * Mapper for successive reports of one execution, reusing mapping of unchanged sub reports.
+     */
+    static IncrementalTreeMapper<StepExecutionReportDto, StepExecutionReportCore> incrementalMapper(AttachmentRepository attachmentRepository) {
+        return new IncrementalTreeMapper<>((dto, subReportMapper) -> fromDto(dto, attachmentRepository, subReportMapper), reportDto -> reportDto.steps, report -> report.steps);
+    }
+
+    private static StepExecutionReportCore fromDto(StepExecutionReportDto reportDto, AttachmentRepository attachmentRepository, Function<StepExecutionReportDto, StepExecutionReportCore> subReportMapper) {
         return new StepExecutionReportCoreBuilder()
             .setName(reportDto.name)
             .setDuration(reportDto.duration)
             .setStartDate(reportDto.startDate)
             .setStatus(ReportStatusMapper.fromDto(reportDto.status))
-            .setInformation(reportDto.information)
-            .setErrors(reportDto.errors)
-            .setSteps(reportDto.steps.stream().map(StepExecutionReportMapperCore::fromDto).collect(Collectors.toList()))
+            .setInformation(toReferences(reportDto.information, attachmentRepository))
+            .setErrors(toReferences(reportDto.errors, attachmentRepository))
+            .setSteps(reportDto.steps.stream().map(subReportMapper).collect(Collectors.toList()))
             .setEvaluatedInputs(reportDto.context != null ? reportDto.context.evaluatedInputs : EMPTY_MAP)
             .setStepOutputs(reportDto.context != null ? reportDto.context.stepResults : EMPTY_MAP)
             .setType(reportDto.type)
@@ -16,15 +16,22 @@
 
 package com.chutneytesting.execution.infra.storage;
 
+import static com.chutneytesting.ServerConfigurationValues.EXECUTION_REPORT_CODEC_SPRING_VALUE;
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.function.Function.identity;
 import static java.util.Optional.ofNullable;
 
 import com.chutneytesting.campaign.infra.CampaignExecutionJpaRepository;
 import com.chutneytesting.campaign.infra.CampaignJpaRepository;
+import com.chutneytesting.campaign.infra.jpa.CampaignEntity;
 import com.chutneytesting.campaign.infra.jpa.CampaignExecutionEntity;
+import com.chutneytesting.execution.infra.storage.jpa.ReportCodec;
 import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionEntity;
 import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionReportEntity;
+import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionStepReportEntity;
+import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionSummary;
 import com.chutneytesting.scenario.infra.raw.ScenarioJpaRepository;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory.DetachedExecution;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory.Execution;
@@ -35,19 +42,30 @@ import com.chutneytesting.server.core.domain.execution.report.ReportNotFoundExce
 import com.chutneytesting.server.core.domain.execution.report.ScenarioExecutionReport;
 import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
 import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportCore;
+import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportPart;
 import com.chutneytesting.server.core.domain.scenario.TestCaseRepository;
 import com.chutneytesting.server.core.domain.scenario.campaign.CampaignExecution;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.Tuple;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -57,26 +75,32 @@ class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
 
     private final DatabaseExecutionJpaRepository scenarioExecutionsJpaRepository;
     private final ScenarioExecutionReportJpaRepository scenarioExecutionReportJpaRepository;
+    private final ScenarioExecutionStepReportJpaRepository scenarioExecutionStepReportJpaRepository;
     private final CampaignJpaRepository campaignJpaRepository;
     private final CampaignExecutionJpaRepository campaignExecutionJpaRepository;
     private final TestCaseRepository testCaseRepository;
     private final ObjectMapper objectMapper;
+    private final ReportCodec reportCodec;
     private static final Logger LOGGER = LoggerFactory.getLogger(DatabaseExecutionHistoryRepository.class);
 
 
     DatabaseExecutionHistoryRepository(
         DatabaseExecutionJpaRepository scenarioExecutionsJpaRepository,
         ScenarioExecutionReportJpaRepository scenarioExecutionReportJpaRepository,
+        ScenarioExecutionStepReportJpaRepository scenarioExecutionStepReportJpaRepository,
         ScenarioJpaRepository scenarioJpaRepository,
         CampaignJpaRepository campaignJpaRepository, TestCaseRepository testCaseRepository,
         CampaignExecutionJpaRepository campaignExecutionJpaRepository,
-        @Qualifier("reportObjectMapper") ObjectMapper objectMapper) {
+        @Qualifier("reportObjectMapper") ObjectMapper objectMapper,
+        @Value(EXECUTION_REPORT_CODEC_SPRING_VALUE) String reportCodec) {
         this.scenarioExecutionsJpaRepository = scenarioExecutionsJpaRepository;
         this.scenarioExecutionReportJpaRepository = scenarioExecutionReportJpaRepository;
+        this.scenarioExecutionStepReportJpaRepository = scenarioExecutionStepReportJpaRepository;
         this.campaignJpaRepository = campaignJpaRepository;
         this.testCaseRepository = testCaseRepository;
         this.campaignExecutionJpaRepository = campaignExecutionJpaRepository;
         this.objectMapper = objectMapper;
+        this.reportCodec = ReportCodec.fromConfiguration(reportCodec);
     }
 
     @Override
@@ -97,18 +121,35 @@ class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
         if (invalidScenarioId(scenarioId)) {
             return emptyList();
         }
-        List<ScenarioExecutionEntity> scenarioExecutions = scenarioExecutionsJpaRepository.findByScenarioIdOrderByIdDesc(scenarioId);
-        return scenarioExecutions.stream()
-            .map(this::scenarioExecutionToExecutionSummary)
+        return scenarioExecutionsToExecutionSummaries(scenarioExecutionsJpaRepository.findByScenarioIdOrderByIdDesc(scenarioId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ExecutionSummary> getExecutions(String scenarioId, Long beforeExecutionId, int limit) {
+        if (invalidScenarioId(scenarioId)) {
+            return emptyList();
+        }
+        return scenarioExecutionsJpaRepository.findSummariesByScenarioIdBefore(scenarioId, ofNullable(beforeExecutionId).orElse(Long.MAX_VALUE), PageRequest.of(0, limit)).stream()
+            .map(ScenarioExecutionSummary::toDomain)
             .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachExecution(String scenarioId, Consumer<ExecutionSummary> consumer) {
+        if (invalidScenarioId(scenarioId)) {
+            return;
+        }
+        try (Stream<ScenarioExecutionSummary> summaries = scenarioExecutionsJpaRepository.streamSummariesByScenarioId(scenarioId)) {
+            summaries.map(ScenarioExecutionSummary::toDomain).forEach(consumer);
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<ExecutionSummary> getExecutions() {
-        return scenarioExecutionsJpaRepository.findAll().stream()
-            .map(this::scenarioExecutionToExecutionSummary)
-            .toList();
+        return scenarioExecutionsToExecutionSummaries(scenarioExecutionsJpaRepository.findAll());
     }
 
     @Override
@@ -128,6 +169,26 @@ class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
         return scenarioExecution.toDomain(campaignExecution);
     }
 
+    /**
+     * Load campaigns of all campaign executions at once, instead of once per scenario execution.
+     */
+    private List<ExecutionSummary> scenarioExecutionsToExecutionSummaries(List<ScenarioExecutionEntity> scenarioExecutions) {
+        Set<Long> campaignIds = scenarioExecutions.stream()
+            .map(ScenarioExecutionEntity::campaignExecution)
+            .filter(Objects::nonNull)
+            .map(CampaignExecutionEntity::campaignId)
+            .collect(Collectors.toSet());
+        Map<Long, CampaignEntity> campaigns = campaignIds.isEmpty() ? emptyMap() :
+            StreamSupport.stream(campaignJpaRepository.findAllById(campaignIds).spliterator(), false).collect(Collectors.toMap(CampaignEntity::id, identity()));
+        return scenarioExecutions.stream()
+            .map(scenarioExecution -> scenarioExecution.toDomain(
+                ofNullable(scenarioExecution.campaignExecution())
+                    .map(ce -> ce.toDomain(campaigns.get(ce.campaignId()), false, null))
+                    .orElse(null)
+            ))
+            .toList();
+    }
+
     @Override
     public Execution store(String scenarioId, DetachedExecution detachedExecution) throws IllegalStateException {
         if (invalidScenarioId(scenarioId)) {
@@ -139,7 +200,7 @@ class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
             scenarioExecution.forCampaignExecution(campaignExecution.get());
         }
         scenarioExecution = scenarioExecutionsJpaRepository.save(scenarioExecution);
-        scenarioExecutionReportJpaRepository.save(new ScenarioExecutionReportEntity(scenarioExecution, detachedExecution.report()));
+        scenarioExecutionReportJpaRepository.save(new ScenarioExecutionReportEntity(scenarioExecution, detachedExecution.report(), reportCodec));
         Execution execution = detachedExecution.attach(scenarioExecution.id());
         return ImmutableExecutionHistory.Execution.builder().from(execution).build();
     }
@@ -151,7 +212,7 @@ class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
         if (invalidScenarioId(scenarioId) || testCaseRepository.findById(scenarioId).isEmpty()) {
             throw new ReportNotFoundException(scenarioId, reportId);
         }
-        return scenarioExecutionReportJpaRepository.findById(reportId).map(ScenarioExecutionReportEntity::toDomain)
+        return scenarioExecutionReportJpaRepository.findById(reportId).map(this::toDomain)
             .orElseThrow(
                 () -> new ReportNotFoundException(scenarioId, reportId)
             );
@@ -166,20 +227,81 @@ class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
     }
 
     private void update(Execution updatedExecution) throws ReportNotFoundException {
+        updateSummary(updatedExecution);
+        updateReport(updatedExecution);
+        scenarioExecutionStepReportJpaRepository.deleteByScenarioExecutionIdIn(Set.of(updatedExecution.executionId()));
+    }
+
+    @Override
+    public void updateRunning(String scenarioId, Execution runningExecution, List<StepExecutionReportPart> changedSteps) throws ReportNotFoundException {
+        if (!scenarioExecutionsJpaRepository.existsById(runningExecution.executionId())) {
+            throw new ReportNotFoundException(scenarioId, runningExecution.executionId());
+        }
+        updateSummary(runningExecution);
+        scenarioExecutionStepReportJpaRepository.saveAll(
+            changedSteps.stream()
+                .map(part -> new ScenarioExecutionStepReportEntity(runningExecution.executionId(), part.path(), part.subStepsCount(), serialize(part.report())))
+                .toList()
+        );
+    }
+
+    private void updateSummary(Execution updatedExecution) throws ReportNotFoundException {
         ScenarioExecutionEntity execution = scenarioExecutionsJpaRepository.findById(updatedExecution.executionId()).orElseThrow(
             () -> new ReportNotFoundException(updatedExecution.executionId())
         );
 
         execution.updateFromExecution(updatedExecution);
         scenarioExecutionsJpaRepository.save(execution);
-        updateReport(updatedExecution);
+    }
+
+    private String serialize(StepExecutionReportCore stepReport) {
+        try {
+            return objectMapper.writeValueAsString(stepReport);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize step report " + stepReport.name, e);
+        }
+    }
+
+    /**
+     * Running executions have their report stored step by step, so assemble it back from the last stored steps reports if any.
+     */
+    private Execution toDomain(ScenarioExecutionReportEntity scenarioExecutionReport) {
+        Execution execution = scenarioExecutionReport.toDomain();
+        List<ScenarioExecutionStepReportEntity> stepsReports = scenarioExecutionStepReportJpaRepository.findLastByScenarioExecutionId(execution.executionId());
+        if (stepsReports.isEmpty()) {
+            return execution;
+        }
+
+        Map<String, StepExecutionReportPart> lastParts = new HashMap<>();
+        stepsReports.forEach(stepReport -> lastParts.put(stepReport.stepPath(), toPart(stepReport)));
+        return StepExecutionReportPart.assemble(lastParts)
+            .map(report -> new ScenarioExecutionReport(execution.executionId(), execution.testCaseTitle(), execution.environment(), execution.user(), report))
+            .map(this::serialize)
+            .map(report -> (Execution) ImmutableExecutionHistory.Execution.copyOf(execution).withReport(report))
+            .orElse(execution);
+    }
+
+    private StepExecutionReportPart toPart(ScenarioExecutionStepReportEntity stepReport) {
+        try {
+            return new StepExecutionReportPart(stepReport.stepPath(), stepReport.subSteps(), objectMapper.readValue(stepReport.report(), StepExecutionReportCore.class));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to deserialize step report " + stepReport.stepPath() + " of execution " + stepReport.scenarioExecutionId(), e);
+        }
+    }
+
+    private String serialize(ScenarioExecutionReport report) {
+        try {
+            return objectMapper.writeValueAsString(report);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize report of execution " + report.executionId, e);
+        }
     }
 
     private void updateReport(Execution execution) throws ReportNotFoundException {
         ScenarioExecutionReportEntity scenarioExecutionReport = scenarioExecutionReportJpaRepository.findById(execution.executionId()).orElseThrow(
             () -> new ReportNotFoundException(execution.executionId())
         );
-        scenarioExecutionReport.updateReport(execution);
+        scenarioExecutionReport.updateReport(execution, reportCodec);
         scenarioExecutionReportJpaRepository.save(scenarioExecutionReport);
     }
 
@@ -203,7 +325,32 @@ class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
     @Override
     public void deleteExecutions(Set<Long> executionsIds) {
         scenarioExecutionsJpaRepository.deleteAllByIdInBatch(executionsIds);
-        scenarioExecutionReportJpaRepository.deleteAllById(executionsIds);
+        scenarioExecutionReportJpaRepository.deleteByScenarioExecutionIdIn(executionsIds);
+        scenarioExecutionStepReportJpaRepository.deleteByScenarioExecutionIdIn(executionsIds);
+    }
+
+    /**
+     * Executions are read newest first and ranked by environment while streamed,
+     * so that only the executions of the scenario are read, using its index.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findExecutionsToPurge(String scenarioId, int maxExecutionsToKeep) {
+        Map<String, Integer> executionsCountByEnvironment = new HashMap<>();
+        Set<String> environmentsWithLastSuccess = new HashSet<>();
+        List<Long> executionsToPurge = new ArrayList<>();
+        try (Stream<Tuple> executions = scenarioExecutionsJpaRepository.streamExecutionsOutOfCampaignByScenarioId(scenarioId)) {
+            executions.forEach(execution -> {
+                String environment = execution.get("environment", String.class);
+                boolean lastSuccess = ServerReportStatus.SUCCESS.equals(execution.get("status")) && environmentsWithLastSuccess.add(environment);
+                int executionRank = executionsCountByEnvironment.merge(environment, 1, Integer::sum);
+                if (executionRank > maxExecutionsToKeep && !lastSuccess) {
+                    executionsToPurge.add(execution.get("id", Long.class));
+                }
+            });
+        }
+        Collections.sort(executionsToPurge);
+        return executionsToPurge;
     }
 
     private void updateExecutionsToKO(List<ExecutionSummary> executions) {
@@ -229,7 +376,7 @@ class DatabaseExecutionHistoryRepository implements ExecutionHistoryRepository {
     }
 
     private String stopRunningOrPausedReport(ExecutionSummary executionSummary) {
-        return scenarioExecutionReportJpaRepository.findById(executionSummary.executionId()).map(ScenarioExecutionReportEntity::toDomain).map(execution -> {
+        return scenarioExecutionReportJpaRepository.findById(executionSummary.executionId()).map(this::toDomain).map(execution -> {
             try {
                 ScenarioExecutionReport newScenarioExecutionReport = updateStatusInScenarioExecutionReportWithStoppedStatusIfRunningOrPaused(execution);
                 return objectMapper.writeValueAsString(newScenarioExecutionReport);
@@ -16,13 +16,20 @@
 
 package com.chutneytesting.execution.infra.storage;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
 import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionEntity;
+import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionSummary;
 import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
+import jakarta.persistence.QueryHint;
 import jakarta.persistence.Tuple;
 import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface DatabaseExecutionJpaRepository extends JpaRepository<ScenarioExecutionEntity, Long>, JpaSpecificationExecutor<ScenarioExecutionEntity> {
@@ -35,4 +42,16 @@ public interface DatabaseExecutionJpaRepository extends JpaRepository<ScenarioEx
     List<Tuple> findLastExecutionsByScenarioId(@Param("scenarioIds") List<String> scenarioIds);
 
     List<ScenarioExecutionEntity> findAllByScenarioId(String scenarioId);
+
+    @Query(ScenarioExecutionSummary.SELECT_FROM + "where se.scenarioId = :scenarioId and se.id < :beforeId order by se.id desc")
+    List<ScenarioExecutionSummary> findSummariesByScenarioIdBefore(@Param("scenarioId") String scenarioId, @Param("beforeId") Long beforeId, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(ScenarioExecutionSummary.SELECT_FROM + "where se.scenarioId = :scenarioId order by se.id desc")
+    Stream<ScenarioExecutionSummary> streamSummariesByScenarioId(@Param("scenarioId") String scenarioId);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select se.id as id, se.environment as environment, se.status as status from SCENARIO_EXECUTIONS se " +
+        "where se.scenarioId = :scenarioId and se.campaignExecution is null order by se.executionTime desc, se.id desc")
+    Stream<Tuple> streamExecutionsOutOfCampaignByScenarioId(@Param("scenarioId") String scenarioId);
 }
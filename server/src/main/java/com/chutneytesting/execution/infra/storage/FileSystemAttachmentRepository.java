@@ -0,0 +1,156 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.execution.infra.storage;
+
+import static com.chutneytesting.ServerConfigurationValues.CONFIGURATION_FOLDER_SPRING_VALUE;
+import static com.chutneytesting.tools.file.FileUtils.initFolder;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+
+import com.chutneytesting.execution.domain.attachment.AttachmentNotFoundException;
+import com.chutneytesting.execution.domain.attachment.AttachmentRepository;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Store attachments in files named by their SHA-256 digest,
+ * spread in sub folders named by the digest first two characters.<br>
+ * The last modified time of a file is the last time its content was saved.
+ */
+@Component
+public class FileSystemAttachmentRepository implements AttachmentRepository {
+
+    static final Path ROOT_DIRECTORY_NAME = Paths.get("attachments");
+    private static final Pattern ATTACHMENT_ID = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path storeFolderPath;
+
+    FileSystemAttachmentRepository(@Value(CONFIGURATION_FOLDER_SPRING_VALUE) String storeFolderPath) {
+        this.storeFolderPath = Paths.get(storeFolderPath).resolve(ROOT_DIRECTORY_NAME);
+        initFolder(this.storeFolderPath);
+    }
+
+    @Override
+    public String save(byte[] content) {
+        String attachmentId = sha256(content);
+        Path file = attachmentPath(attachmentId);
+        if (touch(file)) {
+            return attachmentId;
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmpFile = Files.createTempFile(file.getParent(), attachmentId, ".tmp");
+            try {
+                Files.write(tmpFile, content);
+                Files.move(tmpFile, file, ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // Stored meanwhile by another execution
+            } finally {
+                Files.deleteIfExists(tmpFile);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot save attachment " + file.toUri(), e);
+        }
+        return attachmentId;
+    }
+
+    @Override
+    public InputStream read(String attachmentId) {
+        if (attachmentId == null || !ATTACHMENT_ID.matcher(attachmentId).matches()) {
+            throw new AttachmentNotFoundException(attachmentId);
+        }
+        try {
+            return Files.newInputStream(attachmentPath(attachmentId));
+        } catch (NoSuchFileException e) {
+            throw new AttachmentNotFoundException(attachmentId);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read attachment " + attachmentId, e);
+        }
+    }
+
+    @Override
+    public int deleteAllExcept(Set<String> keptAttachmentsIds, Instant savedSince) {
+        int deleted = 0;
+        try (Stream<Path> files = Files.walk(storeFolderPath, 2)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String attachmentId = file.getFileName().toString();
+                if (ATTACHMENT_ID.matcher(attachmentId).matches()
+                    && !keptAttachmentsIds.contains(attachmentId)
+                    && lastModified(file).isBefore(savedSince)
+                    && Files.deleteIfExists(file)) {
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot delete attachments of " + storeFolderPath.toUri(), e);
+        }
+        return deleted;
+    }
+
+    /**
+     * Mark an existing attachment as saved now, so that it is not deleted before the report referencing it is stored.
+     *
+     * @return false if the attachment does not exist
+     */
+    private static boolean touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot save attachment " + file.toUri(), e);
+        }
+    }
+
+    private static Instant lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant();
+        } catch (NoSuchFileException e) {
+            return Instant.MAX;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path attachmentPath(String attachmentId) {
+        return storeFolderPath.resolve(attachmentId.substring(0, 2)).resolve(attachmentId);
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -17,8 +17,35 @@
 package com.chutneytesting.execution.infra.storage;
 
 import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionReportEntity;
+import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ScenarioExecutionReportJpaRepository extends JpaRepository<ScenarioExecutionReportEntity, Long>, JpaSpecificationExecutor<ScenarioExecutionReportEntity> {
+
+    @Modifying
+    @Query("delete from SCENARIO_EXECUTIONS_REPORTS r where r.scenarioExecutionId in :scenarioExecutionIds")
+    void deleteByScenarioExecutionIdIn(@Param("scenarioExecutionIds") Collection<Long> scenarioExecutionIds);
+
+    @Query("""
+        select r.scenarioExecutionId from SCENARIO_EXECUTIONS_REPORTS r
+        where r.reportData is null
+        and r.scenarioExecutionId > :afterId
+        and r.scenarioExecution.status not in :excludedStatuses
+        order by r.scenarioExecutionId
+        """)
+    List<Long> findNotEncodedReportsIds(@Param("afterId") long afterId, @Param("excludedStatuses") Collection<ServerReportStatus> excludedStatuses, Pageable pageable);
+
+    @Query("""
+        select r.scenarioExecutionId from SCENARIO_EXECUTIONS_REPORTS r
+        where r.scenarioExecutionId > :afterId
+        order by r.scenarioExecutionId
+        """)
+    List<Long> findReportsIds(@Param("afterId") long afterId, Pageable pageable);
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.execution.infra.storage;
+
+import static com.chutneytesting.ServerConfigurationValues.EXECUTION_REPORT_CODEC_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.EXECUTION_REPORT_COMPRESSION_BATCH_SIZE_SPRING_VALUE;
+import static com.chutneytesting.ServerConfigurationValues.EXECUTION_REPORT_COMPRESSION_FIXED_DELAY_SPRING_VALUE;
+import static com.chutneytesting.server.core.domain.execution.report.ServerReportStatus.PAUSED;
+import static com.chutneytesting.server.core.domain.execution.report.ServerReportStatus.RUNNING;
+
+import com.chutneytesting.execution.infra.storage.jpa.ReportCodec;
+import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionReportEntity;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Encode, batch by batch, the reports stored before the configured {@link ReportCodec} was set.<br>
+ * Running and paused executions are left aside, their reports being encoded on their last update.
+ */
+@Component
+public class ScenarioExecutionReportsCompression {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScenarioExecutionReportsCompression.class);
+
+    private final ScenarioExecutionReportJpaRepository scenarioExecutionReportJpaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ReportCodec reportCodec;
+    private final int batchSize;
+
+    private long lastEncodedId = 0;
+    private boolean done;
+
+    ScenarioExecutionReportsCompression(
+        ScenarioExecutionReportJpaRepository scenarioExecutionReportJpaRepository,
+        PlatformTransactionManager transactionManager,
+        @Value(EXECUTION_REPORT_CODEC_SPRING_VALUE) String reportCodec,
+        @Value(EXECUTION_REPORT_COMPRESSION_BATCH_SIZE_SPRING_VALUE) int batchSize
+    ) {
+        this.scenarioExecutionReportJpaRepository = scenarioExecutionReportJpaRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reportCodec = ReportCodec.fromConfiguration(reportCodec);
+        this.batchSize = batchSize;
+        this.done = !this.reportCodec.encodes() || batchSize <= 0;
+    }
+
+    @Scheduled(fixedDelayString = EXECUTION_REPORT_COMPRESSION_FIXED_DELAY_SPRING_VALUE, initialDelayString = EXECUTION_REPORT_COMPRESSION_FIXED_DELAY_SPRING_VALUE)
+    public void compressNextBatch() {
+        if (done) {
+            return;
+        }
+        try {
+            int encoded = encodeNextBatch();
+            if (encoded == 0) {
+                done = true;
+                LOGGER.info("All stored executions' reports are encoded with {}", reportCodec);
+            } else {
+                LOGGER.debug("Encoded {} executions' reports with {}, up to execution {}", encoded, reportCodec, lastEncodedId);
+            }
+        } catch (ObjectOptimisticLockingFailureException e) {
+            LOGGER.warn("Executions' reports batch after execution {} concurrently modified, will retry", lastEncodedId);
+        }
+    }
+
+    /**
+     * @return the number of reports found for this batch
+     */
+    int encodeNextBatch() {
+        Integer encoded = transactionTemplate.execute(status -> {
+            List<Long> ids = scenarioExecutionReportJpaRepository.findNotEncodedReportsIds(lastEncodedId, List.of(RUNNING, PAUSED), PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            List<ScenarioExecutionReportEntity> reports = scenarioExecutionReportJpaRepository.findAllById(ids);
+            reports.forEach(report -> report.encodeReport(reportCodec));
+            scenarioExecutionReportJpaRepository.saveAll(reports);
+            scenarioExecutionReportJpaRepository.flush();
+            lastEncodedId = ids.get(ids.size() - 1);
+            return ids.size();
+        });
+        return encoded == null ? 0 : encoded;
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.execution.infra.storage;
+
+import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionStepReportEntity;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ScenarioExecutionStepReportJpaRepository extends JpaRepository<ScenarioExecutionStepReportEntity, Long> {
+
+    @Query("select sr from SCENARIO_EXECUTIONS_STEPS_REPORTS sr where sr.id in (" +
+        "select max(last.id) from SCENARIO_EXECUTIONS_STEPS_REPORTS last where last.scenarioExecutionId = :scenarioExecutionId group by last.stepPath)")
+    List<ScenarioExecutionStepReportEntity> findLastByScenarioExecutionId(@Param("scenarioExecutionId") Long scenarioExecutionId);
+
+    @Modifying
+    @Query("delete from SCENARIO_EXECUTIONS_STEPS_REPORTS sr where sr.scenarioExecutionId in :scenarioExecutionIds")
+    void deleteByScenarioExecutionIdIn(@Param("scenarioExecutionIds") Collection<Long> scenarioExecutionIds);
+
+    @Query("select sr from SCENARIO_EXECUTIONS_STEPS_REPORTS sr where sr.id > :afterId order by sr.id")
+    List<ScenarioExecutionStepReportEntity> findAfterId(@Param("afterId") long afterId, Pageable pageable);
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.chutneytesting.execution.infra.storage;
+
+import static com.chutneytesting.execution.domain.attachment.AttachmentReferences.collectAttachmentsIds;
+
+import com.chutneytesting.execution.domain.attachment.AttachmentRepository;
+import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionReportEntity;
+import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionStepReportEntity;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Delete the attachments no more referenced by any stored execution report.<br>
+ * Reports and steps' reports are read batch by batch to collect referenced attachments.
+ * Attachments saved during the last {@link #GRACE_PERIOD} are kept, the reports referencing them may not be stored yet.
+ */
+@Component
+public class UnreferencedAttachmentsPurge {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(UnreferencedAttachmentsPurge.class);
+
+    static final Duration GRACE_PERIOD = Duration.ofHours(1);
+    private static final int BATCH_SIZE = 100;
+
+    private final ScenarioExecutionReportJpaRepository scenarioExecutionReportJpaRepository;
+    private final ScenarioExecutionStepReportJpaRepository scenarioExecutionStepReportJpaRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    UnreferencedAttachmentsPurge(
+        ScenarioExecutionReportJpaRepository scenarioExecutionReportJpaRepository,
+        ScenarioExecutionStepReportJpaRepository scenarioExecutionStepReportJpaRepository,
+        AttachmentRepository attachmentRepository,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.scenarioExecutionReportJpaRepository = scenarioExecutionReportJpaRepository;
+        this.scenarioExecutionStepReportJpaRepository = scenarioExecutionStepReportJpaRepository;
+        this.attachmentRepository = attachmentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * @return the number of deleted attachments
+     */
+    public int purge() {
+        Instant savedSince = Instant.now().minus(GRACE_PERIOD);
+        Set<String> referencedAttachmentsIds = new HashSet<>();
+        collectReportsReferences(referencedAttachmentsIds);
+        collectStepsReportsReferences(referencedAttachmentsIds);
+        int deleted = attachmentRepository.deleteAllExcept(referencedAttachmentsIds, savedSince);
+        LOGGER.debug("{} unreferenced attachments deleted, {} referenced ones kept", deleted, referencedAttachmentsIds.size());
+        return deleted;
+    }
+
+    private void collectReportsReferences(Set<String> referencedAttachmentsIds) {
+        long lastReadId = 0;
+        while (true) {
+            long afterId = lastReadId;
+            Long lastId = transactionTemplate.execute(status -> {
+                List<Long> ids = scenarioExecutionReportJpaRepository.findReportsIds(afterId, PageRequest.of(0, BATCH_SIZE));
+                if (ids.isEmpty()) {
+                    return null;
+                }
+                scenarioExecutionReportJpaRepository.findAllById(ids).stream()
+                    .map(ScenarioExecutionReportEntity::getReport)
+                    .forEach(report -> collectAttachmentsIds(report, referencedAttachmentsIds));
+                return ids.get(ids.size() - 1);
+            });
+            if (lastId == null) {
+                return;
+            }
+            lastReadId = lastId;
+        }
+    }
+
+    private void collectStepsReportsReferences(Set<String> referencedAttachmentsIds) {
+        long lastReadId = 0;
+        while (true) {
+            long afterId = lastReadId;
+            Long lastId = transactionTemplate.execute(status -> {
+                List<ScenarioExecutionStepReportEntity> stepsReports = scenarioExecutionStepReportJpaRepository.findAfterId(afterId, PageRequest.of(0, BATCH_SIZE));
+                if (stepsReports.isEmpty()) {
+                    return null;
+                }
+                stepsReports.forEach(stepReport -> collectAttachmentsIds(stepReport.report(), referencedAttachmentsIds));
+                return stepsReports.get(stepsReports.size() - 1).id();
+            });
+            if (lastId == null) {
+                return;
+            }
+            lastReadId = lastId;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.execution.infra.storage.jpa;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Encodings of scenario execution reports stored in the <i>REPORT_DATA</i> column.<br>
+ * Encoded data starts with the codec version byte, so reports stay readable whatever the configured codec.
+ */
+public enum ReportCodec {
+    /**
+     * Report is stored as is in the <i>REPORT</i> column.<br>
+     * Encoding gives the UTF-8 bytes of the report.
+     */
+    NONE((byte) 0) {
+        @Override
+        public byte[] encode(String report) {
+            byte[] reportBytes = report.getBytes(UTF_8);
+            byte[] data = new byte[reportBytes.length + 1];
+            data[0] = version;
+            System.arraycopy(reportBytes, 0, data, 1, reportBytes.length);
+            return data;
+        }
+
+        @Override
+        String decode(byte[] data, int offset) {
+            return new String(data, offset, data.length - offset, UTF_8);
+        }
+    },
+    /**
+     * JSON report compressed with deflate.
+     */
+    DEFLATE((byte) 1) {
+        @Override
+        public byte[] encode(String report) {
+            ByteArrayOutputStream data = new ByteArrayOutputStream(report.length() / 8);
+            data.write(version);
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try (DeflaterOutputStream deflaterStream = new DeflaterOutputStream(data, deflater)) {
+                deflaterStream.write(report.getBytes(UTF_8));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                deflater.end();
+            }
+            return data.toByteArray();
+        }
+
+        @Override
+        String decode(byte[] data, int offset) {
+            try (InflaterInputStream inflaterStream = new InflaterInputStream(new ByteArrayInputStream(data, offset, data.length - offset))) {
+                return new String(inflaterStream.readAllBytes(), UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    };
+
+    final byte version;
+
+    ReportCodec(byte version) {
+        this.version = version;
+    }
+
+    public boolean encodes() {
+        return this != NONE;
+    }
+
+    /**
+     * @return the encoded report, prefixed by this codec version
+     */
+    public abstract byte[] encode(String report);
+
+    abstract String decode(byte[] data, int offset);
+
+    /**
+     * Decode a report with the codec it was encoded with.
+     */
+    public static String decode(byte[] data) {
+        byte version = data[0];
+        return Arrays.stream(values())
+            .filter(codec -> codec.version == version)
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("Unknown report codec version " + version))
+            .decode(data, 1);
+    }
+
+    public static ReportCodec fromConfiguration(String codecName) {
+        return valueOf(codecName.trim().toUpperCase());
+    }
+}
@@ -48,6 +48,9 @@ public class ScenarioExecutionReportEntity {
     @Basic(fetch = FetchType.LAZY)
     private String report;
 
+    @Column(name = "REPORT_DATA")
+    private byte[] reportData;
+
     @Column(name = "VERSION")
     @Version
     private Integer version;
@@ -55,18 +58,47 @@ public class ScenarioExecutionReportEntity {
     public ScenarioExecutionReportEntity() {
     }
 
-    public ScenarioExecutionReportEntity(ScenarioExecutionEntity scenarioExecution, String report) {
+    public ScenarioExecutionReportEntity(ScenarioExecutionEntity scenarioExecution, String report, ReportCodec codec) {
         this.scenarioExecutionId = scenarioExecution.id();
         this.scenarioExecution = scenarioExecution;
-        this.report = report;
+        setReport(report, codec);
+    }
+
+    public void updateReport(ExecutionHistory.Execution execution, ReportCodec codec) {
+        setReport(execution.report(), codec);
+    }
+
+    /**
+     * Re-encode the stored report with given codec.
+     *
+     * @return false if the report was already stored as given codec would
+     */
+    public boolean encodeReport(ReportCodec codec) {
+        if (isEncoded() == codec.encodes()) {
+            return false;
+        }
+        setReport(getReport(), codec);
+        return true;
     }
 
-    public void updateReport(ExecutionHistory.Execution execution) {
-        report = execution.report();
+    public boolean isEncoded() {
+        return reportData != null;
     }
+
     public String getReport() {
-        return report;
+        return isEncoded() ? ReportCodec.decode(reportData) : report;
+    }
+
+    private void setReport(String report, ReportCodec codec) {
+        if (codec.encodes()) {
+            this.reportData = codec.encode(report);
+            this.report = "";
+        } else {
+            this.reportData = null;
+            this.report = report;
+        }
     }
+
     public ExecutionHistory.Execution toDomain() {
         return ImmutableExecutionHistory.Execution.builder()
             .executionId(scenarioExecutionId)
@@ -75,7 +107,7 @@ public class ScenarioExecutionReportEntity {
             .status(scenarioExecution.status())
             .info(ofNullable(scenarioExecution.information()))
             .error(ofNullable(scenarioExecution.error()))
-            .report(report)
+            .report(getReport())
             .testCaseTitle(scenarioExecution.scenarioTitle())
             .environment(scenarioExecution.environment())
             .user(scenarioExecution.userId())
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.execution.infra.storage.jpa;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+
+@Entity(name = "SCENARIO_EXECUTIONS_STEPS_REPORTS")
+public class ScenarioExecutionStepReportEntity {
+
+    @Id
+    @Column(name = "ID")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "SCENARIO_EXECUTION_ID")
+    private Long scenarioExecutionId;
+
+    @Column(name = "STEP_PATH")
+    private String stepPath;
+
+    @Column(name = "SUB_STEPS")
+    private Integer subSteps;
+
+    @Column(name = "REPORT")
+    private String report;
+
+    public ScenarioExecutionStepReportEntity() {
+    }
+
+    public ScenarioExecutionStepReportEntity(Long scenarioExecutionId, String stepPath, Integer subSteps, String report) {
+        this.scenarioExecutionId = scenarioExecutionId;
+        this.stepPath = stepPath;
+        this.subSteps = subSteps;
+        this.report = report;
+    }
+
+    public Long id() {
+        return id;
+    }
+
+    public Long scenarioExecutionId() {
+        return scenarioExecutionId;
+    }
+
+    public String stepPath() {
+        return stepPath;
+    }
+
+    public Integer subSteps() {
+        return subSteps;
+    }
+
+    public String report() {
+        return report;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.execution.infra.storage.jpa;
+
+import static java.util.Collections.emptyList;
+import static java.util.Optional.ofNullable;
+
+import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory;
+import com.chutneytesting.server.core.domain.execution.history.ImmutableExecutionHistory;
+import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
+import com.chutneytesting.server.core.domain.scenario.campaign.CampaignExecution;
+import java.time.Instant;
+import java.time.ZoneId;
+
+/**
+ * Projection of a {@link ScenarioExecutionEntity} joined with its campaign execution and campaign, if any.<br>
+ * Campaign execution is mapped without its scenarios executions.
+ */
+public record ScenarioExecutionSummary(
+    Long id,
+    Long executionTime,
+    Long duration,
+    ServerReportStatus status,
+    String information,
+    String error,
+    String scenarioTitle,
+    String environment,
+    String userId,
+    String datasetId,
+    Integer datasetVersion,
+    Long campaignExecutionId,
+    Boolean campaignExecutionPartial,
+    String campaignExecutionEnvironment,
+    String campaignExecutionUserId,
+    String campaignExecutionDatasetId,
+    Integer campaignExecutionDatasetVersion,
+    Long campaignId,
+    String campaignTitle
+) {
+
+    public static final String SELECT_FROM = "select new com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionSummary(" +
+        "se.id, se.executionTime, se.duration, se.status, se.information, se.error, se.scenarioTitle, se.environment, se.userId, se.datasetId, se.datasetVersion, " +
+        "ce.id, ce.partial, ce.environment, ce.userId, ce.datasetId, ce.datasetVersion, c.id, c.title) " +
+        "from SCENARIO_EXECUTIONS se left join se.campaignExecution ce left join CAMPAIGN c on c.id = ce.campaignId ";
+
+    public ExecutionHistory.ExecutionSummary toDomain() {
+        return ImmutableExecutionHistory.ExecutionSummary.builder()
+            .executionId(id)
+            .time(Instant.ofEpochMilli(executionTime).atZone(ZoneId.systemDefault()).toLocalDateTime())
+            .duration(duration)
+            .status(status)
+            .info(ofNullable(information))
+            .error(ofNullable(error))
+            .testCaseTitle(scenarioTitle)
+            .environment(environment)
+            .datasetId(ofNullable(datasetId))
+            .datasetVersion(ofNullable(datasetVersion))
+            .user(userId)
+            .campaignReport(ofNullable(campaignExecutionId).map(ceId -> new CampaignExecution(
+                ceId,
+                campaignId,
+                emptyList(),
+                campaignTitle,
+                ofNullable(campaignExecutionPartial).orElse(false),
+                campaignExecutionEnvironment,
+                campaignExecutionDatasetId,
+                campaignExecutionDatasetVersion,
+                campaignExecutionUserId
+            )))
+            .build();
+    }
+}
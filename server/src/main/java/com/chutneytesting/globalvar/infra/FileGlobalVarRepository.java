@@ -23,6 +23,7 @@ import com.chutneytesting.server.core.domain.globalvar.GlobalVarNotFoundExceptio
 import com.chutneytesting.server.core.domain.globalvar.GlobalvarRepository;
 import com.chutneytesting.server.core.domain.tools.ZipUtils;
 import com.chutneytesting.tools.file.FileUtils;
+import com.chutneytesting.tools.file.FolderWatcher;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -30,6 +31,8 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.ValueNode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -44,15 +47,23 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.zip.ZipOutputStream;
 import org.hjson.JsonValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * Global variables are read from hjson files.<br>
+ * Their flattened view is kept in memory until files change, through this repository or directly on disk.
+ */
 @Component
 public class FileGlobalVarRepository implements GlobalvarRepository {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileGlobalVarRepository.class);
     private static final String FILE_EXTENSION = ".hjson";
 
     static final Path ROOT_DIRECTORY_NAME = Paths.get("global_var");
@@ -64,11 +75,35 @@ public class FileGlobalVarRepository implements GlobalvarRepository {
         .enable(SerializationFeature.INDENT_OUTPUT)
         .setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
 
+    private final AtomicLong filesGeneration = new AtomicLong();
+    private volatile FlatMapSnapshot flatMapSnapshot;
+    private FolderWatcher.Registration folderWatch;
+
     FileGlobalVarRepository(@Value(CONFIGURATION_FOLDER_SPRING_VALUE) String storeFolderPath) throws UncheckedIOException {
         this.storeFolderPath = Paths.get(storeFolderPath).resolve(ROOT_DIRECTORY_NAME);
         initFolder(this.storeFolderPath);
     }
 
+    @PostConstruct
+    void watchFiles() {
+        try {
+            folderWatch = FolderWatcher.watch(storeFolderPath, this::invalidateFlatMap);
+        } catch (UncheckedIOException e) {
+            LOGGER.warn("Cannot watch global variables folder {}, only changes made through Chutney will be seen", storeFolderPath, e);
+        }
+    }
+
+    @PreDestroy
+    void stopWatchingFiles() {
+        if (folderWatch != null) {
+            folderWatch.close();
+        }
+    }
+
+    private void invalidateFlatMap() {
+        filesGeneration.incrementAndGet();
+    }
+
     @Override
     public Set<String> list() {
         return FileUtils.doOnListFiles(storeFolderPath, (pathStream) ->
@@ -99,6 +134,8 @@ public class FileGlobalVarRepository implements GlobalvarRepository {
             Files.write(filePath, hjsonContent.getBytes());
         } catch (IOException e) {
             throw new UncheckedIOException("Cannot save " + filePath.toUri(), e);
+        } finally {
+            invalidateFlatMap();
         }
     }
 
@@ -121,11 +158,30 @@ public class FileGlobalVarRepository implements GlobalvarRepository {
             throw new GlobalVarNotFoundException(fileName);
         } catch (IOException e) {
             throw new UncheckedIOException("Cannot delete " + filePath.toUri().toString(), e);
+        } finally {
+            invalidateFlatMap();
         }
     }
 
     @Override
     public Map<String, String> getFlatMap() {
+        long generation = filesGeneration.get();
+        FlatMapSnapshot snapshot = flatMapSnapshot;
+        if (snapshot == null || snapshot.generation() != generation) {
+            snapshot = new FlatMapSnapshot(generation, Map.copyOf(readFlatMap()));
+            flatMapSnapshot = snapshot;
+        }
+        return snapshot.flatMap();
+    }
+
+    /**
+     * Flattened global variables along with the files generation they were read at.<br>
+     * A snapshot read before files changed no longer matches the current generation and is read again.
+     */
+    private record FlatMapSnapshot(long generation, Map<String, String> flatMap) {
+    }
+
+    private Map<String, String> readFlatMap() {
         final Map<String, String> map = new HashMap<>();
 
         Map<Path, String> fileContents = get();
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.chutneytesting.instrument.infra;
+
+import com.chutneytesting.tools.loader.ExtensionLoaders;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bind meters of actions, declared in <b>META-INF/extension/chutney.meters</b>, to the server registry.
+ */
+@Component
+class ActionsMeterBinder implements MeterBinder {
+
+    private final List<MeterBinder> actionsMeterBinders;
+
+    ActionsMeterBinder() {
+        this.actionsMeterBinders = ExtensionLoaders
+            .classpathToClass("META-INF/extension/chutney.meters")
+            .load()
+            .stream()
+            .map(ActionsMeterBinder::instantiate)
+            .toList();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        actionsMeterBinders.forEach(binder -> binder.bindTo(registry));
+    }
+
+    private static MeterBinder instantiate(Class<?> clazz) {
+        try {
+            return (MeterBinder) clazz.getDeclaredConstructor().newInstance();
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+            throw new IllegalStateException("Cannot instantiate meter binder " + clazz.getName(), e);
+        }
+    }
+}
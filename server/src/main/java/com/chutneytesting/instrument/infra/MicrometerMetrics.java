@@ -90,6 +90,22 @@ class MicrometerMetrics implements ChutneyMetrics {
         httpErrorCount.increment();
     }
 
+    @Override
+    public void onScenarioExecutionsPurged(int purgedExecutionsCount) {
+        final Counter purgedExecutionsCounter = this.meterRegistry.counter("scenario_execution_purged_count");
+        purgedExecutionsCounter.increment(purgedExecutionsCount);
+    }
+
+    @Override
+    public void onEnvironmentCacheHit() {
+        this.meterRegistry.counter("environment_cache", List.of(of("result", "hit"))).increment();
+    }
+
+    @Override
+    public void onEnvironmentCacheMiss() {
+        this.meterRegistry.counter("environment_cache", List.of(of("result", "miss"))).increment();
+    }
+
     private void updateMetrics(Map<ServerReportStatus, Long> scenarioCountByStatus, Map<ServerReportStatus, AtomicLong> cachedMetrics) {
         cachedMetrics.forEach((key, value) -> {
             final Long valueInCache = scenarioCountByStatus.get(key);
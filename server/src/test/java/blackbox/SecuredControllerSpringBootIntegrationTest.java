@@ -126,6 +126,7 @@ public class SecuredControllerSpringBootIntegrationTest {
             {POST, "/api/ui/campaign/execution/v1/replay/666", "CAMPAIGN_EXECUTE", "{}", NOT_FOUND},
             {GET, "/api/ui/campaign/execution/v1/campaignPattern/surefire", "CAMPAIGN_EXECUTE", null, OK},
             {GET, "/api/ui/campaign/execution/v1/campaignPattern/surefire/env", "CAMPAIGN_EXECUTE", null, OK},
+            {GET, "/api/ui/campaign/execution/v1/surefire/execution/666", "CAMPAIGN_READ", null, NOT_FOUND},
             {POST, "/api/ui/campaign/execution/v1/666/stop", "CAMPAIGN_EXECUTE", "{}", NOT_FOUND},
             {GET, "/api/ui/campaign/execution/v1/byID/666", "CAMPAIGN_EXECUTE", null, NOT_FOUND},
             {GET, "/api/ui/campaign/execution/v1/byID/666/env", "CAMPAIGN_EXECUTE", null, NOT_FOUND},
@@ -171,8 +172,11 @@ public class SecuredControllerSpringBootIntegrationTest {
             {POST, "/api/scenario/execution/v1", "SCENARIO_EXECUTE", "{\"scenario\":{}}", OK},
 
             {GET, "/api/ui/scenario/123/execution/v1", "SCENARIO_READ", null, OK},
+            {GET, "/api/ui/scenario/123/execution/v2", "SCENARIO_READ", null, OK},
+            {GET, "/api/ui/scenario/123/execution/export/v1", "SCENARIO_READ", null, OK},
             {GET, "/api/ui/scenario/123/execution/666/v1", "SCENARIO_READ", null, NOT_FOUND},
             {GET, "/api/ui/scenario/execution/666/summary/v1", "SCENARIO_READ", null, NOT_FOUND},
+            {GET, "/api/ui/attachment/v1/666", "SCENARIO_READ", null, NOT_FOUND},
             {POST, "/api/ui/scenario/execution/v1/scenarioId/env", "SCENARIO_EXECUTE", null, NOT_FOUND},
             {POST, "/api/idea/scenario/execution/env", "SCENARIO_EXECUTE", "{\"content\":\"{\\\"when\\\":{}}\",\"params\":{}} ", OK},
             {POST, "/api/ui/scenario/executionasync/v1/scenarioId/env", "SCENARIO_EXECUTE", "[]", NOT_FOUND},
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.chutneytesting.execution.api;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.chutneytesting.campaign.domain.CampaignRepository;
+import com.chutneytesting.campaign.domain.CampaignService;
+import com.chutneytesting.execution.api.report.surefire.SurefireScenarioExecutionReportBuilder;
+import com.chutneytesting.execution.domain.campaign.CampaignExecutionEngine;
+import com.chutneytesting.security.infra.SpringUserService;
+import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory;
+import com.chutneytesting.server.core.domain.execution.history.ExecutionHistoryRepository;
+import com.chutneytesting.server.core.domain.execution.history.ImmutableExecutionHistory;
+import com.chutneytesting.server.core.domain.execution.report.ScenarioExecutionReport;
+import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
+import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportCore;
+import com.chutneytesting.server.core.domain.scenario.campaign.CampaignExecution;
+import com.chutneytesting.server.core.domain.scenario.campaign.ScenarioExecutionCampaign;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class CampaignExecutionUiControllerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final ExecutionHistoryRepository executionHistoryRepository = mock(ExecutionHistoryRepository.class);
+    private final CampaignRepository campaignRepository = mock(CampaignRepository.class);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setUp() {
+        CampaignExecutionUiController controller = new CampaignExecutionUiController(
+            mock(CampaignExecutionEngine.class),
+            new SurefireScenarioExecutionReportBuilder(objectMapper, executionHistoryRepository),
+            campaignRepository,
+            mock(SpringUserService.class),
+            new CampaignService(campaignRepository),
+            mock(CampaignExecutionApiMapper.class)
+        );
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    public void should_export_past_campaign_execution_as_surefire_zip() throws Exception {
+        // Given
+        ScenarioExecutionReport report = new ScenarioExecutionReport(2L, "scenario name", "", "",
+            new StepExecutionReportCore("root step", 42L, Instant.now(), ServerReportStatus.SUCCESS, List.of("info"), emptyList(), emptyList(), "type", "targetName", "targetUrl", "strategy", new HashMap<>(), new HashMap<>()));
+        ExecutionHistory.Execution execution = ImmutableExecutionHistory.Execution.builder()
+            .executionId(report.executionId)
+            .duration(42L)
+            .status(ServerReportStatus.SUCCESS)
+            .time(LocalDateTime.now())
+            .report(objectMapper.writeValueAsString(report))
+            .testCaseTitle("scenario title")
+            .environment("env")
+            .user("")
+            .build();
+        when(executionHistoryRepository.getExecution("12", report.executionId)).thenReturn(execution);
+        ScenarioExecutionCampaign scenarioExecution = new ScenarioExecutionCampaign("12", "scenario title", execution.summary());
+        when(campaignRepository.findByExecutionId(7L)).thenReturn(
+            new CampaignExecution(7L, 1L, List.of(scenarioExecution), "campaign title", false, "env", null, null, "")
+        );
+
+        // When
+        byte[] zip = mockMvc.perform(get("/api/ui/campaign/execution/v1/surefire/execution/7"))
+            // Then
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/zip"))
+            .andExpect(header().string("Content-Disposition", "attachment; filename=\"surefire-report.zip\""))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        Map<String, String> entries = unzip(zip);
+        assertThat(entries).containsOnlyKeys("campaign title/", "campaign title/12_scenario title.xml");
+        assertThat(entries.get("campaign title/12_scenario title.xml")).startsWith("<?xml version=\"1.0\" ?><testsuite");
+    }
+
+    private Map<String, String> unzip(byte[] zip) throws IOException {
+        Map<String, String> entries = new HashMap<>();
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            ZipEntry entry;
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zipInputStream.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+}
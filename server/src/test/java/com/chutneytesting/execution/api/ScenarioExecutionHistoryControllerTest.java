@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.execution.api;
+
+import static com.chutneytesting.execution.api.ScenarioExecutionHistoryController.MAX_EXECUTIONS_PAGE_SIZE;
+import static java.util.Collections.emptyList;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.chutneytesting.RestExceptionHandler;
+import com.chutneytesting.WebConfiguration;
+import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory.ExecutionSummary;
+import com.chutneytesting.server.core.domain.execution.history.ExecutionHistoryRepository;
+import com.chutneytesting.server.core.domain.execution.history.ImmutableExecutionHistory;
+import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
+import com.chutneytesting.server.core.domain.instrument.ChutneyMetrics;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class ScenarioExecutionHistoryControllerTest {
+
+    private final ExecutionHistoryRepository executionHistoryRepository = mock(ExecutionHistoryRepository.class);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setUp() {
+        ScenarioExecutionHistoryController controller = new ScenarioExecutionHistoryController(executionHistoryRepository, new WebConfiguration().webObjectMapper());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+            .setControllerAdvice(new RestExceptionHandler(mock(ChutneyMetrics.class)))
+            .build();
+    }
+
+    @Test
+    public void should_list_first_executions_page_with_default_limit() throws Exception {
+        when(executionHistoryRepository.getExecutions("123", null, 50)).thenReturn(List.of(executionSummary(42L)));
+
+        mockMvc.perform(get("/api/ui/scenario/123/execution/v2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].executionId").value(42));
+    }
+
+    @Test
+    public void should_list_executions_before_given_execution() throws Exception {
+        when(executionHistoryRepository.getExecutions("123", 42L, 10)).thenReturn(List.of(executionSummary(41L), executionSummary(40L)));
+
+        mockMvc.perform(get("/api/ui/scenario/123/execution/v2").param("before", "42").param("limit", "10"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].executionId").value(41))
+            .andExpect(jsonPath("$[1].executionId").value(40));
+    }
+
+    @Test
+    public void should_accept_maximum_limit() throws Exception {
+        when(executionHistoryRepository.getExecutions("123", null, MAX_EXECUTIONS_PAGE_SIZE)).thenReturn(emptyList());
+
+        mockMvc.perform(get("/api/ui/scenario/123/execution/v2").param("limit", String.valueOf(MAX_EXECUTIONS_PAGE_SIZE)))
+            .andExpect(status().isOk());
+
+        verify(executionHistoryRepository).getExecutions("123", null, MAX_EXECUTIONS_PAGE_SIZE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0, MAX_EXECUTIONS_PAGE_SIZE + 1})
+    public void should_reject_limit_out_of_bounds(int limit) throws Exception {
+        mockMvc.perform(get("/api/ui/scenario/123/execution/v2").param("limit", String.valueOf(limit)))
+            .andExpect(status().isBadRequest());
+
+        verify(executionHistoryRepository, never()).getExecutions(any(), any(), anyInt());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void should_export_executions_one_per_line() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<ExecutionSummary> consumer = invocation.getArgument(1);
+            consumer.accept(executionSummary(2L));
+            consumer.accept(executionSummary(1L));
+            return null;
+        }).when(executionHistoryRepository).forEachExecution(eq("123"), any(Consumer.class));
+
+        mockMvc.perform(get("/api/ui/scenario/123/execution/export/v1"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(ScenarioExecutionHistoryController.NDJSON_MEDIA_TYPE))
+            .andExpect(content().string(matchesPattern("\\{[^\\n]*\"executionId\":2[^\\n]*}\\n\\{[^\\n]*\"executionId\":1[^\\n]*}\\n")));
+    }
+
+    private ExecutionSummary executionSummary(long executionId) {
+        return ImmutableExecutionHistory.ExecutionSummary.builder()
+            .executionId(executionId)
+            .testCaseTitle("...")
+            .time(LocalDateTime.now())
+            .duration(3L)
+            .status(ServerReportStatus.SUCCESS)
+            .environment("env")
+            .user("user")
+            .build();
+    }
+}
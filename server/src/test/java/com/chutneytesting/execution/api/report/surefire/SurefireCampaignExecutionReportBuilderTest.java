@@ -107,10 +107,11 @@ public class SurefireCampaignExecutionReportBuilderTest {
         CampaignExecution campaignExecution2 = new CampaignExecution(1L, 1L, Arrays.asList(scenarioExecutionReportOK, scenarioExecutionReportKO), "test Campaign Title 2", false, "", null, null, "");
 
         // When we zip it
-        byte[] zip = surefireCampaignExecutionReportBuilder.createReport(Lists.list(campaignExecution1, campaignExecution2));
+        ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        surefireCampaignExecutionReportBuilder.writeReport(Lists.list(campaignExecution1, campaignExecution2), zip);
 
         // Then it produces a zip with correct content
-        ByteArrayInputStream bais = new ByteArrayInputStream(zip);
+        ByteArrayInputStream bais = new ByteArrayInputStream(zip.toByteArray());
 
         List<String> directories = new ArrayList<>();
         Map<String, String> files = new HashMap<>();
@@ -19,10 +19,14 @@ package com.chutneytesting.execution.domain;
 import static com.chutneytesting.server.core.domain.execution.report.ServerReportStatus.FAILURE;
 import static com.chutneytesting.server.core.domain.execution.report.ServerReportStatus.SUCCESS;
 import static java.time.LocalDateTime.now;
+import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -33,6 +37,7 @@ import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistoryRepository;
 import com.chutneytesting.server.core.domain.execution.history.ImmutableExecutionHistory.ExecutionSummary;
 import com.chutneytesting.server.core.domain.execution.history.PurgeService.PurgeReport;
+import com.chutneytesting.server.core.domain.instrument.ChutneyMetrics;
 import com.chutneytesting.server.core.domain.scenario.TestCaseMetadataImpl;
 import com.chutneytesting.server.core.domain.scenario.TestCaseRepository;
 import com.chutneytesting.server.core.domain.scenario.campaign.CampaignBuilder;
@@ -41,7 +46,9 @@ import com.chutneytesting.server.core.domain.scenario.campaign.ScenarioExecution
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.assertj.core.groups.Tuple;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -881,6 +888,64 @@ public class PurgeServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("deletes scenarios' executions by chunks when configured")
+    class ChunkedScenariosExecutions {
+        @Test
+        void purge_executions_selected_by_repository_chunk_by_chunk() {
+            // Given
+            // Two known scenarios
+            // And a repository selecting executions to purge of each scenario
+            // And a chunk size set to 2
+            Integer maxScenarioExecutionsConfiguration = 2;
+            int chunkSize = 2;
+
+            TestCaseRepository testCaseRepository = mock(TestCaseRepository.class);
+            when(testCaseRepository.findAll()).thenReturn(List.of(
+                TestCaseMetadataImpl.builder().withId("1").build(),
+                TestCaseMetadataImpl.builder().withId("2").build()
+            ));
+            ExecutionHistoryRepository executionsRepository = mock(ExecutionHistoryRepository.class);
+            when(executionsRepository.findExecutionsToPurge("1", maxScenarioExecutionsConfiguration)).thenReturn(List.of(1L, 2L, 3L));
+            when(executionsRepository.findExecutionsToPurge("2", maxScenarioExecutionsConfiguration)).thenReturn(List.of(5L));
+            ChutneyMetrics metrics = mock(ChutneyMetrics.class);
+            AtomicInteger attachmentsPurges = new AtomicInteger();
+
+            // When
+            PurgeServiceImpl sut = new PurgeServiceImpl(testCaseRepository, executionsRepository, mock(CampaignRepository.class), mock(CampaignExecutionRepository.class), maxScenarioExecutionsConfiguration, 100, chunkSize, metrics, attachmentsPurges::incrementAndGet);
+            PurgeReport report = sut.purge();
+
+            // Then
+            // Executions to purge are selected once by scenario and deleted chunk by chunk
+            verify(executionsRepository, never()).getExecutions(anyString());
+            verify(executionsRepository, times(2)).findExecutionsToPurge(anyString(), anyInt());
+            verify(executionsRepository, times(2)).deleteExecutions(anySet());
+            verify(executionsRepository).deleteExecutions(Set.of(1L, 2L));
+            verify(executionsRepository).deleteExecutions(Set.of(3L, 5L));
+            verify(metrics, times(2)).onScenarioExecutionsPurged(2);
+            assertThat(report.scenariosExecutionsIds()).containsExactlyInAnyOrder(1L, 2L, 3L, 5L);
+            // Attachments no more referenced are deleted once
+            assertThat(attachmentsPurges).hasValue(1);
+        }
+
+        @Test
+        void does_not_purge_attachments_when_no_execution_is_deleted() {
+            // Given
+            TestCaseRepository testCaseRepository = mock(TestCaseRepository.class);
+            when(testCaseRepository.findAll()).thenReturn(List.of(TestCaseMetadataImpl.builder().withId("1").build()));
+            ExecutionHistoryRepository executionsRepository = mock(ExecutionHistoryRepository.class);
+            when(executionsRepository.findExecutionsToPurge("1", 2)).thenReturn(emptyList());
+            AtomicInteger attachmentsPurges = new AtomicInteger();
+
+            // When
+            PurgeServiceImpl sut = new PurgeServiceImpl(testCaseRepository, executionsRepository, mock(CampaignRepository.class), mock(CampaignExecutionRepository.class), 2, 100, 2, mock(ChutneyMetrics.class), attachmentsPurges::incrementAndGet);
+            sut.purge();
+
+            // Then
+            assertThat(attachmentsPurges).hasValue(0);
+        }
+    }
+
     private static ExecutionSummary.Builder scenarioExecutionBuilder() {
         return ExecutionSummary.builder()
             .executionId(-1L)
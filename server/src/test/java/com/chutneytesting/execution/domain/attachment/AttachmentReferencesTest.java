@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.execution.domain.attachment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.util.Base64;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class AttachmentReferencesTest {
+
+    private static final String ATTACHMENT_ID = "a".repeat(64);
+    private static final byte[] CONTENT = {1, 2, 3};
+    private static final String DATA_URI = "data:image/png;base64," + Base64.getEncoder().encodeToString(CONTENT);
+    private static final String REFERENCE = "attachment:image/png;sha256," + ATTACHMENT_ID;
+
+    private final AttachmentRepository attachmentRepository = mock(AttachmentRepository.class);
+
+    @Test
+    void stores_data_uris_as_attachments() {
+        when(attachmentRepository.save(CONTENT)).thenReturn(ATTACHMENT_ID);
+
+        List<String> values = AttachmentReferences.toReferences(List.of("info", DATA_URI), attachmentRepository);
+
+        assertThat(values).containsExactly("info", REFERENCE);
+    }
+
+    @Test
+    void keeps_values_which_are_not_base64_data_uris() {
+        List<String> values = List.of("data:text/plain,hello", "data:image/png;base64,%%%", "attachment:", "text");
+
+        assertThat(AttachmentReferences.toReferences(values, attachmentRepository)).isEqualTo(values);
+        assertThat(AttachmentReferences.toDataUris(values, attachmentRepository)).isEqualTo(values);
+        verifyNoInteractions(attachmentRepository);
+    }
+
+    @Test
+    void inlines_referenced_attachments() {
+        when(attachmentRepository.read(ATTACHMENT_ID)).thenReturn(new ByteArrayInputStream(CONTENT));
+
+        assertThat(AttachmentReferences.toDataUri(REFERENCE, attachmentRepository)).isEqualTo(DATA_URI);
+    }
+
+    @Test
+    void keeps_reference_of_missing_attachment() {
+        when(attachmentRepository.read(any())).thenThrow(new AttachmentNotFoundException(ATTACHMENT_ID));
+
+        assertThat(AttachmentReferences.toDataUri(REFERENCE, attachmentRepository)).isEqualTo(REFERENCE);
+    }
+}
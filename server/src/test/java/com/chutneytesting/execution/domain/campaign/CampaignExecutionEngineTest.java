@@ -19,12 +19,14 @@ package com.chutneytesting.execution.domain.campaign;
 import static java.util.Arrays.stream;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.AdditionalMatchers.or;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -63,9 +65,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import org.apache.groovy.util.Maps;
 import org.assertj.core.util.Lists;
 import org.junit.jupiter.api.BeforeAll;
@@ -131,10 +137,10 @@ public class CampaignExecutionEngineTest {
         // When
         CampaignExecution cer = sut.executeScenarioInCampaign(emptyList(), campaign, "user");
 
-        ArgumentCaptor<ReportForJira> reportForJiraCaptor = ArgumentCaptor.forClass(ReportForJira.class);
-        verify(jiraXrayPlugin).updateTestExecution(eq(campaign.id), eq(cer.executionId), eq(firstTestCase.metadata.id), reportForJiraCaptor.capture());
+        ArgumentCaptor<Supplier<ReportForJira>> reportForJiraCaptor = ArgumentCaptor.forClass(Supplier.class);
+        verify(jiraXrayPlugin).publishTestExecution(eq(campaign.id), eq(cer.executionId), eq(firstTestCase.metadata.id), reportForJiraCaptor.capture());
 
-        assertThat(reportForJiraCaptor).isNotNull();
+        assertThat(reportForJiraCaptor.getValue().get()).isNotNull();
 
     }
 
@@ -151,7 +157,7 @@ public class CampaignExecutionEngineTest {
         // Then
         verify(testCaseRepository, times(2)).findExecutableById(anyString());
         verify(scenarioExecutionEngine, times(2)).execute(any(ExecutionRequest.class));
-        verify(executionHistoryRepository, times(4)).getExecution(anyString(), anyLong());
+        verify(executionHistoryRepository, times(2)).getExecution(anyString(), anyLong());
 
         assertThat(campaignExecution.scenarioExecutionReports()).hasSize(campaign.scenarioIds.size());
         assertThat(campaignExecution.scenarioExecutionReports().get(0).execution.executionId()).isEqualTo(firstScenarioExecutionId);
@@ -177,7 +183,7 @@ public class CampaignExecutionEngineTest {
         // Then
         verify(testCaseRepository, times(1)).findExecutableById(anyString());
         verify(scenarioExecutionEngine, times(1)).execute(any(ExecutionRequest.class));
-        verify(executionHistoryRepository, times(2)).getExecution(anyString(), anyLong());
+        verify(executionHistoryRepository, times(1)).getExecution(anyString(), anyLong());
 
         assertThat(campaignExecution.scenarioExecutionReports()).hasSize(1);
         assertThat(campaignExecution.scenarioExecutionReports().get(0).execution.executionId()).isEqualTo(secondScenarioExecutionId);
@@ -210,7 +216,7 @@ public class CampaignExecutionEngineTest {
 
         // Then
         verify(scenarioExecutionEngine).execute(any(ExecutionRequest.class));
-        verify(executionHistoryRepository, times(2)).getExecution(anyString(), anyLong());
+        verify(executionHistoryRepository, times(1)).getExecution(anyString(), anyLong());
 
         assertThat(campaignExecutionReport.get().status()).isEqualTo(ServerReportStatus.STOPPED);
         assertThat(campaignExecutionReport.get().scenarioExecutionReports()).hasSize(2);
@@ -260,6 +266,127 @@ public class CampaignExecutionEngineTest {
         assertThat(watch.getTotalTimeSeconds()).isLessThan(1.9);
     }
 
+    @Test
+    public void should_execute_longest_scenarios_first_when_in_parallel() {
+        // Given
+        sut = new CampaignExecutionEngine(campaignRepository, campaignExecutionRepository, scenarioExecutionEngine, executionHistoryRepository, testCaseRepository, of(dataSetHistoryRepository), jiraXrayPlugin, metrics, executorService, datasetRepository, objectMapper, 1, 0, empty());
+        Campaign campaign = createCampaign(firstTestCase, secondTestCase, true, false);
+
+        when(scenarioExecutionEngine.execute(any(ExecutionRequest.class))).thenReturn(mock(ScenarioExecutionReport.class));
+        when(executionHistoryRepository.getLastExecutions(List.of(firstTestCase.id(), secondTestCase.id()))).thenReturn(Map.of(
+            firstTestCase.id(), executionSummaryWithDuration(10L),
+            secondTestCase.id(), executionSummaryWithDuration(100L)
+        ));
+
+        // When
+        sut.executeScenarioInCampaign(emptyList(), campaign, "user");
+
+        // Then
+        ArgumentCaptor<ExecutionRequest> executionRequestCaptor = ArgumentCaptor.forClass(ExecutionRequest.class);
+        verify(scenarioExecutionEngine, times(2)).execute(executionRequestCaptor.capture());
+        assertThat(executionRequestCaptor.getAllValues())
+            .extracting(executionRequest -> executionRequest.testCase.id())
+            .containsExactly(secondTestCase.id(), firstTestCase.id());
+    }
+
+    @Test
+    public void should_limit_parallel_executions_to_campaign_parallelism() {
+        // Given
+        sut = new CampaignExecutionEngine(campaignRepository, campaignExecutionRepository, scenarioExecutionEngine, executionHistoryRepository, testCaseRepository, of(dataSetHistoryRepository), jiraXrayPlugin, metrics, executorService, datasetRepository, objectMapper, 1, 0, empty());
+        Campaign campaign = createCampaign(firstTestCase, secondTestCase, true, false);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch secondStarted = new CountDownLatch(2);
+        when(scenarioExecutionEngine.execute(any(ExecutionRequest.class))).then((Answer<ScenarioExecutionReport>) invocationOnMock -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            secondStarted.countDown();
+            secondStarted.await(200, MILLISECONDS); // Would be reached by both executions without limit
+            running.decrementAndGet();
+            return mock(ScenarioExecutionReport.class);
+        });
+
+        // When
+        sut.executeScenarioInCampaign(emptyList(), campaign, "user");
+
+        // Then
+        verify(scenarioExecutionEngine, times(2)).execute(any(ExecutionRequest.class));
+        assertThat(maxRunning).hasValue(1);
+    }
+
+    @Test
+    public void should_limit_concurrent_executions_on_same_environment_without_blocking_other_environments() throws Exception {
+        // Given
+        sut = new CampaignExecutionEngine(campaignRepository, campaignExecutionRepository, scenarioExecutionEngine, executionHistoryRepository, testCaseRepository, of(dataSetHistoryRepository), jiraXrayPlugin, metrics, executorService, datasetRepository, objectMapper, 0, 1, empty());
+        Campaign busyEnvironmentCampaign = new Campaign(1L, "campaign1", null, Lists.list(firstTestCase.id(), secondTestCase.id()), "busyEnv", true, false, null, null);
+        Campaign otherEnvironmentCampaign = new Campaign(2L, "campaign2", null, Lists.list(firstTestCase.id()), "otherEnv", false, false, null, null);
+        when(campaignRepository.newCampaignExecution(1L)).thenReturn(1L);
+        when(campaignRepository.newCampaignExecution(2L)).thenReturn(2L);
+
+        AtomicInteger busyEnvironmentExecutions = new AtomicInteger();
+        CountDownLatch busyEnvironmentStarted = new CountDownLatch(1);
+        CountDownLatch releaseBusyEnvironment = new CountDownLatch(1);
+        when(scenarioExecutionEngine.execute(any(ExecutionRequest.class))).then((Answer<ScenarioExecutionReport>) invocationOnMock -> {
+            ExecutionRequest executionRequest = invocationOnMock.getArgument(0);
+            if ("busyEnv".equals(executionRequest.environment)) {
+                busyEnvironmentExecutions.incrementAndGet();
+                busyEnvironmentStarted.countDown();
+                releaseBusyEnvironment.await();
+            }
+            return mock(ScenarioExecutionReport.class);
+        });
+        ExecutorService campaignsCallers = Executors.newFixedThreadPool(2);
+
+        // When
+        Future<?> busyEnvironmentExecution = campaignsCallers.submit(() -> sut.executeScenarioInCampaign(emptyList(), busyEnvironmentCampaign, "user"));
+        assertThat(busyEnvironmentStarted.await(5, SECONDS)).isTrue();
+        Future<?> otherEnvironmentExecution = campaignsCallers.submit(() -> sut.executeScenarioInCampaign(emptyList(), otherEnvironmentCampaign, "user"));
+
+        // Then
+        otherEnvironmentExecution.get(5, SECONDS);
+        assertThat(busyEnvironmentExecutions).hasValue(1);
+
+        releaseBusyEnvironment.countDown();
+        busyEnvironmentExecution.get(5, SECONDS);
+        assertThat(busyEnvironmentExecutions).hasValue(2);
+        verify(scenarioExecutionEngine, times(3)).execute(any(ExecutionRequest.class));
+        campaignsCallers.shutdown();
+    }
+
+    @Test
+    public void should_stop_campaign_waiting_for_environment_permit() throws Exception {
+        // Given
+        sut = new CampaignExecutionEngine(campaignRepository, campaignExecutionRepository, scenarioExecutionEngine, executionHistoryRepository, testCaseRepository, of(dataSetHistoryRepository), jiraXrayPlugin, metrics, executorService, datasetRepository, objectMapper, 0, 1, empty());
+        Campaign busyEnvironmentCampaign = new Campaign(1L, "campaign1", null, Lists.list(firstTestCase.id()), "busyEnv", false, false, null, null);
+        Campaign waitingCampaign = new Campaign(2L, "campaign2", null, Lists.list(secondTestCase.id()), "busyEnv", true, false, null, null);
+        when(campaignRepository.newCampaignExecution(1L)).thenReturn(1L);
+        when(campaignRepository.newCampaignExecution(2L)).thenReturn(2L);
+
+        CountDownLatch busyEnvironmentStarted = new CountDownLatch(1);
+        CountDownLatch releaseBusyEnvironment = new CountDownLatch(1);
+        when(scenarioExecutionEngine.execute(any(ExecutionRequest.class))).then((Answer<ScenarioExecutionReport>) invocationOnMock -> {
+            busyEnvironmentStarted.countDown();
+            releaseBusyEnvironment.await();
+            return mock(ScenarioExecutionReport.class);
+        });
+        ExecutorService campaignsCallers = Executors.newFixedThreadPool(2);
+
+        // When
+        Future<?> busyEnvironmentExecution = campaignsCallers.submit(() -> sut.executeScenarioInCampaign(emptyList(), busyEnvironmentCampaign, "user"));
+        assertThat(busyEnvironmentStarted.await(5, SECONDS)).isTrue();
+        Future<CampaignExecution> waitingExecution = campaignsCallers.submit(() -> sut.executeScenarioInCampaign(emptyList(), waitingCampaign, "user"));
+        await().atMost(5, SECONDS).ignoreExceptions().untilAsserted(() -> sut.stopExecution(2L));
+
+        // Then
+        CampaignExecution stoppedExecution = waitingExecution.get(5, SECONDS);
+        assertThat(stoppedExecution.scenarioExecutionReports()).singleElement()
+            .satisfies(report -> assertThat(report.status()).isEqualTo(ServerReportStatus.NOT_EXECUTED));
+        verify(scenarioExecutionEngine, times(1)).execute(any(ExecutionRequest.class));
+
+        releaseBusyEnvironment.countDown();
+        busyEnvironmentExecution.get(5, SECONDS);
+        campaignsCallers.shutdown();
+    }
+
     @Test
     public void should_throw_when_no_campaign_found_on_execute_by_id() {
         when(campaignRepository.findById(anyLong())).thenReturn(null);
@@ -437,6 +564,18 @@ public class CampaignExecutionEngineTest {
             .build();
     }
 
+    private ExecutionHistory.ExecutionSummary executionSummaryWithDuration(long duration) {
+        return ImmutableExecutionHistory.ExecutionSummary.builder()
+            .executionId(generateId())
+            .testCaseTitle("...")
+            .time(LocalDateTime.now())
+            .duration(duration)
+            .status(ServerReportStatus.SUCCESS)
+            .environment("")
+            .user("")
+            .build();
+    }
+
     private ExecutionHistory.Execution failedExecutionWithId(Long executionId) {
         return ImmutableExecutionHistory.Execution.builder()
             .executionId(executionId)
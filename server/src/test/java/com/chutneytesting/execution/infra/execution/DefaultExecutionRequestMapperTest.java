@@ -17,7 +17,12 @@
 package com.chutneytesting.execution.infra.execution;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.chutneytesting.agent.domain.explore.CurrentNetworkDescription;
 import com.chutneytesting.engine.api.execution.ExecutionRequestDto;
@@ -33,7 +38,7 @@ import org.junit.jupiter.api.Test;
 @SuppressWarnings("unchecked")
 public class DefaultExecutionRequestMapperTest {
 
-    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final ObjectMapper objectMapper = spy(new ObjectMapper().findAndRegisterModules());
     private final EmbeddedEnvironmentApi environmentApplication = mock(EmbeddedEnvironmentApi.class);
     private final CurrentNetworkDescription currentNetworkDescription = mock(CurrentNetworkDescription.class);
 
@@ -57,4 +62,45 @@ public class DefaultExecutionRequestMapperTest {
         assertThat(executionRequestDto.scenario.steps.get(0).inputs).containsKey("someID");
     }
 
+    @Test
+    public void should_parse_same_raw_scenario_once_and_resolve_each_target_once_per_execution() throws Exception {
+        // Given
+        RawTestCase testCase = RawTestCase.builder()
+            .withScenario("""
+                {
+                    scenario: {
+                        name: root step
+                        steps: [
+                            {
+                                name: first step
+                                type: debug
+                                target: TARGET
+                            }
+                            {
+                                name: second step
+                                type: debug
+                                target: TARGET
+                            }
+                            {
+                                name: third step
+                                type: debug
+                                target: OTHER_TARGET
+                            }
+                        ]
+                    }
+                }
+                """)
+            .build();
+        ExecutionRequest request = new ExecutionRequest(testCase, "ENV", "");
+
+        // When
+        sut.toDto(request);
+        ExecutionRequestDto executionRequestDto = sut.toDto(request);
+
+        // Then
+        assertThat(executionRequestDto.scenario.steps).hasSize(3);
+        verify(objectMapper, times(1)).readValue(anyString(), any(Class.class));
+        verify(environmentApplication, times(2)).getTarget("ENV", "TARGET");
+        verify(environmentApplication, times(2)).getTarget("ENV", "OTHER_TARGET");
+    }
 }
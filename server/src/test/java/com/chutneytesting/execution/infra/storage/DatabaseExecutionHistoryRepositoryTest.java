@@ -32,6 +32,7 @@ import com.chutneytesting.campaign.infra.CampaignExecutionDBRepository;
 import com.chutneytesting.campaign.infra.jpa.CampaignEntity;
 import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionEntity;
 import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionReportEntity;
+import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionStepReportEntity;
 import com.chutneytesting.scenario.infra.jpa.ScenarioEntity;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory;
 import com.chutneytesting.server.core.domain.execution.history.ExecutionHistory.DetachedExecution;
@@ -42,6 +43,7 @@ import com.chutneytesting.server.core.domain.execution.report.ReportNotFoundExce
 import com.chutneytesting.server.core.domain.execution.report.ScenarioExecutionReport;
 import com.chutneytesting.server.core.domain.execution.report.ServerReportStatus;
 import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportCore;
+import com.chutneytesting.server.core.domain.execution.report.StepExecutionReportPart;
 import com.chutneytesting.server.core.domain.scenario.campaign.CampaignExecution;
 import com.chutneytesting.server.core.domain.scenario.campaign.ScenarioExecutionCampaign;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -58,6 +60,7 @@ import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.stream.IntStream;
 import org.hibernate.exception.LockAcquisitionException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -98,6 +101,15 @@ public class DatabaseExecutionHistoryRepositoryTest {
 
         @Autowired
         private ScenarioExecutionReportJpaRepository scenarioExecutionReportJpaRepository;
+        @Autowired
+        private ScenarioExecutionStepReportJpaRepository scenarioExecutionStepReportJpaRepository;
+        @Autowired
+        private ScenarioExecutionReportsCompression scenarioExecutionReportsCompression;
+
+        @AfterEach
+        void afterEach() {
+            clearTables();
+        }
 
         @Test
         public void parallel_execution_does_not_lock_database() throws InterruptedException {
@@ -153,6 +165,36 @@ public class DatabaseExecutionHistoryRepositoryTest {
                 .extracting(summary -> summary.info().get()).containsExactly("exec3", "exec2", "exec1");
         }
 
+        @Test
+        public void executions_are_paginated_newest_first() {
+            String scenarioId = givenScenario().getId().toString();
+            List<Long> executionsIds = IntStream.range(0, 5)
+                .mapToObj(i -> sut.store(scenarioId, buildDetachedExecution(SUCCESS, "exec" + i, "")).executionId())
+                .toList();
+
+            List<ExecutionSummary> firstPage = sut.getExecutions(scenarioId, null, 2);
+            assertThat(firstPage).extracting(ExecutionSummary::executionId).containsExactly(executionsIds.get(4), executionsIds.get(3));
+
+            List<ExecutionSummary> secondPage = sut.getExecutions(scenarioId, firstPage.get(1).executionId(), 2);
+            assertThat(secondPage).extracting(ExecutionSummary::executionId).containsExactly(executionsIds.get(2), executionsIds.get(1));
+
+            List<ExecutionSummary> lastPage = sut.getExecutions(scenarioId, secondPage.get(1).executionId(), 2);
+            assertThat(lastPage).extracting(ExecutionSummary::executionId).containsExactly(executionsIds.get(0));
+            assertThat(lastPage.get(0).info()).hasValue("exec0");
+        }
+
+        @Test
+        public void all_executions_are_given_newest_first() {
+            String scenarioId = givenScenario().getId().toString();
+            sut.store(scenarioId, buildDetachedExecution(SUCCESS, "exec1", ""));
+            sut.store(scenarioId, buildDetachedExecution(FAILURE, "exec2", ""));
+
+            List<ExecutionSummary> executions = new ArrayList<>();
+            sut.forEachExecution(scenarioId, executions::add);
+
+            assertThat(executions).extracting(summary -> summary.info().get()).containsExactly("exec2", "exec1");
+        }
+
         @Test
         public void last_execution_return_newest_first() {
             String scenarioIdOne = givenScenarioId();
@@ -224,6 +266,42 @@ public class DatabaseExecutionHistoryRepositoryTest {
             ).containsExactly("updated", "exec2", "exec1");
         }
 
+        @Test
+        public void running_execution_report_is_assembled_from_last_appended_steps_reports() throws JsonProcessingException {
+            String scenarioId = givenScenario().getId().toString();
+            Long executionId = sut.store(scenarioId, buildDetachedExecution(RUNNING, "exec", "")).executionId();
+            StepExecutionReportCore firstSubStep = stepReport("step 1", 0L, RUNNING);
+            StepExecutionReportCore secondSubStep = stepReport("step 2", 0L, RUNNING);
+            StepExecutionReportCore rootStep = stepReport("root step", 0L, RUNNING, firstSubStep, secondSubStep);
+
+            sut.updateRunning(scenarioId, buildDetachedExecution(RUNNING, "running", "").attach(executionId), List.of(
+                StepExecutionReportPart.of("0", rootStep),
+                StepExecutionReportPart.of("0.0", firstSubStep),
+                StepExecutionReportPart.of("0.1", secondSubStep)
+            ));
+            sut.updateRunning(scenarioId, buildDetachedExecution(RUNNING, "running", "").attach(executionId), List.of(
+                StepExecutionReportPart.of("0.0", stepReport("step 1", 12L, SUCCESS))
+            ));
+
+            assertThat(scenarioExecutionStepReportJpaRepository.findLastByScenarioExecutionId(executionId))
+                .extracting(ScenarioExecutionStepReportEntity::stepPath)
+                .containsExactlyInAnyOrder("0", "0.0", "0.1");
+
+            Execution runningExecution = sut.getExecution(scenarioId, executionId);
+            assertThat(runningExecution.info()).hasValue("running");
+            ScenarioExecutionReport report = objectMapper.readValue(runningExecution.report(), ScenarioExecutionReport.class);
+            assertThat(report.scenarioName).isEqualTo("Fake title");
+            assertThat(report.report.name).isEqualTo("root step");
+            assertThat(report.report.steps).extracting(step -> step.status).containsExactly(SUCCESS, RUNNING);
+            assertThat(report.report.steps.get(0).duration).isEqualTo(12L);
+
+            sut.update(scenarioId, buildDetachedExecution(SUCCESS, "updated", "").attach(executionId));
+
+            assertThat(scenarioExecutionStepReportJpaRepository.findLastByScenarioExecutionId(executionId)).isEmpty();
+            report = objectMapper.readValue(sut.getExecution(scenarioId, executionId).report(), ScenarioExecutionReport.class);
+            assertThat(report.report.name).isEqualTo("root step Title");
+        }
+
         @Test
         public void update_on_empty_history_throws() {
             String scenarioId = givenScenarioId();
@@ -365,6 +443,37 @@ public class DatabaseExecutionHistoryRepositoryTest {
             });
         }
 
+        @Test
+        public void should_map_campaign_without_scenarios_executions_in_paginated_executions() {
+            // Given
+            ScenarioEntity scenarioEntity = givenScenario();
+            CampaignEntity campaign = givenCampaign(scenarioEntity);
+
+            ScenarioExecutionEntity scenarioExecutionOne = givenScenarioExecution(scenarioEntity.getId(), FAILURE);
+            ScenarioExecutionCampaign scenarioExecutionOneReport = new ScenarioExecutionCampaign(scenarioEntity.getId().toString(), scenarioEntity.getTitle(), scenarioExecutionOne.toDomain());
+            ScenarioExecutionEntity scenarioExecutionTwo = givenScenarioExecution(scenarioEntity.getId(), SUCCESS);
+
+            Long campaignExecutionId = campaignExecutionDBRepository.generateCampaignExecutionId(campaign.id());
+            CampaignExecution campaignExecution = new CampaignExecution(campaignExecutionId, campaign.id(), singletonList(scenarioExecutionOneReport), campaign.title(), true, "env", "#2:87", 5, "user");
+            campaignExecutionDBRepository.saveCampaignExecution(campaign.id(), campaignExecution);
+
+            // When
+            List<ExecutionSummary> executions = sut.getExecutions(scenarioEntity.getId().toString(), null, 10);
+
+            // Then
+            assertThat(executions).hasSize(2);
+            assertThat(executions.get(0).executionId()).isEqualTo(scenarioExecutionTwo.id());
+            assertThat(executions.get(0).campaignReport()).isEmpty();
+            assertThat(executions.get(1).executionId()).isEqualTo(scenarioExecutionOne.id());
+            assertThat(executions.get(1).campaignReport()).hasValueSatisfying(report -> {
+                assertThat(report.campaignId).isEqualTo(campaign.id());
+                assertThat(report.executionId).isEqualTo(campaignExecutionId);
+                assertThat(report.campaignName).isEqualTo(campaign.title());
+                assertThat(report.executionEnvironment).isEqualTo("env");
+                assertThat(report.scenarioExecutionReports()).isEmpty();
+            });
+        }
+
         @Test
         public void should_retrieve_scenario_execution_summary() {
             // Given
@@ -406,7 +515,87 @@ public class DatabaseExecutionHistoryRepositoryTest {
             });
         }
 
+        @Test
+        void selects_executions_to_purge_by_environment_keeping_last_success() {
+            String scenarioId = givenScenario().getId().toString();
+            Execution oldestSuccess = sut.store(scenarioId, buildDetachedExecution(SUCCESS, "exec1", "", "env"));
+            Execution lastSuccess = sut.store(scenarioId, buildDetachedExecution(SUCCESS, "exec2", "", "env"));
+            Execution oldestFailure = sut.store(scenarioId, buildDetachedExecution(FAILURE, "exec3", "", "env"));
+            sut.store(scenarioId, buildDetachedExecution(FAILURE, "exec4", "", "env"));
+            sut.store(scenarioId, buildDetachedExecution(FAILURE, "exec5", "", "env"));
+            Execution otherEnvOldest = sut.store(scenarioId, buildDetachedExecution(FAILURE, "exec6", "", "otherEnv"));
+            sut.store(scenarioId, buildDetachedExecution(FAILURE, "exec7", "", "otherEnv"));
+            sut.store(scenarioId, buildDetachedExecution(FAILURE, "exec8", "", "otherEnv"));
+
+            List<Long> executionsToPurge = sut.findExecutionsToPurge(scenarioId, 2);
+
+            assertThat(executionsToPurge).containsExactly(oldestSuccess.executionId(), oldestFailure.executionId(), otherEnvOldest.executionId());
+            assertThat(executionsToPurge).doesNotContain(lastSuccess.executionId());
+        }
+
+        @Test
+        void selects_executions_to_purge_of_given_scenario_only() {
+            String scenarioId = givenScenario().getId().toString();
+            String otherScenarioId = givenScenario().getId().toString();
+            List<Long> executionsIds = IntStream.range(0, 3)
+                .mapToObj(i -> sut.store(scenarioId, buildDetachedExecution(FAILURE, "exec" + i, "", "env")).executionId())
+                .toList();
+            IntStream.range(0, 3).forEach(i -> sut.store(otherScenarioId, buildDetachedExecution(FAILURE, "other exec" + i, "", "env")));
+
+            List<Long> executionsToPurge = sut.findExecutionsToPurge(scenarioId, 1);
+
+            assertThat(executionsToPurge).containsExactly(executionsIds.get(0), executionsIds.get(1));
+        }
+
+        @Test
+        public void reports_are_stored_encoded() {
+            String scenarioId = givenScenario().getId().toString();
+            DetachedExecution detachedExecution = buildDetachedExecution(SUCCESS, "exec", "");
+
+            Long executionId = sut.store(scenarioId, detachedExecution).executionId();
+
+            assertThat(reportEntity(executionId).isEncoded()).isTrue();
+            assertThat(sut.getExecution(scenarioId, executionId).report()).isEqualTo(detachedExecution.report());
+        }
+
+        @Test
+        public void plain_reports_are_encoded_by_batches_except_running_ones() {
+            String scenarioId = givenScenario().getId().toString();
+            DetachedExecution detachedExecution = buildDetachedExecution(SUCCESS, "exec", "");
+            List<Long> plainExecutionsIds = IntStream.range(0, 3)
+                .mapToObj(i -> givenPlainReport(sut.store(scenarioId, detachedExecution).executionId(), detachedExecution.report()))
+                .toList();
+            Long runningExecutionId = givenPlainReport(sut.store(scenarioId, buildDetachedExecution(RUNNING, "exec", "")).executionId(), detachedExecution.report());
+
+            int encoded;
+            do {
+                encoded = scenarioExecutionReportsCompression.encodeNextBatch();
+            } while (encoded > 0);
+
+            assertThat(plainExecutionsIds).allSatisfy(executionId -> {
+                assertThat(reportEntity(executionId).isEncoded()).isTrue();
+                assertThat(sut.getExecution(scenarioId, executionId).report()).isEqualTo(detachedExecution.report());
+            });
+            assertThat(reportEntity(runningExecutionId).isEncoded()).isFalse();
+        }
+
+        private Long givenPlainReport(Long executionId, String report) {
+            namedParameterJdbcTemplate.update(
+                "UPDATE SCENARIO_EXECUTIONS_REPORTS SET REPORT = :report, REPORT_DATA = NULL WHERE SCENARIO_EXECUTION_ID = :executionId",
+                Map.of("report", report, "executionId", executionId)
+            );
+            return executionId;
+        }
+
+        private ScenarioExecutionReportEntity reportEntity(Long executionId) {
+            return transactionTemplate.execute(status -> scenarioExecutionReportJpaRepository.findById(executionId).orElseThrow());
+        }
+
         private DetachedExecution buildDetachedExecution(ServerReportStatus status, String info, String error) {
+            return buildDetachedExecution(status, info, error, "");
+        }
+
+        private DetachedExecution buildDetachedExecution(ServerReportStatus status, String info, String error, String environment) {
             return ImmutableExecutionHistory.DetachedExecution.builder()
                 .time(LocalDateTime.now())
                 .duration(12L)
@@ -415,7 +604,7 @@ public class DatabaseExecutionHistoryRepositoryTest {
                 .error(error)
                 .report(buildReport())
                 .testCaseTitle("Fake title")
-                .environment("")
+                .environment(environment)
                 .datasetId("fake dataset id")
                 .user("")
                 .build();
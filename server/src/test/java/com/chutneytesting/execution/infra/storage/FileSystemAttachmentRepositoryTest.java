@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.execution.infra.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.temporal.ChronoUnit.HOURS;
+import static java.time.temporal.ChronoUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.chutneytesting.execution.domain.attachment.AttachmentNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileSystemAttachmentRepositoryTest {
+
+    @TempDir
+    private Path configurationFolder;
+
+    @Test
+    void stores_content_once_under_its_sha256_digest() throws IOException {
+        FileSystemAttachmentRepository sut = new FileSystemAttachmentRepository(configurationFolder.toString());
+
+        String id = sut.save("screenshot".getBytes(UTF_8));
+        String sameId = sut.save("screenshot".getBytes(UTF_8));
+
+        assertThat(id).isEqualTo("4441146b0fe1d5c6845af126ba5ce6003ea77d6b4cb04d14114f86a925c5dbca");
+        assertThat(sameId).isEqualTo(id);
+        try (Stream<Path> files = Files.walk(configurationFolder.resolve(FileSystemAttachmentRepository.ROOT_DIRECTORY_NAME))) {
+            assertThat(files.filter(Files::isRegularFile)).hasSize(1);
+        }
+        try (InputStream content = sut.read(id)) {
+            assertThat(new String(content.readAllBytes(), UTF_8)).isEqualTo("screenshot");
+        }
+    }
+
+    @Test
+    void throws_when_attachment_is_unknown() {
+        FileSystemAttachmentRepository sut = new FileSystemAttachmentRepository(configurationFolder.toString());
+
+        assertThatThrownBy(() -> sut.read("0".repeat(64))).isInstanceOf(AttachmentNotFoundException.class);
+        assertThatThrownBy(() -> sut.read("../../secret")).isInstanceOf(AttachmentNotFoundException.class);
+    }
+
+    @Test
+    void deletes_attachments_neither_kept_nor_saved_recently() throws IOException {
+        FileSystemAttachmentRepository sut = new FileSystemAttachmentRepository(configurationFolder.toString());
+        Instant savedSince = Instant.now().minus(1, HOURS);
+        String kept = savedBefore(sut, "kept", savedSince);
+        String unreferenced = savedBefore(sut, "unreferenced", savedSince);
+        String savedAgain = savedBefore(sut, "saved again", savedSince);
+        sut.save("saved again".getBytes(UTF_8));
+        String recent = sut.save("recent".getBytes(UTF_8));
+
+        int deleted = sut.deleteAllExcept(Set.of(kept), savedSince);
+
+        assertThat(deleted).isEqualTo(1);
+        assertThatThrownBy(() -> sut.read(unreferenced)).isInstanceOf(AttachmentNotFoundException.class);
+        for (String id : List.of(kept, savedAgain, recent)) {
+            try (InputStream content = sut.read(id)) {
+                assertThat(content).isNotEmpty();
+            }
+        }
+    }
+
+    private String savedBefore(FileSystemAttachmentRepository sut, String content, Instant instant) throws IOException {
+        String id = sut.save(content.getBytes(UTF_8));
+        Path file = configurationFolder.resolve(FileSystemAttachmentRepository.ROOT_DIRECTORY_NAME).resolve(id.substring(0, 2)).resolve(id);
+        Files.setLastModifiedTime(file, FileTime.from(instant.minus(1, MINUTES)));
+        return id;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.chutneytesting.execution.infra.storage;
+
+import static com.chutneytesting.server.core.domain.execution.report.ServerReportStatus.SUCCESS;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.temporal.ChronoUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.chutneytesting.execution.domain.attachment.AttachmentNotFoundException;
+import com.chutneytesting.execution.infra.storage.jpa.ReportCodec;
+import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionEntity;
+import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionReportEntity;
+import com.chutneytesting.execution.infra.storage.jpa.ScenarioExecutionStepReportEntity;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import util.infra.AbstractLocalDatabaseTest;
+import util.infra.EnableH2MemTestInfra;
+import util.infra.EnablePostgreSQLTestInfra;
+import util.infra.EnableSQLiteTestInfra;
+
+public class UnreferencedAttachmentsPurgeTest {
+
+    @Nested
+    @EnableH2MemTestInfra
+    class H2 extends AllTests {
+    }
+
+    @Nested
+    @EnableSQLiteTestInfra
+    class SQLite extends AllTests {
+    }
+
+    @Nested
+    @EnablePostgreSQLTestInfra
+    class PostreSQL extends AllTests {
+    }
+
+    abstract class AllTests extends AbstractLocalDatabaseTest {
+        @Autowired
+        private ScenarioExecutionReportJpaRepository scenarioExecutionReportJpaRepository;
+        @Autowired
+        private ScenarioExecutionStepReportJpaRepository scenarioExecutionStepReportJpaRepository;
+        @Autowired
+        private PlatformTransactionManager transactionManager;
+
+        @TempDir
+        private Path configurationFolder;
+
+        @AfterEach
+        void afterEach() {
+            clearTables();
+        }
+
+        @Test
+        void deletes_attachments_referenced_by_no_report() throws IOException {
+            // Given
+            FileSystemAttachmentRepository attachmentRepository = new FileSystemAttachmentRepository(configurationFolder.toString());
+            String referencedByReport = savedBeforeGracePeriod(attachmentRepository, "report screenshot");
+            String referencedByStepReport = savedBeforeGracePeriod(attachmentRepository, "step screenshot");
+            String unreferenced = savedBeforeGracePeriod(attachmentRepository, "purged screenshot");
+            String recent = attachmentRepository.save("running screenshot".getBytes(UTF_8));
+
+            String scenarioId = givenScenario().getId().toString();
+            ScenarioExecutionEntity execution = givenScenarioExecution(Long.valueOf(scenarioId), SUCCESS);
+            transactionTemplate.executeWithoutResult(status ->
+                entityManager.persist(new ScenarioExecutionReportEntity(entityManager.merge(execution), reportReferencing(referencedByReport), ReportCodec.DEFLATE))
+            );
+            scenarioExecutionStepReportJpaRepository.save(new ScenarioExecutionStepReportEntity(execution.id(), "0", 0, reportReferencing(referencedByStepReport)));
+
+            UnreferencedAttachmentsPurge sut = new UnreferencedAttachmentsPurge(scenarioExecutionReportJpaRepository, scenarioExecutionStepReportJpaRepository, attachmentRepository, transactionManager);
+
+            // When
+            int deleted = sut.purge();
+
+            // Then
+            assertThat(deleted).isEqualTo(1);
+            assertThatThrownBy(() -> attachmentRepository.read(unreferenced)).isInstanceOf(AttachmentNotFoundException.class);
+            for (String kept : List.of(referencedByReport, referencedByStepReport, recent)) {
+                try (InputStream content = attachmentRepository.read(kept)) {
+                    assertThat(content).isNotEmpty();
+                }
+            }
+        }
+
+        private String savedBeforeGracePeriod(FileSystemAttachmentRepository attachmentRepository, String content) throws IOException {
+            String id = attachmentRepository.save(content.getBytes(UTF_8));
+            Path file = configurationFolder.resolve(FileSystemAttachmentRepository.ROOT_DIRECTORY_NAME).resolve(id.substring(0, 2)).resolve(id);
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(UnreferencedAttachmentsPurge.GRACE_PERIOD).minus(1, MINUTES)));
+            return id;
+        }
+
+        private String reportReferencing(String attachmentId) {
+            return "{\"name\":\"step\",\"information\":[\"attachment:image/png;sha256," + attachmentId + "\"]}";
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.execution.infra.storage.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class ReportCodecTest {
+
+    private static final String REPORT = "{\"executionId\":1,\"report\":{\"name\":\"步骤 éàü\",\"steps\":[]}}".repeat(50);
+
+    @Test
+    void deflate_encoded_report_is_decoded() {
+        byte[] data = ReportCodec.DEFLATE.encode(REPORT);
+
+        assertThat(data[0]).isEqualTo((byte) 1);
+        assertThat(data.length).isLessThan(REPORT.length());
+        assertThat(ReportCodec.decode(data)).isEqualTo(REPORT);
+    }
+
+    @Test
+    void none_encoded_report_is_decoded() {
+        byte[] data = ReportCodec.NONE.encode(REPORT);
+
+        assertThat(data[0]).isEqualTo((byte) 0);
+        assertThat(ReportCodec.decode(data)).isEqualTo(REPORT);
+    }
+
+    @Test
+    void unknown_codec_version_is_rejected() {
+        assertThatThrownBy(() -> ReportCodec.decode(new byte[]{42, 0}))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void codec_is_configured_by_name() {
+        assertThat(ReportCodec.fromConfiguration(" deflate ")).isEqualTo(ReportCodec.DEFLATE);
+        assertThat(ReportCodec.fromConfiguration("none").encodes()).isFalse();
+    }
+}
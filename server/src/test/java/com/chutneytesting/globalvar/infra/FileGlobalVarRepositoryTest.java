@@ -17,8 +17,10 @@
 package com.chutneytesting.globalvar.infra;
 
 import static com.chutneytesting.globalvar.infra.FileGlobalVarRepository.ROOT_DIRECTORY_NAME;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
+import static org.awaitility.Awaitility.await;
 
 import com.chutneytesting.tools.ThrowingConsumer;
 import java.io.IOException;
@@ -42,6 +44,7 @@ public class FileGlobalVarRepositoryTest {
 
     @AfterEach
     public void tearDown() throws IOException {
+        sut.stopWatchingFiles();
         Files.walk(Paths.get(STORE_PATH + "/" + ROOT_DIRECTORY_NAME))
             .filter(Files::isRegularFile)
             .forEach(ThrowingConsumer.toUnchecked(Files::delete));
@@ -191,4 +194,66 @@ public class FileGlobalVarRepositoryTest {
             ROOT_DIRECTORY_NAME.resolve("another_file.hjson").toString()
         );
     }
+
+    @Test
+    public void should_refresh_flat_keys_when_files_are_saved_or_deleted() {
+        // G
+        sut.saveFile(FILE_NAME, "{key: \"value\"}");
+        assertThat(sut.getFlatMap()).containsOnly(entry("key", "value"));
+
+        // W
+        sut.saveFile(FILE_NAME, "{key: \"new value\"}");
+        sut.saveFile("another_file", "{anotherKey: \"another value\"}");
+
+        // T
+        assertThat(sut.getFlatMap()).containsOnly(entry("key", "new value"), entry("anotherKey", "another value"));
+
+        // W
+        sut.deleteFile(FILE_NAME);
+
+        // T
+        assertThat(sut.getFlatMap()).containsOnly(entry("anotherKey", "another value"));
+    }
+
+    @Test
+    public void should_refresh_flat_keys_when_files_are_modified_on_disk() throws IOException {
+        // G
+        sut.watchFiles();
+        sut.saveFile(FILE_NAME, "{key: \"value\"}");
+        assertThat(sut.getFlatMap()).containsOnly(entry("key", "value"));
+
+        // W
+        Files.writeString(Paths.get(STORE_PATH, ROOT_DIRECTORY_NAME.toString(), "another_file.hjson"), "{anotherKey: \"another value\"}");
+
+        // T
+        await().atMost(15, SECONDS).untilAsserted(() ->
+            assertThat(sut.getFlatMap()).containsOnly(entry("key", "value"), entry("anotherKey", "another value"))
+        );
+    }
+
+    @Test
+    public void should_not_keep_flat_keys_read_while_files_changed() {
+        // G
+        FileGlobalVarRepository concurrentlyModifiedRepository = new FileGlobalVarRepository(STORE_PATH) {
+            private boolean firstRead = true;
+
+            @Override
+            public Map<Path, String> get() {
+                Map<Path, String> fileContents = super.get();
+                if (firstRead) {
+                    firstRead = false;
+                    saveFile("another_file", "{anotherKey: \"another value\"}");
+                }
+                return fileContents;
+            }
+        };
+        concurrentlyModifiedRepository.saveFile(FILE_NAME, "{key: \"value\"}");
+
+        // W
+        Map<String, String> flatMapReadWhileModified = concurrentlyModifiedRepository.getFlatMap();
+
+        // T
+        assertThat(flatMapReadWhileModified).containsOnly(entry("key", "value"));
+        assertThat(concurrentlyModifiedRepository.getFlatMap()).containsOnly(entry("key", "value"), entry("anotherKey", "another value"));
+    }
 }
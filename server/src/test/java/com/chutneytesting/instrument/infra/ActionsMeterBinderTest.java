@@ -0,0 +1,36 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.chutneytesting.instrument.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class ActionsMeterBinderTest {
+
+    @Test
+    void should_bind_meters_declared_by_actions() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        new ActionsMeterBinder().bindTo(registry);
+
+        assertThat(registry.find("groovy_script_cache_size").gauge()).isNotNull();
+        assertThat(registry.find("groovy_script_cache_hit_rate").gauge()).isNotNull();
+    }
+}
@@ -70,6 +70,7 @@ public abstract class AbstractLocalDatabaseTest {
 
     protected void clearTables() {
         JdbcTemplate jdbcTemplate = namedParameterJdbcTemplate.getJdbcTemplate();
+        jdbcTemplate.execute("DELETE FROM SCENARIO_EXECUTIONS_STEPS_REPORTS");
         jdbcTemplate.execute("DELETE FROM CAMPAIGN_EXECUTIONS");
         jdbcTemplate.execute("DELETE FROM SCENARIO_EXECUTIONS");
         jdbcTemplate.execute("DELETE FROM CAMPAIGN_SCENARIOS");
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.tools;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Map successive versions of an immutable tree, reusing the mapping of the nodes which did not change.<br>
+ * A node is considered unchanged when the same instance is found in the previous mapped version,
+ * so this is only useful when successive versions share their unchanged branches.<br>
+ * Only the last mapped version is retained.
+ *
+ * @param <S> source node type
+ * @param <T> target node type
+ */
+public class IncrementalTreeMapper<S, T> {
+
+    private final BiFunction<S, Function<S, T>, T> nodeMapper;
+    private final Function<S, List<S>> sourceChildren;
+    private final Function<T, List<T>> targetChildren;
+
+    private Map<S, T> previousMapping = new IdentityHashMap<>();
+
+    /**
+     * @param nodeMapper     maps a node given the function to use for its children
+     * @param sourceChildren children of a source node
+     * @param targetChildren children of a target node, in the same order as the source ones
+     */
+    public IncrementalTreeMapper(BiFunction<S, Function<S, T>, T> nodeMapper, Function<S, List<S>> sourceChildren, Function<T, List<T>> targetChildren) {
+        this.nodeMapper = nodeMapper;
+        this.sourceChildren = sourceChildren;
+        this.targetChildren = targetChildren;
+    }
+
+    public synchronized T map(S root) {
+        Map<S, T> currentMapping = new IdentityHashMap<>(previousMapping.size());
+        T mappedRoot = map(root, currentMapping);
+        previousMapping = currentMapping;
+        return mappedRoot;
+    }
+
+    private T map(S node, Map<S, T> currentMapping) {
+        T mapped = previousMapping.get(node);
+        if (mapped == null) {
+            mapped = nodeMapper.apply(node, child -> map(child, currentMapping));
+            currentMapping.put(node, mapped);
+        } else {
+            retain(node, mapped, currentMapping);
+        }
+        return mapped;
+    }
+
+    private void retain(S node, T mapped, Map<S, T> currentMapping) {
+        currentMapping.put(node, mapped);
+        List<S> children = sourceChildren.apply(node);
+        List<T> mappedChildren = targetChildren.apply(mapped);
+        if (children != null && mappedChildren != null) {
+            for (int i = 0; i < Math.min(children.size(), mappedChildren.size()); i++) {
+                retain(children.get(i), mappedChildren.get(i), currentMapping);
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.tools.file;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Notifies listeners when files are created, modified or deleted in a folder.<br>
+ * All folders are watched by a single {@link WatchService} and thread, since operating systems limit their number.
+ */
+public final class FolderWatcher {
+
+    private static final FolderWatcher INSTANCE = new FolderWatcher();
+
+    private final Map<WatchKey, List<Runnable>> listeners = new ConcurrentHashMap<>();
+    private WatchService watchService;
+
+    private FolderWatcher() {
+    }
+
+    /**
+     * @param folder   to watch, not recursively
+     * @param listener called on the watcher thread after changes in the folder
+     * @return the registration to close when changes are no longer listened to
+     */
+    public static Registration watch(Path folder, Runnable listener) throws UncheckedIOException {
+        return INSTANCE.register(folder, listener);
+    }
+
+    private synchronized Registration register(Path folder, Runnable listener) {
+        try {
+            if (watchService == null) {
+                watchService = FileSystems.getDefault().newWatchService();
+                Thread watcher = new Thread(this::dispatchEvents, "folder-watcher");
+                watcher.setDaemon(true);
+                watcher.start();
+            }
+            WatchKey key = folder.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+            listeners.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(listener);
+            return () -> unregister(key, listener);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot watch folder: " + folder, e);
+        }
+    }
+
+    private synchronized void unregister(WatchKey key, Runnable listener) {
+        List<Runnable> keyListeners = listeners.get(key);
+        if (keyListeners != null && keyListeners.remove(listener) && keyListeners.isEmpty()) {
+            listeners.remove(key);
+            key.cancel();
+        }
+    }
+
+    private void dispatchEvents() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                key.pollEvents();
+                listeners.getOrDefault(key, List.of()).forEach(this::notifyListener);
+                if (!key.reset()) {
+                    listeners.remove(key);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void notifyListener(Runnable listener) {
+        try {
+            listener.run();
+        } catch (RuntimeException e) {
+            // A failing listener must not stop the notification of others
+        }
+    }
+
+    public interface Registration extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2017-2023 Enedis
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.chutneytesting.tools.file;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.chutneytesting.tools.file.FolderWatcher.Registration;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FolderWatcherTest {
+
+    @Test
+    void should_notify_all_listeners_of_a_folder(@TempDir Path tmpDir) throws IOException {
+        AtomicInteger firstChanges = new AtomicInteger();
+        AtomicInteger secondChanges = new AtomicInteger();
+
+        try (Registration ignored = FolderWatcher.watch(tmpDir, firstChanges::incrementAndGet);
+             Registration ignored2 = FolderWatcher.watch(tmpDir, secondChanges::incrementAndGet)) {
+            Files.writeString(tmpDir.resolve("file.json"), "{}");
+
+            await().atMost(15, SECONDS).untilAsserted(() -> {
+                assertThat(firstChanges).hasPositiveValue();
+                assertThat(secondChanges).hasPositiveValue();
+            });
+        }
+    }
+
+    @Test
+    void should_stop_notifying_closed_registration(@TempDir Path tmpDir) throws IOException {
+        AtomicInteger closedChanges = new AtomicInteger();
+        AtomicInteger openChanges = new AtomicInteger();
+
+        FolderWatcher.watch(tmpDir, closedChanges::incrementAndGet).close();
+        try (Registration ignored = FolderWatcher.watch(tmpDir, openChanges::incrementAndGet)) {
+            Files.writeString(tmpDir.resolve("file.json"), "{}");
+
+            await().atMost(15, SECONDS).untilAsserted(() -> assertThat(openChanges).hasPositiveValue());
+            assertThat(closedChanges).hasValue(0);
+        }
+    }
+}
@@ -49,6 +49,13 @@ export class PrettyPrintPipe implements PipeTransform {
             }
             return JSON.stringify(json, null, '  ');
         } catch (error) {
+            const attachment = content.match(/^attachment:([\w.+-]+)\/[\w.+-]+;sha256,([0-9a-f]{64})$/);
+            if (attachment) {
+                const url = '/api/ui/attachment/v1/' + attachment[2];
+                return attachment[1] === 'image'
+                    ? '<img src="' + url + '" />'
+                    : '<a href="' + url + '" >download information data</a>';
+            }
             if (content.startsWith('data:image')) {
                 return '<img src="' + content + '" />';
             }